@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.bytes.BytesBase64;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.bytes.Sha256DigestOf;
+import org.cactoos.io.InputOf;
+import org.cactoos.text.HexOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@link org.cactoos.Bytes} encoders and digests.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BytesBenchmark {
+
+    /**
+     * Number of bytes.
+     */
+    @Param({"64", "4096", "262144"})
+    public int size;
+
+    /**
+     * The content.
+     */
+    private byte[] content;
+
+    /**
+     * Prepare the content.
+     */
+    @Setup
+    public void setup() {
+        this.content = new byte[this.size];
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.content[idx] = (byte) idx;
+        }
+    }
+
+    /**
+     * Bytes of a byte array.
+     * @return The bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] bytesOf() throws Exception {
+        return new BytesOf(this.content).asBytes();
+    }
+
+    /**
+     * Hex representation of the bytes.
+     * @return The hex
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String hex() throws Exception {
+        return new HexOf(new BytesOf(this.content)).asString();
+    }
+
+    /**
+     * Base64 representation of the bytes.
+     * @return The bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] encoded() throws Exception {
+        return new BytesBase64(new BytesOf(this.content)).asBytes();
+    }
+
+    /**
+     * SHA-256 digest of the bytes.
+     * @return The digest
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] digest() throws Exception {
+        return new Sha256DigestOf(new InputOf(this.content)).asBytes();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.GzipInput;
+import org.cactoos.io.GzipOutput;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.OutputTo;
+import org.cactoos.io.TeeInput;
+import org.cactoos.scalar.LengthOf;
+import org.cactoos.text.TextOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for reading {@link org.cactoos.Input} through
+ * {@link InputOf}, {@link TeeInput} and {@link GzipInput}.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InputBenchmark {
+
+    /**
+     * Number of bytes.
+     */
+    @Param({"1024", "65536", "1048576"})
+    public int size;
+
+    /**
+     * The content.
+     */
+    private byte[] content;
+
+    /**
+     * The gzipped content.
+     */
+    private byte[] gzipped;
+
+    /**
+     * Prepare the content.
+     * @throws Exception If fails
+     */
+    @Setup
+    public void setup() throws Exception {
+        this.content = new byte[this.size];
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.content[idx] = (byte) ('a' + idx % 26);
+        }
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new LengthOf(
+            new TeeInput(
+                new InputOf(this.content),
+                new GzipOutput(new OutputTo(baos))
+            )
+        ).value();
+        this.gzipped = baos.toByteArray();
+    }
+
+    /**
+     * Read all bytes of the input.
+     * @return The bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] inputAsBytes() throws Exception {
+        return new BytesOf(new InputOf(this.content)).asBytes();
+    }
+
+    /**
+     * Read the input as text.
+     * @return The text
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String inputAsText() throws Exception {
+        return new TextOf(new InputOf(this.content)).asString();
+    }
+
+    /**
+     * Copy the input to an output.
+     * @return Number of bytes copied
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public long teeInput() throws Exception {
+        return new LengthOf(
+            new TeeInput(
+                new InputOf(this.content),
+                new OutputTo(new ByteArrayOutputStream())
+            )
+        ).value();
+    }
+
+    /**
+     * Read the gzipped input.
+     * @return The bytes
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public byte[] gzipInput() throws Exception {
+        return new BytesOf(new GzipInput(new InputOf(this.gzipped))).asBytes();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.iterable.Filtered;
+import org.cactoos.iterable.Joined;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.Sorted;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for iterable decorators, like {@link Mapped} and
+ * {@link Filtered}.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IterableBenchmark {
+
+    /**
+     * Number of items.
+     */
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    /**
+     * The items.
+     */
+    private List<Integer> items;
+
+    /**
+     * Prepare the items.
+     */
+    @Setup
+    public void setup() {
+        this.items = new ArrayList<>(this.size);
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.items.add(idx);
+        }
+    }
+
+    /**
+     * Iterate {@link Mapped}.
+     * @return Sum of items
+     */
+    @Benchmark
+    public long mapped() {
+        long sum = 0L;
+        for (final Integer item : new Mapped<>(x -> x + 1, this.items)) {
+            sum += item;
+        }
+        return sum;
+    }
+
+    /**
+     * Iterate {@link Filtered}.
+     * @return Sum of items
+     */
+    @Benchmark
+    public long filtered() {
+        long sum = 0L;
+        for (final Integer item : new Filtered<>(x -> x % 2 == 0, this.items)) {
+            sum += item;
+        }
+        return sum;
+    }
+
+    /**
+     * Iterate {@link Joined}.
+     * @return Sum of items
+     */
+    @Benchmark
+    public long joined() {
+        long sum = 0L;
+        for (final Integer item : new Joined<Integer>(this.items, this.items)) {
+            sum += item;
+        }
+        return sum;
+    }
+
+    /**
+     * Iterate {@link Sorted}.
+     * @return Sum of items
+     */
+    @Benchmark
+    public long sorted() {
+        long sum = 0L;
+        for (final Integer item : new Sorted<>(this.items)) {
+            sum += item;
+        }
+        return sum;
+    }
+}
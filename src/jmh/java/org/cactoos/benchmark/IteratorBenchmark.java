@@ -0,0 +1,109 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.benchmark;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.iterator.Filtered;
+import org.cactoos.iterator.Mapped;
+import org.cactoos.iterator.Sorted;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for iterator decorators, like {@link Mapped} and
+ * {@link Filtered}.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IteratorBenchmark {
+
+    /**
+     * Number of items.
+     */
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    /**
+     * The items.
+     */
+    private List<Integer> items;
+
+    /**
+     * Prepare the items.
+     */
+    @Setup
+    public void setup() {
+        this.items = new ArrayList<>(this.size);
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.items.add(idx);
+        }
+    }
+
+    /**
+     * Iterate {@link Mapped}.
+     * @return Sum of items
+     */
+    @Benchmark
+    public long mapped() {
+        final Iterator<Integer> iterator = new Mapped<>(
+            x -> x + 1, this.items.iterator()
+        );
+        long sum = 0L;
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        return sum;
+    }
+
+    /**
+     * Iterate {@link Filtered}.
+     * @return Sum of items
+     */
+    @Benchmark
+    public long filtered() {
+        final Iterator<Integer> iterator = new Filtered<>(
+            x -> x % 2 == 0, this.items.iterator()
+        );
+        long sum = 0L;
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        return sum;
+    }
+
+    /**
+     * Iterate {@link Sorted}.
+     * @return Sum of items
+     */
+    @Benchmark
+    public long sorted() {
+        final Iterator<Integer> iterator = new Sorted<>(this.items.iterator());
+        long sum = 0L;
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        return sum;
+    }
+}
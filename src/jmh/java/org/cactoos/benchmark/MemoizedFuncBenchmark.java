@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.cactoos.func.SolidFunc;
+import org.cactoos.func.StickyBiFunc;
+import org.cactoos.func.StickyFunc;
+import org.cactoos.map.TinyLfu;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for memoizing functions, like {@link StickyFunc} and
+ * {@link SolidFunc}.
+ *
+ * <p>Keys are requested in a round-robin manner from a key space
+ * of the given size, while the cache holds up to {@code max} entries.
+ * When the key space is larger than the cache, the benchmark
+ * measures the eviction path.</p>
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemoizedFuncBenchmark {
+
+    /**
+     * Number of distinct keys requested.
+     */
+    @Param({"16", "4096"})
+    public int keys;
+
+    /**
+     * Maximum size of the cache.
+     */
+    @Param("1024")
+    public int max;
+
+    /**
+     * Sticky func.
+     */
+    private Func<Integer, Integer> sticky;
+
+    /**
+     * Sticky func with TinyLFU admission.
+     */
+    private Func<Integer, Integer> tiny;
+
+    /**
+     * Solid func.
+     */
+    private Func<Integer, Integer> solid;
+
+    /**
+     * Sticky bi-func.
+     */
+    private StickyBiFunc<Integer, Integer, Integer> bisticky;
+
+    /**
+     * Current key.
+     */
+    private int key;
+
+    /**
+     * Prepare the functions.
+     */
+    @Setup
+    public void setup() {
+        this.sticky = new StickyFunc<>(x -> x * 2, this.max);
+        this.tiny = new StickyFunc<>(x -> x * 2, new TinyLfu<>(this.max));
+        this.solid = new SolidFunc<>(x -> x * 2, this.max);
+        this.bisticky = new StickyBiFunc<>((x, y) -> x * y, this.max);
+    }
+
+    /**
+     * Call {@link StickyFunc}.
+     * @return The result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer stickyFunc() throws Exception {
+        return this.sticky.apply(this.next());
+    }
+
+    /**
+     * Call {@link StickyFunc} with {@link TinyLfu} storage.
+     * @return The result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer stickyTinyLfu() throws Exception {
+        return this.tiny.apply(this.next());
+    }
+
+    /**
+     * Call {@link StickyBiFunc}.
+     * @return The result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer stickyBiFunc() throws Exception {
+        return this.bisticky.apply(this.next(), 2);
+    }
+
+    /**
+     * Call {@link SolidFunc}.
+     * @return The result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer solidFunc() throws Exception {
+        return this.solid.apply(this.next());
+    }
+
+    /**
+     * Next key to request.
+     * @return The key
+     */
+    private int next() {
+        this.key = (this.key + 1) % this.keys;
+        return this.key;
+    }
+}
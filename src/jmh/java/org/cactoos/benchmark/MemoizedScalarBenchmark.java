@@ -0,0 +1,132 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.benchmark;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.StickyFunc;
+import org.cactoos.scalar.Solid;
+import org.cactoos.scalar.Sticky;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for caching scalars, like {@link Sticky} and {@link Solid}.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemoizedScalarBenchmark {
+
+    /**
+     * Value of the scalars.
+     */
+    private Integer value;
+
+    /**
+     * Sticky scalar.
+     */
+    private Sticky<Integer> cached;
+
+    /**
+     * Solid scalar.
+     */
+    private Solid<Integer> synced;
+
+    /**
+     * Sticky func with one input, the way {@link Sticky} used to work.
+     */
+    private Func<Boolean, Integer> legacy;
+
+    /**
+     * Prepare the scalars.
+     */
+    @Setup
+    public void setup() {
+        this.value = 42;
+        this.cached = new Sticky<>(() -> this.value);
+        this.synced = new Solid<>(() -> this.value);
+        this.legacy = MemoizedScalarBenchmark.memo(() -> this.value);
+    }
+
+    /**
+     * Read {@link Sticky}.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer sticky() throws Exception {
+        return this.cached.value();
+    }
+
+    /**
+     * Read {@link Solid}.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer solid() throws Exception {
+        return this.synced.value();
+    }
+
+    /**
+     * Build and read {@link Sticky} once, which is how it is
+     * mostly used inside the library.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer stickyOnce() throws Exception {
+        return new Sticky<>(() -> this.value).value();
+    }
+
+    /**
+     * Read a sticky func with one input, which is how {@link Sticky}
+     * worked before it got a single slot.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer stickyBefore() throws Exception {
+        return this.legacy.apply(true);
+    }
+
+    /**
+     * Build and read a sticky func with one input once, which is how
+     * {@link Sticky} worked before it got a single slot.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer stickyOnceBefore() throws Exception {
+        return MemoizedScalarBenchmark.memo(() -> this.value).apply(true);
+    }
+
+    /**
+     * Sticky func with one input.
+     * @param scalar The scalar to cache
+     * @return The func
+     */
+    private static Func<Boolean, Integer> memo(
+        final Scalar<Integer> scalar) {
+        return new StickyFunc<>(input -> scalar.value(), new HashMap<>(1));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.cactoos.func.SolidFunc;
+import org.cactoos.func.StickyFunc;
+import org.cactoos.func.SyncFunc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link SolidFunc} against a globally synchronized
+ * {@link StickyFunc}, which is how {@link SolidFunc} used to work.
+ *
+ * <p>Run it with a different number of threads in order to see
+ * how it scales, for example:
+ * {@code -Djmh.args="-t 1 SolidFuncBenchmark"} and then
+ * {@code -Djmh.args="-t 8 SolidFuncBenchmark"}.</p>
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SolidFuncBenchmark {
+
+    /**
+     * Number of distinct keys requested.
+     */
+    @Param({"64", "65536"})
+    public int keys;
+
+    /**
+     * Lock-free solid func.
+     */
+    private Func<Integer, Integer> lockfree;
+
+    /**
+     * Synchronized sticky func.
+     */
+    private Func<Integer, Integer> locked;
+
+    /**
+     * Prepare the functions.
+     */
+    @Setup
+    public void setup() {
+        this.lockfree = new SolidFunc<>(x -> x * 2);
+        this.locked = new SyncFunc<>(new StickyFunc<>(x -> x * 2));
+    }
+
+    /**
+     * Call {@link SolidFunc}.
+     * @return The result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer solid() throws Exception {
+        return this.lockfree.apply(this.key());
+    }
+
+    /**
+     * Call {@link SyncFunc} around {@link StickyFunc}.
+     * @return The result
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer synced() throws Exception {
+        return this.locked.apply(this.key());
+    }
+
+    /**
+     * Random key to request.
+     * @return The key
+     */
+    private int key() {
+        return ThreadLocalRandom.current().nextInt(this.keys);
+    }
+}
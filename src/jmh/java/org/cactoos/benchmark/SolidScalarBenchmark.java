@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Solid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for reading {@link Solid} from many threads at once.
+ *
+ * <p>Reads of a calculated value must not contend, even when
+ * the value is NULL. The {@code before} methods read the double-checked
+ * locking, which {@link Solid} used to have, and which recalculated
+ * NULL under the lock on every read.</p>
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class SolidScalarBenchmark {
+
+    /**
+     * Solid scalar with a value.
+     */
+    private Scalar<Integer> value;
+
+    /**
+     * Solid scalar with NULL.
+     */
+    private Scalar<Integer> empty;
+
+    /**
+     * Double-checked scalar with a value.
+     */
+    private Scalar<Integer> checked;
+
+    /**
+     * Double-checked scalar with NULL.
+     */
+    private Scalar<Integer> unchecked;
+
+    /**
+     * Prepare the scalars.
+     */
+    @Setup
+    public void setup() {
+        this.value = new Solid<>(() -> 42);
+        this.empty = new Solid<>(() -> null);
+        this.checked = new SolidScalarBenchmark.DoubleChecked<>(() -> 42);
+        this.unchecked = new SolidScalarBenchmark.DoubleChecked<>(() -> null);
+    }
+
+    /**
+     * Read {@link Solid} with a value.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer solid() throws Exception {
+        return this.value.value();
+    }
+
+    /**
+     * Read {@link Solid} with NULL.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer solidNull() throws Exception {
+        return this.empty.value();
+    }
+
+    /**
+     * Read the double-checked scalar with a value.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer solidBefore() throws Exception {
+        return this.checked.value();
+    }
+
+    /**
+     * Read the double-checked scalar with NULL.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public Integer solidNullBefore() throws Exception {
+        return this.unchecked.value();
+    }
+
+    /**
+     * Double-checked locking on NULL, the way {@link Solid} used to work.
+     *
+     * @param <T> Type of result
+     * @since 1.0
+     */
+    private static final class DoubleChecked<T> implements Scalar<T> {
+
+        /**
+         * Origin.
+         */
+        private final Scalar<? extends T> origin;
+
+        /**
+         * Cache.
+         */
+        private volatile T cache;
+
+        /**
+         * Sync lock.
+         */
+        private final Object lock;
+
+        /**
+         * Ctor.
+         * @param origin The Scalar to cache and sync
+         */
+        DoubleChecked(final Scalar<? extends T> origin) {
+            this.origin = origin;
+            this.lock = new Object();
+        }
+
+        @Override
+        public T value() throws Exception {
+            if (this.cache == null) {
+                synchronized (this.lock) {
+                    if (this.cache == null) {
+                        this.cache = this.origin.value();
+                    }
+                }
+            }
+            return this.cache;
+        }
+    }
+}
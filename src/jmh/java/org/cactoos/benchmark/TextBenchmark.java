@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.cactoos.text.Joined;
+import org.cactoos.text.Replaced;
+import org.cactoos.text.TextOf;
+import org.cactoos.text.Upper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for {@link TextOf} and the most used {@link org.cactoos.Text}
+ * decorators.
+ *
+ * @since 1.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextBenchmark {
+
+    /**
+     * Length of the text.
+     */
+    @Param({"16", "1024", "65536"})
+    public int length;
+
+    /**
+     * The string to work with.
+     */
+    private String string;
+
+    /**
+     * Prepare the string.
+     */
+    @Setup
+    public void setup() {
+        final StringBuilder buf = new StringBuilder(this.length);
+        for (int idx = 0; idx < this.length; ++idx) {
+            buf.append((char) ('a' + idx % 26));
+        }
+        this.string = buf.toString();
+    }
+
+    /**
+     * Text made of a string.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String textOf() throws Exception {
+        return new TextOf(this.string).asString();
+    }
+
+    /**
+     * Text made of bytes.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String textOfBytes() throws Exception {
+        return new TextOf(this.string.getBytes()).asString();
+    }
+
+    /**
+     * Upper-cased text.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String upper() throws Exception {
+        return new Upper(new TextOf(this.string)).asString();
+    }
+
+    /**
+     * Replaced text.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String replaced() throws Exception {
+        return new Replaced(new TextOf(this.string), "abc", "xyz").asString();
+    }
+
+    /**
+     * Joined text.
+     * @return The string
+     * @throws Exception If fails
+     */
+    @Benchmark
+    public String joined() throws Exception {
+        return new Joined(", ", this.string, this.string, this.string)
+            .asString();
+    }
+}
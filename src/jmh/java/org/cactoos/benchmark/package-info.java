@@ -0,0 +1,11 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * JMH benchmarks.
+ *
+ * @since 1.0
+ */
+package org.cactoos.benchmark;
@@ -0,0 +1,122 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterator.MappedInThreads;
+import org.cactoos.scalar.ThreadPerTask;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Results of the tasks executed concurrently, in the order of completion.
+ *
+ * <p>Unlike {@link Threads}, it doesn't wait for all tasks to finish:
+ * the first result is available as soon as any task is done. Tasks are
+ * submitted lazily, no more than {@code window} of them are running or
+ * waiting to be consumed at any moment, so a long list of tasks doesn't
+ * take a lot of memory:</p>
+ *
+ * <pre>{@code
+ * for (final Page page : new Completed<>(8, downloads)) {
+ *     index.add(page);
+ * }
+ * }</pre>
+ *
+ * <p>As soon as one task fails, the others are cancelled, no more tasks
+ * are submitted and the exception of the task is thrown from
+ * {@link java.util.Iterator#next()}: as is, if it's unchecked, or
+ * wrapped into {@link java.io.UncheckedIOException} otherwise. If the
+ * iteration stops earlier, the tasks which are still running are not
+ * cancelled. The {@code window} must be at least one, otherwise the
+ * constructor throws {@link IllegalArgumentException}.</p>
+ *
+ * <p>Each call to {@link #iterator()} executes the tasks again.</p>
+ *
+ * @param <T> The type of task result item
+ * @since 1.0
+ */
+public final class Completed<T> extends IterableEnvelope<T> {
+
+    /**
+     * Ctor.
+     * @param window Maximum number of tasks in flight
+     * @param tasks The tasks to be executed concurrently
+     */
+    @SafeVarargs
+    public Completed(final int window, final Scalar<? extends T>... tasks) {
+        this(window, new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param window Maximum number of tasks in flight
+     * @param tasks The tasks to be executed concurrently
+     */
+    public Completed(final int window,
+        final Iterable<? extends Scalar<? extends T>> tasks) {
+        this(new ThreadPerTask().value(), window, tasks);
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor, it is not shut down
+     * @param window Maximum number of tasks in flight
+     * @param tasks The tasks to be executed concurrently
+     */
+    @SafeVarargs
+    public Completed(final ExecutorService exc, final int window,
+        final Scalar<? extends T>... tasks) {
+        this(exc, window, new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor, it is not shut down
+     * @param window Maximum number of tasks in flight
+     * @param tasks The tasks to be executed concurrently
+     */
+    public Completed(final ExecutorService exc, final int window,
+        final Iterable<? extends Scalar<? extends T>> tasks) {
+        super(Completed.completed(exc, Completed.positive(window), tasks));
+    }
+
+    /**
+     * Results of the tasks, in the order of completion.
+     * @param exc The executor
+     * @param window Maximum number of tasks in flight
+     * @param tasks The tasks to be executed concurrently
+     * @param <T> The type of task result item
+     * @return The results
+     */
+    private static <T> Iterable<T> completed(final ExecutorService exc,
+        final int window, final Iterable<? extends Scalar<? extends T>> tasks) {
+        return () -> new MappedInThreads<T>(
+            exc, Scalar::value, tasks.iterator(), window, false
+        );
+    }
+
+    /**
+     * Check the window.
+     * @param window Maximum number of tasks in flight
+     * @return The window
+     */
+    private static int positive(final int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "The number of tasks in flight must be at least 1: %d",
+                        window
+                    )
+                ).asString()
+            );
+        }
+        return window;
+    }
+}
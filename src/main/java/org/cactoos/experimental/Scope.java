@@ -0,0 +1,156 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.CallableOf;
+
+/**
+ * Tasks forked together, which are joined in the order of completion
+ * and cancelled together.
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> The type of task result
+ * @since 1.0
+ */
+final class Scope<T> {
+
+    /**
+     * The completion service.
+     */
+    private final CompletionService<T> service;
+
+    /**
+     * The forked tasks, in the order of submission.
+     */
+    private final List<Future<T>> futures;
+
+    /**
+     * The deadline, in nanoseconds since the start.
+     */
+    private final long deadline;
+
+    /**
+     * The start, in nanoseconds.
+     */
+    private final long start;
+
+    /**
+     * Ctor.
+     * @param exc The executor
+     * @param timeout How long to wait for the tasks
+     */
+    Scope(final ExecutorService exc, final Duration timeout) {
+        this.service = new ExecutorCompletionService<>(exc);
+        this.futures = new ArrayList<>(0);
+        this.deadline = timeout.toNanos();
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Fork the tasks.
+     * @param tasks The tasks
+     * @return Their futures, in the order of submission
+     */
+    public List<Future<T>> fork(
+        final Iterable<? extends Scalar<? extends T>> tasks
+    ) {
+        for (final Scalar<? extends T> task : tasks) {
+            this.futures.add(this.service.submit(new CallableOf<>(task)));
+        }
+        return this.futures;
+    }
+
+    /**
+     * Wait for the next completed task.
+     * @return The task
+     * @throws InterruptedException If the thread is interrupted
+     * @throws TimeoutException If the deadline is exceeded
+     */
+    public Future<T> join() throws InterruptedException, TimeoutException {
+        final Future<T> future = this.service.poll(
+            this.deadline - (System.nanoTime() - this.start),
+            TimeUnit.NANOSECONDS
+        );
+        if (future == null) {
+            throw this.suppressed(
+                new TimeoutException("The deadline of the tasks is exceeded")
+            );
+        }
+        return future;
+    }
+
+    /**
+     * Cancel all tasks, which are still running, without waiting for
+     * them to stop.
+     */
+    public void shutdown() {
+        for (final Future<T> future : this.futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Cause of the failure of the task.
+     * @param error The failure of the task
+     * @return The cause, with failures of other tasks suppressed
+     */
+    public Exception failure(final ExecutionException error) {
+        return this.suppressed(Scope.cause(error));
+    }
+
+    /**
+     * Add failures of the completed tasks to the exception.
+     * @param error The exception
+     * @param <E> Type of the exception
+     * @return The same exception
+     */
+    private <E extends Exception> E suppressed(final E error) {
+        for (final Future<T> future : this.futures) {
+            if (future.isDone() && !future.isCancelled()) {
+                try {
+                    future.get();
+                } catch (final ExecutionException ex) {
+                    if (!ex.getCause().equals(error)) {
+                        error.addSuppressed(ex.getCause());
+                    }
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        return error;
+    }
+
+    /**
+     * The original exception of the task.
+     * @param error The failure of the task
+     * @return The exception to throw
+     */
+    private static Exception cause(final ExecutionException error) {
+        final Throwable cause = error.getCause();
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        final Exception result;
+        if (cause instanceof Exception) {
+            result = (Exception) cause;
+        } else {
+            result = error;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.ThreadPerTask;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Results of all tasks, executed concurrently, which all must succeed.
+ *
+ * <p>It is modelled after the structured concurrency of Java: the
+ * tasks are forked together and the remaining ones are cancelled when
+ * the iteration ends. As soon as one of them fails, the others are
+ * cancelled and the failure is thrown, with failures of other tasks
+ * suppressed in it. When the deadline is exceeded or the waiting thread
+ * is interrupted, all tasks are cancelled too. Cancelled tasks are
+ * interrupted, but nobody waits for them to stop, so a task, which
+ * ignores the interruption, may still run after that:</p>
+ *
+ * <pre>{@code
+ * final Iterable<Price> prices = new ShutdownOnFailure<>(
+ *     Duration.ofSeconds(2L),
+ *     () -> first.price(item),
+ *     () -> second.price(item)
+ * );
+ * }</pre>
+ *
+ * <p>Results are in the order of the tasks. Failures are thrown from
+ * {@link #iterator()}, wrapped into {@link java.io.UncheckedIOException},
+ * the same way {@link Threads} does it, while an {@link Error} of a task
+ * is thrown as is. Each call to {@link #iterator()} executes the tasks
+ * again.</p>
+ *
+ * @param <T> The type of task result
+ * @see ShutdownOnSuccess
+ * @since 1.0
+ */
+public final class ShutdownOnFailure<T> extends IterableEnvelope<T> {
+
+    /**
+     * Ctor.
+     * @param tasks The tasks to be executed concurrently
+     */
+    @SafeVarargs
+    public ShutdownOnFailure(final Scalar<? extends T>... tasks) {
+        this(new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param tasks The tasks to be executed concurrently
+     */
+    public ShutdownOnFailure(
+        final Iterable<? extends Scalar<? extends T>> tasks
+    ) {
+        this(Duration.ofNanos(Long.MAX_VALUE), tasks);
+    }
+
+    /**
+     * Ctor.
+     * @param timeout How long to wait for all tasks
+     * @param tasks The tasks to be executed concurrently
+     */
+    @SafeVarargs
+    public ShutdownOnFailure(final Duration timeout,
+        final Scalar<? extends T>... tasks) {
+        this(timeout, new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param timeout How long to wait for all tasks
+     * @param tasks The tasks to be executed concurrently
+     */
+    public ShutdownOnFailure(final Duration timeout,
+        final Iterable<? extends Scalar<? extends T>> tasks) {
+        this(new ThreadPerTask().value(), timeout, tasks);
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor, it is not shut down
+     * @param timeout How long to wait for all tasks
+     * @param tasks The tasks to be executed concurrently
+     */
+    public ShutdownOnFailure(final ExecutorService exc, final Duration timeout,
+        final Iterable<? extends Scalar<? extends T>> tasks) {
+        super(
+            new IterableOf<>(
+                () -> new Unchecked<>(
+                    () -> ShutdownOnFailure.results(
+                        new Scope<>(exc, timeout), tasks
+                    )
+                ).value().iterator()
+            )
+        );
+    }
+
+    /**
+     * Execute the tasks and collect their results.
+     * @param scope The scope
+     * @param tasks The tasks
+     * @param <T> The type of task result
+     * @return Results of all tasks
+     * @throws Exception If any task fails or the thread is interrupted,
+     *  in which case its interrupted status is set again
+     */
+    private static <T> List<T> results(final Scope<T> scope,
+        final Iterable<? extends Scalar<? extends T>> tasks) throws Exception {
+        try {
+            final List<Future<T>> futures = scope.fork(tasks);
+            final int total = futures.size();
+            for (int idx = 0; idx < total; ++idx) {
+                try {
+                    scope.join().get();
+                } catch (final ExecutionException ex) {
+                    scope.shutdown();
+                    throw scope.failure(ex);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw ex;
+                }
+            }
+            final List<T> results = new ArrayList<>(futures.size());
+            for (final Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            scope.shutdown();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.ThreadPerTask;
+
+/**
+ * Result of the first task, executed concurrently with others,
+ * which succeeds.
+ *
+ * <p>It is modelled after the structured concurrency of Java: the
+ * tasks are forked together and the remaining ones are cancelled when
+ * the call ends. As soon as one of them succeeds, the others are
+ * cancelled. If all of them fail, the first failure is thrown, with the
+ * others suppressed in it. When the deadline is exceeded or the waiting
+ * thread is interrupted, all tasks are cancelled too. Cancelled tasks
+ * are interrupted, but nobody waits for them to stop, so a task, which
+ * ignores the interruption, may still run after that:</p>
+ *
+ * <pre>{@code
+ * final Quote quote = new ShutdownOnSuccess<>(
+ *     Duration.ofSeconds(1L),
+ *     () -> primary.quote(item),
+ *     () -> replica.quote(item)
+ * ).value();
+ * }</pre>
+ *
+ * <p>Each call to {@link #value()} executes the tasks again.</p>
+ *
+ * @param <T> The type of task result
+ * @see ShutdownOnFailure
+ * @since 1.0
+ */
+public final class ShutdownOnSuccess<T> implements Scalar<T> {
+
+    /**
+     * The executor.
+     */
+    private final ExecutorService service;
+
+    /**
+     * How long to wait for the first success.
+     */
+    private final Duration timeout;
+
+    /**
+     * The tasks.
+     */
+    private final Iterable<? extends Scalar<? extends T>> tasks;
+
+    /**
+     * Ctor.
+     * @param tasks The tasks to be executed concurrently
+     */
+    @SafeVarargs
+    public ShutdownOnSuccess(final Scalar<? extends T>... tasks) {
+        this(new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param tasks The tasks to be executed concurrently
+     */
+    public ShutdownOnSuccess(
+        final Iterable<? extends Scalar<? extends T>> tasks
+    ) {
+        this(Duration.ofNanos(Long.MAX_VALUE), tasks);
+    }
+
+    /**
+     * Ctor.
+     * @param timeout How long to wait for the first success
+     * @param tasks The tasks to be executed concurrently
+     */
+    @SafeVarargs
+    public ShutdownOnSuccess(final Duration timeout,
+        final Scalar<? extends T>... tasks) {
+        this(timeout, new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param timeout How long to wait for the first success
+     * @param tasks The tasks to be executed concurrently
+     */
+    public ShutdownOnSuccess(final Duration timeout,
+        final Iterable<? extends Scalar<? extends T>> tasks) {
+        this(new ThreadPerTask().value(), timeout, tasks);
+    }
+
+    /**
+     * Ctor.
+     * @param exc The executor, it is not shut down
+     * @param timeout How long to wait for the first success
+     * @param tasks The tasks to be executed concurrently
+     */
+    public ShutdownOnSuccess(final ExecutorService exc, final Duration timeout,
+        final Iterable<? extends Scalar<? extends T>> tasks) {
+        this.service = exc;
+        this.timeout = timeout;
+        this.tasks = tasks;
+    }
+
+    @Override
+    public T value() throws Exception {
+        final Scope<T> scope = new Scope<>(this.service, this.timeout);
+        try {
+            final int total = scope.fork(this.tasks).size();
+            final List<ExecutionException> failures = new ArrayList<>(1);
+            for (int idx = 0; idx < total; ++idx) {
+                try {
+                    return scope.join().get();
+                } catch (final ExecutionException ex) {
+                    failures.add(ex);
+                }
+            }
+            if (failures.isEmpty()) {
+                throw new NoSuchElementException("There are no tasks to run");
+            }
+            throw scope.failure(failures.get(0));
+        } finally {
+            scope.shutdown();
+        }
+    }
+}
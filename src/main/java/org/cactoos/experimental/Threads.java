@@ -18,6 +18,7 @@ import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
 import org.cactoos.list.ListOf;
 import org.cactoos.scalar.CallableOf;
+import org.cactoos.scalar.ThreadPerTask;
 
 /**
  * Allows to execute the tasks concurrently, optionally within given timeout.
@@ -27,6 +28,25 @@ import org.cactoos.scalar.CallableOf;
  */
 public final class Threads<T> extends IterableEnvelope<T> {
 
+    /**
+     * Ctor.
+     * @param tasks The tasks to be executed concurrently, each in a thread
+     *  of {@link ThreadPerTask}.
+     */
+    @SafeVarargs
+    public Threads(final Scalar<? extends T>... tasks) {
+        this(new IterableOf<>(tasks));
+    }
+
+    /**
+     * Ctor.
+     * @param tasks The tasks to be executed concurrently, each in a thread
+     *  of {@link ThreadPerTask}.
+     */
+    public Threads(final Iterable<? extends Scalar<? extends T>> tasks) {
+        this(new ThreadPerTask().value(), tasks);
+    }
+
     /**
      * Ctor.
      * @param exc The executor.
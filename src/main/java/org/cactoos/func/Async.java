@@ -21,6 +21,10 @@ import org.cactoos.Proc;
  *   input -&gt; input.length()
  * ).apply("Hello, world!").get();</pre>
  *
+ * <p>By default every object of this class has an executor of its own,
+ * which is never shut down. Use {@link Completable} to run functions
+ * in a shared executor and compose them without blocking.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of input
@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.cactoos.Func;
+
+/**
+ * Func that collects concurrent calls into batches and makes one bulk
+ * call per batch.
+ *
+ * <p>The caller waits until the batch with its input is dispatched
+ * and the bulk call is finished, see {@link BatchedAsync}. Synchronous
+ * and asynchronous callers may share the same batches:</p>
+ *
+ * <pre>{@code
+ * final BatchedAsync<String, Profile> async = new BatchedAsync<>(
+ *     ids -> backend.profiles(ids), 100, Duration.ofMillis(5)
+ * );
+ * final Func<String, Profile> func = new Batched<>(async);
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class Batched<X, Y> implements Func<X, Y> {
+
+    /**
+     * Asynchronous func.
+     */
+    private final Func<X, ? extends Future<Y>> func;
+
+    /**
+     * Ctor.
+     * @param bulk The bulk func
+     * @param max Maximum number of inputs in a batch
+     * @param linger Maximum wait of the first input of a batch
+     */
+    public Batched(final Func<List<X>, Map<X, Y>> bulk, final int max,
+        final Duration linger) {
+        this(new BatchedAsync<>(bulk, max, linger));
+    }
+
+    /**
+     * Ctor.
+     * @param async Asynchronous func
+     */
+    public Batched(final Func<X, ? extends Future<Y>> async) {
+        this.func = async;
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        try {
+            return this.func.apply(input).get();
+        } catch (final ExecutionException ex) {
+            throw new CauseOf(ex).value();
+        }
+    }
+}
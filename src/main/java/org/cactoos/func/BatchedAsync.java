@@ -0,0 +1,301 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.cactoos.Func;
+import org.cactoos.list.ListOf;
+import org.cactoos.scalar.ThreadPerTask;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Func that collects single calls into batches and makes one bulk
+ * call per batch, in the background.
+ *
+ * <p>A batch is dispatched when it has {@code max} distinct inputs or
+ * when its first input has waited for {@code linger}, whichever happens
+ * first. The bulk func gets the list of inputs and must return a map
+ * with a result for each of them. Equal inputs of the same batch share
+ * the result. If the bulk call fails, all futures of the batch fail
+ * with its exception; if the map has no result for an input,
+ * its future fails with {@link IllegalStateException}:</p>
+ *
+ * <pre>{@code
+ * final Func<String, CompletableFuture<Profile>> func = new BatchedAsync<>(
+ *     ids -> backend.profiles(ids), 100, Duration.ofMillis(5)
+ * );
+ * }</pre>
+ *
+ * <p>Bulk calls run in the shared {@link ThreadPerTask} executor, unless
+ * another one is given. If the timer of a new batch can't be scheduled, the
+ * future fails with {@link RejectedExecutionException}.
+ * Use {@link Batched} to wait for results synchronously.</p>
+ *
+ * <p>NULL inputs are not supported.</p>
+ *
+ * <p>The batch being collected is guarded by a {@link Lock}, which is
+ * held only to add an input, so virtual threads are not pinned.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class BatchedAsync<X, Y> implements Func<X, CompletableFuture<Y>> {
+
+    /**
+     * The bulk func.
+     */
+    private final Func<List<X>, Map<X, Y>> bulk;
+
+    /**
+     * Maximum number of inputs in a batch.
+     */
+    private final int max;
+
+    /**
+     * Maximum wait of the first input of a batch, in nanoseconds.
+     */
+    private final long linger;
+
+    /**
+     * Executor of bulk calls.
+     */
+    private final Executor executor;
+
+    /**
+     * Scheduler of lingering batches.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The batch being collected, or NULL.
+     */
+    private final AtomicReference<BatchedAsync.Batch<X, Y>> current;
+
+    /**
+     * Lock of the batch being collected.
+     */
+    private final Lock lock;
+
+    /**
+     * Ctor.
+     * @param bulk The bulk func
+     * @param max Maximum number of inputs in a batch
+     * @param linger Maximum wait of the first input of a batch
+     */
+    public BatchedAsync(final Func<List<X>, Map<X, Y>> bulk, final int max,
+        final Duration linger) {
+        this(bulk, max, linger, new ThreadPerTask().value());
+    }
+
+    /**
+     * Ctor.
+     * @param bulk The bulk func
+     * @param max Maximum number of inputs in a batch
+     * @param linger Maximum wait of the first input of a batch
+     * @param exec Executor of bulk calls
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public BatchedAsync(final Func<List<X>, Map<X, Y>> bulk, final int max,
+        final Duration linger, final Executor exec) {
+        this(bulk, max, linger, exec, new DaemonScheduler().value());
+    }
+
+    /**
+     * Ctor.
+     * @param bulk The bulk func
+     * @param max Maximum number of inputs in a batch
+     * @param linger Maximum wait of the first input of a batch
+     * @param exec Executor of bulk calls
+     * @param scheduler Scheduler of lingering batches
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public BatchedAsync(final Func<List<X>, Map<X, Y>> bulk, final int max,
+        final Duration linger, final Executor exec,
+        final ScheduledExecutorService scheduler) {
+        this.bulk = bulk;
+        this.max = max;
+        this.linger = linger.toNanos();
+        this.executor = exec;
+        this.scheduler = scheduler;
+        this.current = new AtomicReference<>();
+        this.lock = new ReentrantLock();
+    }
+
+    @Override
+    public CompletableFuture<Y> apply(final X input) {
+        CompletableFuture<Y> future;
+        BatchedAsync.Batch<X, Y> full = null;
+        this.lock.lock();
+        try {
+            final BatchedAsync.Batch<X, Y> batch = this.batch();
+            future = batch.futures.computeIfAbsent(
+                input, key -> new CompletableFuture<>()
+            );
+            if (batch.futures.size() >= this.max) {
+                this.current.set(null);
+                full = batch;
+            }
+        } catch (final RejectedExecutionException ex) {
+            future = CompletableFuture.failedFuture(ex);
+        } finally {
+            this.lock.unlock();
+        }
+        if (full != null) {
+            final ScheduledFuture<?> timer = full.timer.get();
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            this.dispatch(full);
+        }
+        return future;
+    }
+
+    /**
+     * The batch being collected, or a new one with its timer scheduled.
+     *
+     * <p>The lock must be held. A new batch becomes current only after
+     * its timer is scheduled, so a rejected timer leaves no batch
+     * behind.</p>
+     *
+     * @return The batch
+     */
+    private BatchedAsync.Batch<X, Y> batch() {
+        BatchedAsync.Batch<X, Y> batch = this.current.get();
+        if (batch == null) {
+            final BatchedAsync.Batch<X, Y> fresh = new BatchedAsync.Batch<>();
+            fresh.timer.set(
+                this.scheduler.schedule(
+                    () -> this.flush(fresh),
+                    this.linger,
+                    TimeUnit.NANOSECONDS
+                )
+            );
+            this.current.set(fresh);
+            batch = fresh;
+        }
+        return batch;
+    }
+
+    /**
+     * Dispatch the batch after it lingered, unless it's already gone.
+     * @param batch The batch
+     */
+    private void flush(final BatchedAsync.Batch<X, Y> batch) {
+        final boolean expired;
+        this.lock.lock();
+        try {
+            expired = this.current.compareAndSet(batch, null);
+        } finally {
+            this.lock.unlock();
+        }
+        if (expired) {
+            this.dispatch(batch);
+        }
+    }
+
+    /**
+     * Make the bulk call and complete the futures of the batch.
+     * @param batch The batch
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void dispatch(final BatchedAsync.Batch<X, Y> batch) {
+        try {
+            this.executor.execute(
+                () -> {
+                    try {
+                        batch.complete(
+                            this.bulk.apply(
+                                new ListOf<>(batch.futures.keySet())
+                            )
+                        );
+                        // @checkstyle IllegalCatchCheck (1 line)
+                    } catch (final Exception | Error ex) {
+                        batch.fail(ex);
+                    }
+                }
+            );
+        } catch (final RejectedExecutionException ex) {
+            batch.fail(ex);
+        }
+    }
+
+    /**
+     * Inputs collected together, with their futures.
+     *
+     * @param <X> Type of input
+     * @param <Y> Type of output
+     * @since 1.0
+     */
+    private static final class Batch<X, Y> {
+
+        /**
+         * Futures by inputs, in order of arrival.
+         */
+        private final Map<X, CompletableFuture<Y>> futures;
+
+        /**
+         * Timer of lingering.
+         */
+        private final AtomicReference<ScheduledFuture<?>> timer;
+
+        /**
+         * Ctor.
+         */
+        Batch() {
+            this.futures = new LinkedHashMap<>(0);
+            this.timer = new AtomicReference<>();
+        }
+
+        /**
+         * Complete the futures with results.
+         * @param results Results of the bulk call
+         */
+        void complete(final Map<X, Y> results) {
+            for (final Map.Entry<X, CompletableFuture<Y>> entry
+                : this.futures.entrySet()) {
+                if (results.containsKey(entry.getKey())) {
+                    entry.getValue().complete(results.get(entry.getKey()));
+                } else {
+                    entry.getValue().completeExceptionally(
+                        new IllegalStateException(
+                            new UncheckedText(
+                                new FormattedText(
+                                    "There is no result for \"%s\" in the batch",
+                                    entry.getKey()
+                                )
+                            ).asString()
+                        )
+                    );
+                }
+            }
+        }
+
+        /**
+         * Fail all the futures.
+         * @param error The error
+         */
+        void fail(final Throwable error) {
+            for (final CompletableFuture<Y> future : this.futures.values()) {
+                future.completeExceptionally(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+
+/**
+ * BiFunc, which is not called while the circuit breaker is open.
+ *
+ * <p>It works exactly as {@link FuncWithBreaker}.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original func is.</p>
+ *
+ * @param <X> Type of first input
+ * @param <Y> Type of second input
+ * @param <Z> Type of output
+ * @since 1.0
+ */
+public final class BiFuncWithBreaker<X, Y, Z> implements BiFunc<X, Y, Z> {
+
+    /**
+     * Original func.
+     */
+    private final BiFunc<X, Y, Z> func;
+
+    /**
+     * The breaker.
+     */
+    private final CircuitBreaker breaker;
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param breaker The breaker
+     */
+    public BiFuncWithBreaker(final BiFunc<X, Y, Z> fnc,
+        final CircuitBreaker breaker) {
+        this.func = fnc;
+        this.breaker = breaker;
+    }
+
+    @Override
+    public Z apply(final X first, final Y second) throws Exception {
+        return new FuncWithBreaker<>(
+            (Func<Boolean, Z>) input -> this.func.apply(first, second),
+            this.breaker
+        ).apply(true);
+    }
+}
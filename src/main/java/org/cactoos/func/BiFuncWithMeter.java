@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+
+/**
+ * BiFunc, which records its calls in a {@link Meter}.
+ *
+ * <p>Objects of this class are thread safe, if the original func is.</p>
+ *
+ * @param <X> Type of first input
+ * @param <Y> Type of second input
+ * @param <Z> Type of output
+ * @since 1.0
+ */
+public final class BiFuncWithMeter<X, Y, Z> implements BiFunc<X, Y, Z> {
+
+    /**
+     * Original func.
+     */
+    private final BiFunc<X, Y, Z> func;
+
+    /**
+     * The meter.
+     */
+    private final Meter meter;
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param meter The meter
+     */
+    public BiFuncWithMeter(final BiFunc<X, Y, Z> fnc, final Meter meter) {
+        this.func = fnc;
+        this.meter = meter;
+    }
+
+    @Override
+    public Z apply(final X first, final Y second) throws Exception {
+        return new FuncWithMeter<>(
+            (Func<Boolean, Z>) input -> this.func.apply(first, second),
+            this.meter
+        ).apply(true);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulkhead, which limits the number of concurrent calls.
+ *
+ * <p>No more than {@code limit} calls may be in progress at the same
+ * time. Other callers wait in a fair queue of no more than
+ * {@code queue} places; when the queue is full, they are rejected
+ * at once. Give the same bulkhead to all decorators of the same
+ * dependency, see {@link FuncWithBulkhead},
+ * {@link org.cactoos.scalar.ScalarWithBulkhead} and
+ * {@link org.cactoos.proc.ProcWithBulkhead}:</p>
+ *
+ * <pre>{@code
+ * final Bulkhead bulkhead = new Bulkhead(10, 100);
+ * final Func<String, Profile> profiles = new FuncWithBulkhead<>(
+ *     id -> backend.profile(id), bulkhead
+ * );
+ * final Func<String, Avatar> avatars = new FuncWithBulkhead<>(
+ *     id -> backend.avatar(id), bulkhead, Duration.ofSeconds(1L)
+ * );
+ * }</pre>
+ *
+ * <p>The limit may also adapt to the latency of calls: it grows by one
+ * after every {@code limit} fast calls and shrinks by ten percent after
+ * every slow one, staying between {@code min} and {@code max}. So the
+ * dependency gets as many concurrent calls as it can serve in time.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+public final class Bulkhead {
+
+    /**
+     * Share of the limit left after a slow call.
+     */
+    private static final double DECREASE = 0.9d;
+
+    /**
+     * Permits for calls.
+     */
+    private final Bulkhead.Permits permits;
+
+    /**
+     * Current limit.
+     */
+    private final AtomicInteger limit;
+
+    /**
+     * Fast calls since the last increase of the limit.
+     */
+    private final AtomicInteger fast;
+
+    /**
+     * Number of waiting callers.
+     */
+    private final AtomicInteger waiting;
+
+    /**
+     * Maximum number of waiting callers.
+     */
+    private final int queue;
+
+    /**
+     * Minimum limit.
+     */
+    private final int min;
+
+    /**
+     * Maximum limit.
+     */
+    private final int max;
+
+    /**
+     * Duration of a call, which makes it slow, in nanoseconds.
+     */
+    private final long slow;
+
+    /**
+     * Ctor.
+     * @param limit Maximum number of concurrent calls
+     * @param queue Maximum number of waiting callers
+     */
+    public Bulkhead(final int limit, final int queue) {
+        this(limit, limit, queue, Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The limit adapts to the latency of calls, starting
+     * from {@code min}.</p>
+     *
+     * @param min Minimum limit of concurrent calls
+     * @param max Maximum limit of concurrent calls
+     * @param queue Maximum number of waiting callers
+     * @param slow Duration of a call, which makes it slow
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Bulkhead(final int min, final int max, final int queue,
+        final Duration slow) {
+        this.permits = new Bulkhead.Permits(min);
+        this.limit = new AtomicInteger(min);
+        this.fast = new AtomicInteger();
+        this.waiting = new AtomicInteger();
+        this.queue = queue;
+        this.min = min;
+        this.max = max;
+        this.slow = slow.toNanos();
+    }
+
+    /**
+     * Take a place for a call.
+     *
+     * <p>If there is no free place, the caller waits in the queue
+     * no longer than the timeout. If the queue is full, it returns
+     * at once.</p>
+     *
+     * @param timeout How long to wait for a place
+     * @return TRUE if the place is taken
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public boolean acquire(final Duration timeout)
+        throws InterruptedException {
+        boolean taken = this.permits.tryAcquire(0L, TimeUnit.NANOSECONDS);
+        if (!taken && this.waiting.incrementAndGet() <= this.queue) {
+            try {
+                taken = this.permits.tryAcquire(
+                    timeout.toNanos(), TimeUnit.NANOSECONDS
+                );
+            } finally {
+                this.waiting.decrementAndGet();
+            }
+        } else if (!taken) {
+            this.waiting.decrementAndGet();
+        }
+        return taken;
+    }
+
+    /**
+     * Give the place back, after the call is over.
+     * @param nanos Duration of the call, in nanoseconds
+     */
+    public void release(final long nanos) {
+        this.permits.release();
+        final int current = this.limit.get();
+        if (nanos >= this.slow) {
+            this.resize(
+                current,
+                Math.max(this.min, (int) (current * Bulkhead.DECREASE))
+            );
+        } else if (this.fast.incrementAndGet() >= current) {
+            this.fast.set(0);
+            this.resize(current, Math.min(this.max, current + 1));
+        }
+    }
+
+    /**
+     * Change the limit, unless somebody has already changed it.
+     * @param before Current limit
+     * @param after New limit
+     */
+    private void resize(final int before, final int after) {
+        if (before != after && this.limit.compareAndSet(before, after)) {
+            if (after > before) {
+                this.permits.release(after - before);
+            } else {
+                this.permits.reduce(before - after);
+            }
+        }
+    }
+
+    /**
+     * Fair semaphore, which may shrink.
+     *
+     * @since 1.0
+     */
+    private static final class Permits extends Semaphore {
+
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Ctor.
+         * @param count Initial number of permits
+         */
+        Permits(final int count) {
+            super(count, true);
+        }
+
+        /**
+         * Take permits away, even if they are in use.
+         * @param count How many to take away
+         */
+        void reduce(final int count) {
+            this.reducePermits(count);
+        }
+    }
+}
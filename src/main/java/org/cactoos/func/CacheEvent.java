@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event of a lookup in the cache of a memoizing
+ * function, see {@link CacheStats}.
+ *
+ * <p>The event is disabled by default, enable {@code org.cactoos.Cache}
+ * in the recording settings to get it.</p>
+ *
+ * @since 1.0
+ */
+@Name("org.cactoos.Cache")
+@Label("Cache")
+@Category({"Cactoos", "Func"})
+@Description("Lookup in the cache of a memoizing function")
+@Enabled(false)
+@StackTrace(false)
+@SuppressWarnings("PMD.SingularField")
+final class CacheEvent extends Event {
+
+    /**
+     * The outcome: hit, miss, wait or failure.
+     */
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Time of calculation.
+     */
+    @Label("Load Time")
+    @Timespan
+    private long load;
+
+    /**
+     * Commit the lookup.
+     * @param result The outcome
+     * @param nanos Time of calculation, in nanoseconds
+     */
+    void looked(final String result, final long nanos) {
+        this.outcome = result;
+        this.load = nanos;
+        this.commit();
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.cactoos.Scalar;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+
+/**
+ * Statistics of a memoizing function.
+ *
+ * <p>Give the same object to {@link StickyFunc}, {@link StickyBiFunc},
+ * {@link SolidFunc}, {@link SolidBiFunc} or
+ * {@link org.cactoos.scalar.Sticky} and read a snapshot of it
+ * whenever needed:</p>
+ *
+ * <pre>{@code
+ * final CacheStats stats = new CacheStats.Counters();
+ * final Func<String, Document> func = new StickyFunc<>(
+ *     name -> new Document(name), new Lru<>(1000), stats
+ * );
+ * // ...
+ * final long misses = stats.value().get("misses");
+ * }</pre>
+ *
+ * <p>The snapshot contains the number of {@code hits}, {@code misses},
+ * {@code waits}, {@code evictions} and {@code failures}, total
+ * {@code load-time} of successful and failed calculations in
+ * nanoseconds, and the {@code size} of the cache, as its storage
+ * reported it after the last change. A wait is a call, which found the
+ * result being calculated by another thread and waited for it, so it's
+ * neither a hit nor a miss.</p>
+ *
+ * <p>Memoizing functions, which are not given statistics, use
+ * {@link CacheStats.None}, which records nothing and doesn't even read
+ * the time, see {@link #nanos()}.</p>
+ *
+ * @since 1.0
+ */
+public interface CacheStats extends Scalar<Map<String, Long>> {
+
+    /**
+     * Record a result found in the cache.
+     */
+    void hit();
+
+    /**
+     * Record a result found in the cache, while another thread
+     * was still calculating it.
+     */
+    void waited();
+
+    /**
+     * Record a result calculated and put into the cache.
+     * @param nanos Time of calculation, in nanoseconds
+     */
+    void loaded(long nanos);
+
+    /**
+     * Record a failed calculation.
+     * @param nanos Time of calculation, in nanoseconds
+     */
+    void failed(long nanos);
+
+    /**
+     * Record results removed from the cache.
+     * @param count How many were removed
+     */
+    void evicted(long count);
+
+    /**
+     * Record the size of the cache after a change.
+     * @param count How many results are in the cache
+     */
+    void resized(long count);
+
+    /**
+     * Current time to measure calculations with.
+     * @return Nanoseconds, or zero if nothing is recorded
+     */
+    long nanos();
+
+    @Override
+    Map<String, Long> value();
+
+    /**
+     * Statistics, which count everything.
+     *
+     * <p>If the object is shared by several caches, the size is the one
+     * of the cache changed last. Counters are striped, so recording
+     * doesn't lock; a snapshot taken during concurrent updates
+     * may be slightly inconsistent.</p>
+     *
+     * <p>If asked, every hit, miss, wait and failure is also emitted as
+     * the {@code org.cactoos.Cache} flight recorder event, when it's
+     * enabled in the recording settings. This needs the {@code jdk.jfr}
+     * module at runtime.</p>
+     *
+     * <p>Objects of this class are thread safe.</p>
+     *
+     * @since 1.0
+     */
+    final class Counters implements CacheStats {
+
+        /**
+         * Hits.
+         */
+        private final LongAdder hits;
+
+        /**
+         * Misses.
+         */
+        private final LongAdder misses;
+
+        /**
+         * Waits for calculations of other threads.
+         */
+        private final LongAdder waits;
+
+        /**
+         * Evictions.
+         */
+        private final LongAdder evictions;
+
+        /**
+         * Failed calculations.
+         */
+        private final LongAdder failures;
+
+        /**
+         * Total time of calculations, in nanoseconds.
+         */
+        private final LongAdder time;
+
+        /**
+         * Size of the cache.
+         */
+        private final AtomicLong size;
+
+        /**
+         * Whether to emit flight recorder events.
+         */
+        private final boolean recorded;
+
+        /**
+         * Ctor.
+         */
+        public Counters() {
+            this(false);
+        }
+
+        /**
+         * Ctor.
+         * @param recorded Whether to emit flight recorder events
+         */
+        public Counters(final boolean recorded) {
+            this.recorded = recorded;
+            this.size = new AtomicLong();
+            this.hits = new LongAdder();
+            this.misses = new LongAdder();
+            this.waits = new LongAdder();
+            this.evictions = new LongAdder();
+            this.failures = new LongAdder();
+            this.time = new LongAdder();
+        }
+
+        @Override
+        public void hit() {
+            this.hits.increment();
+            this.emit("hit", 0L);
+        }
+
+        @Override
+        public void waited() {
+            this.waits.increment();
+            this.emit("wait", 0L);
+        }
+
+        @Override
+        public void loaded(final long nanos) {
+            this.misses.increment();
+            this.time.add(nanos);
+            this.emit("miss", nanos);
+        }
+
+        @Override
+        public void failed(final long nanos) {
+            this.misses.increment();
+            this.failures.increment();
+            this.time.add(nanos);
+            this.emit("failure", nanos);
+        }
+
+        @Override
+        public void evicted(final long count) {
+            this.evictions.add(count);
+        }
+
+        @Override
+        public void resized(final long count) {
+            this.size.set(count);
+        }
+
+        @Override
+        public long nanos() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public Map<String, Long> value() {
+            return new MapOf<>(
+                new MapEntry<>("hits", this.hits.sum()),
+                new MapEntry<>("misses", this.misses.sum()),
+                new MapEntry<>("waits", this.waits.sum()),
+                new MapEntry<>("evictions", this.evictions.sum()),
+                new MapEntry<>("failures", this.failures.sum()),
+                new MapEntry<>("load-time", this.time.sum()),
+                new MapEntry<>("size", this.size.get())
+            );
+        }
+
+        /**
+         * Emit the flight recorder event, if it's asked for and enabled.
+         * @param outcome The outcome
+         * @param nanos Time of calculation, in nanoseconds
+         */
+        private void emit(final String outcome, final long nanos) {
+            if (this.recorded) {
+                final CacheEvent event = new CacheEvent();
+                if (event.isEnabled()) {
+                    event.looked(outcome, nanos);
+                }
+            }
+        }
+    }
+
+    /**
+     * No statistics, nothing is recorded.
+     *
+     * <p>This class is immutable and thread-safe.</p>
+     *
+     * @since 1.0
+     */
+    final class None implements CacheStats {
+        @Override
+        public void hit() {
+            // Nothing to record
+        }
+
+        @Override
+        public void waited() {
+            // Nothing to record
+        }
+
+        @Override
+        public void loaded(final long nanos) {
+            // Nothing to record
+        }
+
+        @Override
+        public void failed(final long nanos) {
+            // Nothing to record
+        }
+
+        @Override
+        public void evicted(final long count) {
+            // Nothing to record
+        }
+
+        @Override
+        public void resized(final long count) {
+            // Nothing to record
+        }
+
+        @Override
+        public long nanos() {
+            return 0L;
+        }
+
+        @Override
+        public Map<String, Long> value() {
+            return new MapOf<>(
+                new MapEntry<>("hits", 0L),
+                new MapEntry<>("misses", 0L),
+                new MapEntry<>("waits", 0L),
+                new MapEntry<>("evictions", 0L),
+                new MapEntry<>("failures", 0L),
+                new MapEntry<>("load-time", 0L),
+                new MapEntry<>("size", 0L)
+            );
+        }
+    }
+}
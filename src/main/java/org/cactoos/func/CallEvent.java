@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of a call of a function.
+ *
+ * <p>The event is disabled by default, enable {@code org.cactoos.Call}
+ * in the recording settings to get it.</p>
+ *
+ * @since 1.0
+ */
+@Name("org.cactoos.Call")
+@Label("Call")
+@Category({"Cactoos", "Func"})
+@Description("Call of a function, successful or failed")
+@Enabled(false)
+@StackTrace(false)
+@SuppressWarnings("PMD.SingularField")
+final class CallEvent extends Event {
+
+    /**
+     * The function.
+     */
+    @Label("Function")
+    private final String func;
+
+    /**
+     * The outcome.
+     */
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Class of the exception.
+     */
+    @Label("Error")
+    private String error;
+
+    /**
+     * Ctor.
+     * @param func The function
+     */
+    CallEvent(final String func) {
+        super();
+        this.func = func;
+    }
+
+    /**
+     * Commit the successful call.
+     */
+    void succeeded() {
+        this.outcome = "success";
+        this.commit();
+    }
+
+    /**
+     * Commit the failed call.
+     * @param cause The exception
+     */
+    void failed(final Throwable cause) {
+        this.outcome = "failure";
+        this.error = cause.getClass().getName();
+        this.commit();
+    }
+}
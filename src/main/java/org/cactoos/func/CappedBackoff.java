@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.cactoos.Func;
+
+/**
+ * Wait before the next attempt, which never exceeds the cap.
+ *
+ * <p>Objects of this class are thread safe, if the original
+ * backoff is.</p>
+ *
+ * @see Retry
+ * @since 1.0
+ */
+public final class CappedBackoff implements Func<Integer, Duration> {
+
+    /**
+     * Original backoff.
+     */
+    private final Func<Integer, Duration> origin;
+
+    /**
+     * The longest wait.
+     */
+    private final Duration cap;
+
+    /**
+     * Ctor.
+     * @param origin Original backoff
+     * @param cap The longest wait
+     */
+    public CappedBackoff(final Func<Integer, Duration> origin,
+        final Duration cap) {
+        this.origin = origin;
+        this.cap = cap;
+    }
+
+    @Override
+    public Duration apply(final Integer attempt) throws Exception {
+        final Duration wait = this.origin.apply(attempt);
+        final Duration result;
+        if (wait.compareTo(this.cap) > 0) {
+            result = this.cap;
+        } else {
+            result = wait;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * The original exception of a calculation, which failed in a future.
+ *
+ * <pre>{@code
+ * try {
+ *     return future.get();
+ * } catch (final ExecutionException ex) {
+ *     throw new CauseOf(ex).value();
+ * }
+ * }</pre>
+ *
+ * <p>If the cause is an {@link Error}, it is thrown right away. If
+ * there is no cause, the wrapper itself is returned.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+final class CauseOf {
+
+    /**
+     * The wrapper.
+     */
+    private final ExecutionException error;
+
+    /**
+     * Ctor.
+     * @param error The wrapper
+     */
+    CauseOf(final ExecutionException error) {
+        this.error = error;
+    }
+
+    /**
+     * Get the exception.
+     * @return The exception to throw
+     */
+    Exception value() {
+        final Throwable cause = this.error.getCause();
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        final Exception result;
+        if (cause instanceof Exception) {
+            result = (Exception) cause;
+        } else {
+            result = this.error;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,375 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Circuit breaker, which stops calls to a failing dependency.
+ *
+ * <p>The breaker is closed at the beginning and lets all calls through,
+ * remembering outcomes of the last {@code window} of them. When the
+ * window is full and the share of failed calls or the share of slow
+ * calls reaches its threshold, the breaker opens and rejects all calls
+ * for the {@code wait} time. After that it becomes half-open and lets
+ * one trial call through: if it succeeds in time, the breaker closes
+ * with an empty window, otherwise it opens again. If the outcome of the
+ * trial call is not recorded within the {@code wait} time, another trial
+ * call is let through. Every call gets a permit from {@link #permit()}
+ * and gives it back with its outcome, so outcomes of older calls,
+ * which were let through before the breaker opened, can't close it
+ * or open it again instead of the trial call.</p>
+ *
+ * <p>Give the same breaker to all decorators of the same dependency,
+ * see {@link FuncWithBreaker}, {@link BiFuncWithBreaker} and
+ * {@link org.cactoos.scalar.ScalarWithBreaker}:</p>
+ *
+ * <pre>{@code
+ * final CircuitBreaker breaker = new CircuitBreaker(
+ *     100, 0.5d, Duration.ofSeconds(30L)
+ * );
+ * final Func<String, Profile> func = new FuncWithBreaker<>(
+ *     id -> backend.profile(id), breaker
+ * );
+ * }</pre>
+ *
+ * <p>The window must have at least one call and both shares must be
+ * above zero and not above one, otherwise the constructor throws
+ * {@link IllegalArgumentException}: a share of zero would open the
+ * breaker after a window of successful calls.</p>
+ *
+ * <p>Time is measured by a monotonic ticker, {@link System#nanoTime()}
+ * by default, so a step of the wall clock doesn't shorten or stretch
+ * the {@code wait} time.</p>
+ *
+ * <p>The state is kept in atomic variables, without locks. Outcomes of
+ * concurrent calls may be counted with a small error, which
+ * doesn't matter for the rates.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+public final class CircuitBreaker {
+
+    /**
+     * The breaker is closed.
+     */
+    private static final long CLOSED = -1L;
+
+    /**
+     * The breaker is half-open, the trial call is in progress: the state
+     * is this value minus the moment the trial started, in nanoseconds.
+     */
+    private static final long TRIAL = -2L;
+
+    /**
+     * The outcome is recorded.
+     */
+    private static final int RECORDED = 1;
+
+    /**
+     * The call failed.
+     */
+    private static final int FAULT = 2;
+
+    /**
+     * The call was slow.
+     */
+    private static final int SLOW = 4;
+
+    /**
+     * Outcomes of the last calls.
+     */
+    private final AtomicIntegerArray outcomes;
+
+    /**
+     * Position of the next outcome.
+     */
+    private final AtomicLong cursor;
+
+    /**
+     * Number of recorded outcomes.
+     */
+    private final AtomicInteger recorded;
+
+    /**
+     * Number of failed calls in the window.
+     */
+    private final AtomicInteger failures;
+
+    /**
+     * Number of slow calls in the window.
+     */
+    private final AtomicInteger slows;
+
+    /**
+     * State: closed, half-open with the trial call or the moment
+     * it opened, in nanoseconds since the origin.
+     */
+    private final AtomicLong state;
+
+    /**
+     * Share of failed calls, which opens the breaker.
+     */
+    private final double failure;
+
+    /**
+     * Duration of a call, which makes it slow, in nanoseconds.
+     */
+    private final long slow;
+
+    /**
+     * Share of slow calls, which opens the breaker.
+     */
+    private final double slowness;
+
+    /**
+     * How long the breaker stays open, in nanoseconds.
+     */
+    private final long wait;
+
+    /**
+     * The ticker, which returns the current moment in nanoseconds.
+     */
+    private final LongSupplier ticker;
+
+    /**
+     * The moment the breaker was made, in nanoseconds.
+     */
+    private final long origin;
+
+    /**
+     * Ctor.
+     * @param window Number of the last calls to consider
+     * @param failure Share of failed calls, which opens the breaker
+     * @param wait How long the breaker stays open
+     */
+    public CircuitBreaker(final int window, final double failure,
+        final Duration wait) {
+        this(window, failure, Duration.ofNanos(Long.MAX_VALUE), 1.0d, wait);
+    }
+
+    /**
+     * Ctor.
+     * @param window Number of the last calls to consider
+     * @param failure Share of failed calls, which opens the breaker
+     * @param slow Duration of a call, which makes it slow
+     * @param slowness Share of slow calls, which opens the breaker
+     * @param wait How long the breaker stays open
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public CircuitBreaker(final int window, final double failure,
+        final Duration slow, final double slowness, final Duration wait) {
+        this(window, failure, slow, slowness, wait, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param window Number of the last calls to consider
+     * @param failure Share of failed calls, which opens the breaker
+     * @param slow Duration of a call, which makes it slow
+     * @param slowness Share of slow calls, which opens the breaker
+     * @param wait How long the breaker stays open
+     * @param ticker The monotonic ticker, in nanoseconds
+     * @checkstyle ParameterNumberCheck (6 lines)
+     */
+    public CircuitBreaker(final int window, final double failure,
+        final Duration slow, final double slowness, final Duration wait,
+        final LongSupplier ticker) {
+        this.outcomes = new AtomicIntegerArray(CircuitBreaker.positive(window));
+        this.cursor = new AtomicLong();
+        this.recorded = new AtomicInteger();
+        this.failures = new AtomicInteger();
+        this.slows = new AtomicInteger();
+        this.state = new AtomicLong(CircuitBreaker.CLOSED);
+        this.failure = CircuitBreaker.share(failure, "failure");
+        this.slow = slow.toNanos();
+        this.slowness = CircuitBreaker.share(slowness, "slowness");
+        this.wait = wait.toNanos();
+        this.ticker = ticker;
+        this.origin = ticker.getAsLong();
+    }
+
+    /**
+     * Ask for a permission to make a call.
+     *
+     * <p>The permit must be given back to {@link #succeeded(long, long)}
+     * or {@link #failed(long, long)} together with the outcome of the
+     * call. Only the permit of the trial call can close the half-open
+     * breaker or open it again.</p>
+     *
+     * @return The permit
+     * @throws RejectedExecutionException If the breaker is open
+     */
+    public long permit() {
+        final long current = this.state.get();
+        long permit = CircuitBreaker.CLOSED;
+        if (current != CircuitBreaker.CLOSED) {
+            final long since = CircuitBreaker.since(current);
+            final long now = this.now();
+            final long trial = CircuitBreaker.TRIAL
+                - Math.max(now, since + 1L);
+            if (now - since < this.wait
+                || !this.state.compareAndSet(current, trial)) {
+                throw new RejectedExecutionException(
+                    "The circuit breaker is open"
+                );
+            }
+            permit = trial;
+        }
+        return permit;
+    }
+
+    /**
+     * Record a successful call.
+     * @param permit The permit of the call
+     * @param nanos Duration of the call, in nanoseconds
+     */
+    public void succeeded(final long permit, final long nanos) {
+        if (nanos >= this.slow) {
+            this.record(permit, CircuitBreaker.RECORDED | CircuitBreaker.SLOW);
+        } else if (permit != CircuitBreaker.CLOSED
+            && this.state.compareAndSet(permit, CircuitBreaker.CLOSED)) {
+            this.reset();
+        } else {
+            this.record(permit, CircuitBreaker.RECORDED);
+        }
+    }
+
+    /**
+     * Record a failed call.
+     * @param permit The permit of the call
+     * @param nanos Duration of the call, in nanoseconds
+     */
+    public void failed(final long permit, final long nanos) {
+        int outcome = CircuitBreaker.RECORDED | CircuitBreaker.FAULT;
+        if (nanos >= this.slow) {
+            outcome |= CircuitBreaker.SLOW;
+        }
+        this.record(permit, outcome);
+    }
+
+    /**
+     * Record the outcome and open the breaker if it's time to.
+     * @param permit The permit of the call
+     * @param outcome The outcome
+     */
+    private void record(final long permit, final int outcome) {
+        if (permit == CircuitBreaker.CLOSED
+            && this.state.get() == CircuitBreaker.CLOSED) {
+            final int size = this.outcomes.length();
+            final int before = this.outcomes.getAndSet(
+                (int) Math.floorMod(this.cursor.getAndIncrement(), (long) size),
+                outcome
+            );
+            this.count(outcome, 1);
+            this.count(before, -1);
+            if (this.recorded.get() >= size
+                && (this.failures.get() >= this.failure * size
+                || this.slows.get() >= this.slowness * size)) {
+                this.state.compareAndSet(
+                    CircuitBreaker.CLOSED, this.now()
+                );
+            }
+        } else if (permit != CircuitBreaker.CLOSED) {
+            this.state.compareAndSet(permit, this.now());
+        }
+    }
+
+    /**
+     * Forget all outcomes.
+     */
+    private void reset() {
+        for (int idx = 0; idx < this.outcomes.length(); ++idx) {
+            this.count(this.outcomes.getAndSet(idx, 0), -1);
+        }
+    }
+
+    /**
+     * Add the outcome to the counters.
+     * @param outcome The outcome
+     * @param delta One to add, minus one to subtract
+     */
+    private void count(final int outcome, final int delta) {
+        if ((outcome & CircuitBreaker.RECORDED) != 0) {
+            this.recorded.addAndGet(delta);
+        }
+        if ((outcome & CircuitBreaker.FAULT) != 0) {
+            this.failures.addAndGet(delta);
+        }
+        if ((outcome & CircuitBreaker.SLOW) != 0) {
+            this.slows.addAndGet(delta);
+        }
+    }
+
+    /**
+     * Current moment.
+     * @return Nanoseconds since the origin
+     */
+    private long now() {
+        return this.ticker.getAsLong() - this.origin;
+    }
+
+    /**
+     * The moment the breaker opened or the trial call started.
+     * @param state The state, which is not closed
+     * @return The moment, in nanoseconds since the origin
+     */
+    private static long since(final long state) {
+        final long moment;
+        if (state >= 0L) {
+            moment = state;
+        } else {
+            moment = CircuitBreaker.TRIAL - state;
+        }
+        return moment;
+    }
+
+    /**
+     * Check the window.
+     * @param window Number of the last calls to consider
+     * @return The window
+     */
+    private static int positive(final int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "The window must have at least one call: %d", window
+                    )
+                ).asString()
+            );
+        }
+        return window;
+    }
+
+    /**
+     * Check the share.
+     * @param share The share of calls
+     * @param name Name of the share
+     * @return The share
+     */
+    private static double share(final double share, final String name) {
+        if (!(share > 0.0d && share <= 1.0d)) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "The %s share must be above 0 and up to 1: %f",
+                        name, share
+                    )
+                ).asString()
+            );
+        }
+        return share;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+
+/**
+ * BiFunc that shares one calculation between concurrent calls
+ * with equal inputs.
+ *
+ * <p>It works exactly as {@link CoalescedFunc}, with the pair
+ * of inputs as a key.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of first input
+ * @param <Y> Type of second input
+ * @param <Z> Type of output
+ * @since 1.0
+ */
+public final class CoalescedBiFunc<X, Y, Z> extends BiFuncEnvelope<X, Y, Z> {
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     */
+    public CoalescedBiFunc(final BiFunc<X, Y, Z> fnc) {
+        this(
+            new CoalescedFunc<Map.Entry<X, Y>, Z>(
+                entry -> fnc.apply(entry.getKey(), entry.getValue())
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Coalesced func of entries
+     */
+    private CoalescedBiFunc(final Func<Map.Entry<X, Y>, Z> fnc) {
+        super(
+            (first, second) -> fnc.apply(
+                new AbstractMap.SimpleImmutableEntry<>(first, second)
+            )
+        );
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import org.cactoos.Func;
+
+/**
+ * Func that shares one calculation between concurrent calls
+ * with an equal input.
+ *
+ * <p>The first call with an input starts the calculation, and all calls
+ * with an equal input, which come before it finishes, wait for it and
+ * get the same result or the same exception. Calls with other inputs are
+ * not affected. Nothing is kept after the calculation is finished,
+ * so the next call calculates again. This protects a slow backend
+ * from a thundering herd of identical requests:</p>
+ *
+ * <pre>{@code
+ * final Func<String, Profile> func = new CoalescedFunc<>(
+ *     id -> backend.profile(id)
+ * );
+ * }</pre>
+ *
+ * <p>Decorate it with {@link SolidFunc} or {@link StickyFunc}
+ * if the results have to be cached.</p>
+ *
+ * <p>A recursive call for the same input from the thread, which is
+ * calculating it, doesn't wait for itself: it calls the original
+ * function again, just like {@link SolidFunc} does.</p>
+ *
+ * <p>NULL inputs are not supported.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class CoalescedFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * Calculations in progress.
+     */
+    private final ConcurrentMap<X, CompletableFuture<Y>> flights;
+
+    /**
+     * Threads calculating the results, by their inputs.
+     */
+    private final ConcurrentMap<X, Thread> owners;
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     */
+    public CoalescedFunc(final Func<X, Y> fnc) {
+        this.func = fnc;
+        this.flights = new ConcurrentHashMap<>(0);
+        this.owners = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final CompletableFuture<Y> flight = this.flights.get(input);
+        final Y result;
+        if (flight == null) {
+            result = this.start(input);
+        } else {
+            result = this.join(input, flight);
+        }
+        return result;
+    }
+
+    /**
+     * Start the calculation, unless another call has just started it.
+     * @param input The input
+     * @return The result
+     * @throws Exception If fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Y start(final X input) throws Exception {
+        final CompletableFuture<Y> fresh = new CompletableFuture<>();
+        final CompletableFuture<Y> flight =
+            this.flights.putIfAbsent(input, fresh);
+        final Y result;
+        if (flight == null) {
+            this.owners.put(input, Thread.currentThread());
+            try {
+                result = this.func.apply(input);
+                fresh.complete(result);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception | Error ex) {
+                fresh.completeExceptionally(ex);
+                throw ex;
+            } finally {
+                this.flights.remove(input, fresh);
+                this.owners.remove(input, Thread.currentThread());
+            }
+        } else {
+            result = this.join(input, flight);
+        }
+        return result;
+    }
+
+    /**
+     * Wait for the calculation in progress.
+     * @param input The input
+     * @param flight The calculation
+     * @return The result
+     * @throws Exception If fails
+     */
+    private Y join(final X input, final CompletableFuture<Y> flight)
+        throws Exception {
+        final Y result;
+        if (!flight.isDone() && Thread.currentThread().equals(
+            this.owners.get(input)
+        )) {
+            result = this.func.apply(input);
+        } else {
+            try {
+                result = flight.get();
+            } catch (final ExecutionException ex) {
+                throw new CauseOf(ex).value();
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.cactoos.Func;
+import org.cactoos.Proc;
+import org.cactoos.scalar.ThreadPerTask;
+
+/**
+ * Func that runs in the background and returns
+ * a {@link CompletableFuture}.
+ *
+ * <p>Unlike {@link Async}, it doesn't create an executor of its own:
+ * by default the function runs in the shared {@link ThreadPerTask}
+ * executor, on a virtual thread where they are available, so a blocking
+ * function doesn't starve the common fork-join pool. Any other
+ * {@link Executor} may be given, for example a bounded pool. The result
+ * may be composed with other functions without blocking, see
+ * {@link Composed}:</p>
+ *
+ * <pre>{@code
+ * final CompletableFuture<Integer> length = new Completable<>(
+ *     (String text) -> text.length()
+ * ).apply("Hello, world!");
+ * }</pre>
+ *
+ * <p>If the function throws, the future completes exceptionally with
+ * the original exception. The same happens if the executor
+ * rejects the task.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class Completable<X, Y>
+    implements Func<X, CompletableFuture<Y>>, Proc<X> {
+
+    /**
+     * The func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * The executor.
+     */
+    private final Executor executor;
+
+    /**
+     * Ctor.
+     * @param fnc The func
+     */
+    public Completable(final Func<X, Y> fnc) {
+        this(fnc, new ThreadPerTask().value());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc The func
+     * @param exec The executor
+     */
+    public Completable(final Func<X, Y> fnc, final Executor exec) {
+        this.func = fnc;
+        this.executor = exec;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public CompletableFuture<Y> apply(final X input) {
+        final CompletableFuture<Y> future = new CompletableFuture<>();
+        try {
+            this.executor.execute(
+                () -> {
+                    try {
+                        future.complete(this.func.apply(input));
+                        // @checkstyle IllegalCatchCheck (1 line)
+                    } catch (final Exception | Error ex) {
+                        future.completeExceptionally(ex);
+                    }
+                }
+            );
+        } catch (final RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    @Override
+    public void exec(final X input) {
+        this.apply(input);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import org.cactoos.Func;
+
+/**
+ * Asynchronous func, which passes the result of one asynchronous
+ * func to another one, without blocking any thread.
+ *
+ * <pre>{@code
+ * final Func<String, CompletableFuture<Profile>> func = new Composed<>(
+ *     new Completable<>(id -> users.user(id)),
+ *     new Completable<>(user -> profiles.profile(user))
+ * );
+ * }</pre>
+ *
+ * <p>If any of the functions fails, the resulting future completes
+ * exceptionally with the original exception and the rest of the
+ * chain is skipped.</p>
+ *
+ * <p>Objects of this class are thread safe, if the functions are.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of intermediate result
+ * @param <Z> Type of output
+ * @since 1.0
+ */
+public final class Composed<X, Y, Z> implements Func<X, CompletableFuture<Z>> {
+
+    /**
+     * The first func.
+     */
+    private final Func<X, ? extends CompletionStage<Y>> first;
+
+    /**
+     * The next func.
+     */
+    private final Func<Y, ? extends CompletionStage<Z>> next;
+
+    /**
+     * Ctor.
+     * @param first The first func
+     * @param next The next func, which runs in the executor
+     * @param exec The executor
+     */
+    public Composed(final Func<X, ? extends CompletionStage<Y>> first,
+        final Func<Y, Z> next, final Executor exec) {
+        this(first, new Completable<>(next, exec));
+    }
+
+    /**
+     * Ctor.
+     * @param first The first func
+     * @param next The next func
+     */
+    public Composed(final Func<X, ? extends CompletionStage<Y>> first,
+        final Func<Y, ? extends CompletionStage<Z>> next) {
+        this.first = first;
+        this.next = next;
+    }
+
+    @Override
+    public CompletableFuture<Z> apply(final X input) {
+        return Composed.stage(this.first, input)
+            .thenCompose(value -> Composed.stage(this.next, value))
+            .toCompletableFuture();
+    }
+
+    /**
+     * Apply the func, turning its exception into a failed stage.
+     * @param func The func
+     * @param input The input
+     * @param <I> Type of input
+     * @param <O> Type of output
+     * @return Stage
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static <I, O> CompletionStage<O> stage(
+        final Func<I, ? extends CompletionStage<O>> func, final I input) {
+        CompletionStage<O> stage;
+        try {
+            stage = func.apply(input);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            stage = CompletableFuture.failedFuture(ex);
+        }
+        return stage;
+    }
+}
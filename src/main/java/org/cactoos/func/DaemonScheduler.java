@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import org.cactoos.Scalar;
+
+/**
+ * Scheduler shared by all timers of this package.
+ *
+ * <p>It has a single daemon thread, which only fires timers and
+ * never runs user code for long, so it doesn't keep the JVM alive
+ * and there is no need to shut it down. Cancelled timers are
+ * removed from its queue right away.</p>
+ *
+ * @since 1.0
+ */
+final class DaemonScheduler implements Scalar<ScheduledExecutorService> {
+
+    /**
+     * The scheduler.
+     */
+    private static final ScheduledExecutorService SHARED =
+        DaemonScheduler.create();
+
+    @Override
+    public ScheduledExecutorService value() {
+        return DaemonScheduler.SHARED;
+    }
+
+    /**
+     * Create the scheduler.
+     * @return Scheduler
+     */
+    private static ScheduledExecutorService create() {
+        final ScheduledThreadPoolExecutor executor =
+            new ScheduledThreadPoolExecutor(
+                1,
+                task -> {
+                    final Thread thread = new Thread(task, "cactoos-timer");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+}
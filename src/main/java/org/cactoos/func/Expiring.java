@@ -0,0 +1,155 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import org.cactoos.Func;
+import org.cactoos.map.Lru;
+
+/**
+ * Func that caches calculated values for a limited time.
+ *
+ * <p>By default a value expires when the given time has passed since
+ * it was calculated (expire-after-write). If {@code idle} is TRUE,
+ * the time is counted since the last request of the value instead
+ * (expire-after-access):</p>
+ *
+ * <pre>{@code
+ * final Func<String, Token> tokens = new Expiring<>(
+ *     user -> new Token(user),
+ *     Duration.ofMinutes(5L)
+ * );
+ * }</pre>
+ *
+ * <p>Expired values of other inputs are removed gradually, a few per
+ * call, so the cache doesn't grow with inputs which are never requested
+ * again. Time is measured by a monotonic ticker, {@link System#nanoTime()}
+ * by default, so a step of the wall clock doesn't expire values early
+ * or keep them too long.</p>
+ *
+ * <p>Pay attention that this class is not thread-safe. It is highly
+ * recommended to always decorate it with {@link SyncFunc}. If stale
+ * values must be refreshed in background, use {@link Refreshing}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see StickyFunc
+ * @since 1.0
+ */
+public final class Expiring<X, Y> implements Func<X, Y> {
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * Cache.
+     */
+    private final Map<X, Stamped<Y>> cache;
+
+    /**
+     * Time to live, in nanoseconds.
+     */
+    private final long ttl;
+
+    /**
+     * Count the time since the last access, not since the calculation.
+     */
+    private final boolean idle;
+
+    /**
+     * The ticker, which returns the current moment in nanoseconds.
+     */
+    private final LongSupplier ticker;
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param ttl Time to live
+     */
+    public Expiring(final Func<X, Y> fnc, final Duration ttl) {
+        this(fnc, ttl, false);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param ttl Time to live
+     * @param idle Count the time since the last access, if TRUE
+     */
+    public Expiring(final Func<X, Y> fnc, final Duration ttl,
+        final boolean idle) {
+        this(fnc, ttl, idle, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param ttl Time to live
+     * @param idle Count the time since the last access, if TRUE
+     * @param ticker The monotonic ticker, in nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Expiring(final Func<X, Y> fnc, final Duration ttl,
+        final boolean idle, final LongSupplier ticker) {
+        this(fnc, ttl, idle, ticker, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param ttl Time to live
+     * @param idle Count the time since the last access, if TRUE
+     * @param ticker The monotonic ticker, in nanoseconds
+     * @param max Maximum cache size
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Expiring(final Func<X, Y> fnc, final Duration ttl,
+        final boolean idle, final LongSupplier ticker, final int max) {
+        this.func = fnc;
+        this.ttl = ttl.toNanos();
+        this.idle = idle;
+        this.ticker = ticker;
+        this.cache = new Lru<>(max);
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final long now = this.ticker.getAsLong();
+        this.purge(now);
+        final Stamped<Y> cached = this.cache.get(input);
+        final Y result;
+        if (cached == null || cached.age(now) >= this.ttl) {
+            result = this.func.apply(input);
+            this.cache.put(input, new Stamped<>(result, now));
+        } else {
+            result = cached.value();
+            if (this.idle) {
+                this.cache.put(input, new Stamped<>(result, now));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Remove a few least recently used entries, if they are expired.
+     * @param now Current moment
+     */
+    private void purge(final long now) {
+        final Iterator<Stamped<Y>> eldest = this.cache.values().iterator();
+        for (int idx = 0; idx < 2 && eldest.hasNext(); ++idx) {
+            if (eldest.next().age(now) < this.ttl) {
+                break;
+            }
+            eldest.remove();
+        }
+    }
+}
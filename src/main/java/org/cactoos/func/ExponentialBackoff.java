@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.cactoos.Func;
+
+/**
+ * Wait before the next attempt, which grows exponentially
+ * with the number of the attempt.
+ *
+ * <p>The wait before the attempt number {@code n}, counting from zero,
+ * is {@code base * factor^n}. Combine it with {@link CappedBackoff}
+ * to limit the wait and with {@link FullJitterBackoff} to spread
+ * retries of many clients in time:</p>
+ *
+ * <pre>{@code
+ * final Func<String, Profile> func = new Retry<>(
+ *     id -> backend.profile(id),
+ *     5,
+ *     new CappedBackoff(
+ *         new ExponentialBackoff(Duration.ofMillis(100L)),
+ *         Duration.ofSeconds(5L)
+ *     )
+ * );
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @see Retry
+ * @since 1.0
+ */
+public final class ExponentialBackoff implements Func<Integer, Duration> {
+
+    /**
+     * The first wait, in nanoseconds.
+     */
+    private final long base;
+
+    /**
+     * Multiplier of every next wait.
+     */
+    private final double factor;
+
+    /**
+     * Ctor.
+     * @param base The first wait
+     */
+    public ExponentialBackoff(final Duration base) {
+        this(base, 2.0d);
+    }
+
+    /**
+     * Ctor.
+     * @param base The first wait
+     * @param factor Multiplier of every next wait
+     */
+    public ExponentialBackoff(final Duration base, final double factor) {
+        this.base = base.toNanos();
+        this.factor = factor;
+    }
+
+    @Override
+    public Duration apply(final Integer attempt) {
+        return Duration.ofNanos(
+            (long) Math.min(
+                this.base * Math.pow(this.factor, attempt),
+                Long.MAX_VALUE
+            )
+        );
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+
+/**
+ * Random wait before the next attempt, with "full jitter".
+ *
+ * <p>The bound of the wait grows exponentially: for the attempt
+ * number {@code n}, counting from zero, it is the base multiplied by
+ * three {@code n + 1} times, but not longer than the cap. The wait is
+ * chosen at random between zero and this bound. Waits of clients,
+ * which failed at the same moment, spread over the whole range, so they
+ * don't retry in lockstep.</p>
+ *
+ * <p>The wait is never longer than the cap, even if the base is. With
+ * a zero base the bound can't grow, so it is the cap from the start.</p>
+ *
+ * <p>By default the random numbers come from
+ * {@link ThreadLocalRandom}, so concurrent retries don't contend
+ * on one source of randomness.</p>
+ *
+ * <p>The wait depends only on the number of the attempt, so one object
+ * may serve many retry sequences at once, see {@link Retry} and
+ * {@link RetryAsync}.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @see Retry
+ * @since 1.0
+ */
+public final class FullJitterBackoff implements Func<Integer, Duration> {
+
+    /**
+     * The first bound of the wait, in nanoseconds.
+     */
+    private final long base;
+
+    /**
+     * The longest wait, in nanoseconds.
+     */
+    private final long cap;
+
+    /**
+     * Source of randomness.
+     */
+    private final Scalar<? extends Random> random;
+
+    /**
+     * Ctor.
+     * @param base The first bound of the wait
+     * @param cap The longest wait
+     */
+    public FullJitterBackoff(final Duration base, final Duration cap) {
+        this(base, cap, ThreadLocalRandom::current);
+    }
+
+    /**
+     * Ctor.
+     * @param base The first bound of the wait
+     * @param cap The longest wait
+     * @param random Source of randomness
+     */
+    public FullJitterBackoff(final Duration base, final Duration cap,
+        final Random random) {
+        this(base, cap, () -> random);
+    }
+
+    /**
+     * Ctor.
+     * @param base The first bound of the wait
+     * @param cap The longest wait
+     * @param random Source of randomness for the current thread
+     */
+    private FullJitterBackoff(final Duration base, final Duration cap,
+        final Scalar<? extends Random> random) {
+        this.base = base.toNanos();
+        this.cap = cap.toNanos();
+        this.random = random;
+    }
+
+    @Override
+    public Duration apply(final Integer attempt) throws Exception {
+        final long lower = Math.min(this.base, this.cap);
+        long upper = this.cap;
+        if (lower > 0L) {
+            upper = lower;
+            for (int idx = 0; idx <= attempt && upper < this.cap; ++idx) {
+                if (upper > this.cap / 3L) {
+                    upper = this.cap;
+                } else {
+                    upper *= 3L;
+                }
+            }
+        }
+        long wait = 0L;
+        if (upper > 0L) {
+            wait = this.random.value().nextLong(upper);
+        }
+        return Duration.ofNanos(wait);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.RejectedExecutionException;
+import org.cactoos.Func;
+
+/**
+ * Func, which is not called while the circuit breaker is open.
+ *
+ * <p>When the {@link CircuitBreaker} is open, the call fails fast with
+ * {@link RejectedExecutionException}, without touching the original func.
+ * Use {@link FuncWithFallback} to replace it with a default result:</p>
+ *
+ * <pre>{@code
+ * final Func<String, Profile> func = new FuncWithFallback<>(
+ *     new FuncWithBreaker<>(id -> backend.profile(id), breaker),
+ *     new Fallback.From<>(
+ *         RejectedExecutionException.class,
+ *         error -> Profile.ANONYMOUS
+ *     )
+ * );
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe, if the original func is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class FuncWithBreaker<X, Y> implements Func<X, Y> {
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * The breaker.
+     */
+    private final CircuitBreaker breaker;
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param breaker The breaker
+     */
+    public FuncWithBreaker(final Func<X, Y> fnc, final CircuitBreaker breaker) {
+        this.func = fnc;
+        this.breaker = breaker;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public Y apply(final X input) throws Exception {
+        final long permit = this.breaker.permit();
+        final long start = System.nanoTime();
+        final Y result;
+        try {
+            result = this.func.apply(input);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception | Error ex) {
+            this.breaker.failed(permit, System.nanoTime() - start);
+            throw ex;
+        }
+        this.breaker.succeeded(permit, System.nanoTime() - start);
+        return result;
+    }
+}
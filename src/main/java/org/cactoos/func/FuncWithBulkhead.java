@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import org.cactoos.Func;
+
+/**
+ * Func, which is called only when the {@link Bulkhead} has a free place.
+ *
+ * <p>By default the call waits for a place as long as needed. With
+ * a timeout it waits no longer than that. If the place is not taken,
+ * the call fails with {@link RejectedExecutionException}, without
+ * touching the original func. Use {@link FuncWithFallback} to replace
+ * it with a default result.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original func is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class FuncWithBulkhead<X, Y> implements Func<X, Y> {
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * The bulkhead.
+     */
+    private final Bulkhead bulkhead;
+
+    /**
+     * How long to wait for a place.
+     */
+    private final Duration timeout;
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param bulkhead The bulkhead
+     */
+    public FuncWithBulkhead(final Func<X, Y> fnc, final Bulkhead bulkhead) {
+        this(fnc, bulkhead, Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param bulkhead The bulkhead
+     * @param timeout How long to wait for a place
+     */
+    public FuncWithBulkhead(final Func<X, Y> fnc, final Bulkhead bulkhead,
+        final Duration timeout) {
+        this.func = fnc;
+        this.bulkhead = bulkhead;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        if (!this.bulkhead.acquire(this.timeout)) {
+            throw new RejectedExecutionException("The bulkhead is full");
+        }
+        final long start = System.nanoTime();
+        try {
+            return this.func.apply(input);
+        } finally {
+            this.bulkhead.release(System.nanoTime() - start);
+        }
+    }
+}
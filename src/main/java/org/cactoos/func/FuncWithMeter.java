@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import org.cactoos.Func;
+
+/**
+ * Func, which records its calls in a {@link Meter}.
+ *
+ * <p>Objects of this class are thread safe, if the original func is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class FuncWithMeter<X, Y> implements Func<X, Y> {
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * The meter.
+     */
+    private final Meter meter;
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param meter The meter
+     */
+    public FuncWithMeter(final Func<X, Y> fnc, final Meter meter) {
+        this.func = fnc;
+        this.meter = meter;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public Y apply(final X input) throws Exception {
+        final long start = System.nanoTime();
+        final Y result;
+        try {
+            result = this.func.apply(input);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception | Error ex) {
+            this.meter.failed(System.nanoTime() - start);
+            throw ex;
+        }
+        this.meter.succeeded(System.nanoTime() - start);
+        return result;
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.cactoos.scalar.ThreadPerTask;
+
+/**
+ * Func, which calls the original func once more, if the first call
+ * is too slow.
+ *
+ * <p>The first call runs in a worker thread, like in {@link Timed}.
+ * If it doesn't finish in time, the second call is made in another
+ * worker and the result of the one, which finishes first, is returned,
+ * while the other is interrupted. An exception is thrown only if both
+ * calls fail. So the func must be idempotent, like a read from
+ * a replicated storage:</p>
+ *
+ * <pre>{@code
+ * final Func<String, Profile> func = new Hedged<>(
+ *     id -> replicas.any().profile(id), Duration.ofMillis(50L), 10
+ * );
+ * }</pre>
+ *
+ * <p>The delay may be fixed, or tracked: a quantile of the latency of
+ * the last calls, for example the 95th percentile. At most
+ * {@code hedges} second calls may be in progress at the same time,
+ * all others just wait for their first calls, so the load on the
+ * dependency grows only a little, even when it is slow.</p>
+ *
+ * <p>Only latencies of the first calls are tracked, even when the second
+ * ones win, otherwise fast second calls would pull the delay down and
+ * make hedging more and more frequent. The first call, which lost and
+ * got cancelled, is tracked with the time it ran until then.</p>
+ *
+ * <p>By default workers are taken from the shared
+ * {@link ThreadPerTask} executor, just like in {@link Timed}. If the
+ * executor rejects the second call, the result of the first one
+ * is returned.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original func is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class Hedged<X, Y> implements Func<X, Y> {
+
+    /**
+     * Number of latencies to track.
+     */
+    private static final int WINDOW = 100;
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * Latencies of the last calls.
+     */
+    private final Latencies latencies;
+
+    /**
+     * Delay to use, until there are enough latencies, in nanoseconds.
+     */
+    private final long initial;
+
+    /**
+     * Maximum number of second calls in progress.
+     */
+    private final int hedges;
+
+    /**
+     * Number of second calls in progress.
+     */
+    private final AtomicInteger active;
+
+    /**
+     * Executor of workers.
+     */
+    private final Executor exec;
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param delay How long to wait before the second call
+     * @param hedges Maximum number of second calls in progress
+     */
+    public Hedged(final Func<X, Y> fnc, final Duration delay,
+        final int hedges) {
+        this(fnc, delay, hedges, new ThreadPerTask().value());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param delay How long to wait before the second call
+     * @param hedges Maximum number of second calls in progress
+     * @param exec Executor of workers
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Hedged(final Func<X, Y> fnc, final Duration delay,
+        final int hedges, final Executor exec) {
+        this(fnc, new Latencies(0, 1.0d), delay, hedges, exec);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param quantile Quantile of the latency of the last calls to wait,
+     *  for example 0.95
+     * @param initial How long to wait, until there are enough calls
+     * @param hedges Maximum number of second calls in progress
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Hedged(final Func<X, Y> fnc, final double quantile,
+        final Duration initial, final int hedges) {
+        this(fnc, quantile, initial, hedges, new ThreadPerTask().value());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param quantile Quantile of the latency of the last calls to wait,
+     *  for example 0.95
+     * @param initial How long to wait, until there are enough calls
+     * @param hedges Maximum number of second calls in progress
+     * @param exec Executor of workers
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Hedged(final Func<X, Y> fnc, final double quantile,
+        final Duration initial, final int hedges, final Executor exec) {
+        this(
+            fnc, new Latencies(Hedged.WINDOW, quantile), initial, hedges, exec
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param latencies Latencies of the last first calls
+     * @param initial How long to wait, until there are enough latencies
+     * @param hedges Maximum number of second calls in progress
+     * @param exec Executor of workers
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Hedged(final Func<X, Y> fnc, final Latencies latencies,
+        final Duration initial, final int hedges, final Executor exec) {
+        this.func = fnc;
+        this.latencies = latencies;
+        this.initial = initial.toNanos();
+        this.hedges = hedges;
+        this.active = new AtomicInteger();
+        this.exec = exec;
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final CompletableFuture<Y> result = new CompletableFuture<>();
+        final AtomicInteger pending = new AtomicInteger(1);
+        final FutureTask<Y> first = this.call(
+            input, result, pending, this.latencies
+        );
+        try {
+            try {
+                result.get(
+                    this.latencies.quantile(this.initial),
+                    TimeUnit.NANOSECONDS
+                );
+            } catch (final TimeoutException ex) {
+                this.hedge(input, result, pending);
+            }
+            return result.get();
+        } catch (final ExecutionException ex) {
+            throw new CauseOf(ex).value();
+        } finally {
+            first.cancel(true);
+        }
+    }
+
+    /**
+     * Make the second call, if allowed, and wait for any result.
+     *
+     * <p>If the executor rejects the second call, the first one
+     * is waited for.</p>
+     *
+     * @param input The input
+     * @param result The result to complete
+     * @param pending Number of calls in progress
+     * @throws Exception If fails
+     */
+    private void hedge(final X input, final CompletableFuture<Y> result,
+        final AtomicInteger pending) throws Exception {
+        try {
+            if (this.active.incrementAndGet() <= this.hedges) {
+                pending.incrementAndGet();
+                final FutureTask<Y> second = this.call(
+                    input, result, pending, new Latencies(0, 1.0d)
+                );
+                try {
+                    result.get();
+                } finally {
+                    second.cancel(true);
+                }
+            }
+        } catch (final RejectedExecutionException ex) {
+            if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(ex);
+            }
+        } finally {
+            this.active.decrementAndGet();
+        }
+    }
+
+    /**
+     * Call the original func in a worker.
+     * @param input The input
+     * @param result The result to complete
+     * @param pending Number of calls in progress
+     * @param track Latencies to record the latency of the call to
+     * @return The call
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private FutureTask<Y> call(final X input, final CompletableFuture<Y> result,
+        final AtomicInteger pending, final Latencies track) {
+        final FutureTask<Y> task = new FutureTask<>(
+            () -> {
+                final long start = System.nanoTime();
+                try {
+                    result.complete(this.func.apply(input));
+                    track.record(System.nanoTime() - start);
+                    // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Exception | Error ex) {
+                    if (result.isDone()) {
+                        track.record(System.nanoTime() - start);
+                    }
+                    if (pending.decrementAndGet() == 0) {
+                        result.completeExceptionally(ex);
+                    }
+                }
+                return null;
+            }
+        );
+        this.exec.execute(task);
+        return task;
+    }
+}
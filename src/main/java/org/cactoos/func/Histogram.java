@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear histogram of non-negative values.
+ *
+ * <p>Every power of two is split into {@code 2^BITS} equal buckets,
+ * so a value is counted with a relative error of no more than
+ * {@code 2^-BITS}, about three percent, while values below
+ * {@code 2^BITS} are counted exactly. The memory is fixed and recording
+ * is a single atomic increment, without locks.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+final class Histogram {
+
+    /**
+     * Number of bits of a value, which are kept.
+     */
+    private static final int BITS = 5;
+
+    /**
+     * Number of buckets per power of two.
+     */
+    private static final int SUB = 1 << Histogram.BITS;
+
+    /**
+     * Counts of values in buckets.
+     */
+    private final AtomicLongArray counts;
+
+    /**
+     * Ctor.
+     */
+    Histogram() {
+        this.counts = new AtomicLongArray(
+            (Long.SIZE - Histogram.BITS) * Histogram.SUB
+        );
+    }
+
+    /**
+     * Count the value.
+     * @param value The value, negative ones are counted as zero
+     */
+    void record(final long value) {
+        this.counts.incrementAndGet(Histogram.bucket(Math.max(0L, value)));
+    }
+
+    /**
+     * The value, which the given share of values doesn't exceed.
+     * @param quantile The share, between zero and one
+     * @return The lowest value of the bucket, or zero if it's empty
+     */
+    long quantile(final double quantile) {
+        long total = 0L;
+        for (int idx = 0; idx < this.counts.length(); ++idx) {
+            total += this.counts.get(idx);
+        }
+        final long target = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0L;
+        long result = 0L;
+        for (int idx = 0; idx < this.counts.length(); ++idx) {
+            seen += this.counts.get(idx);
+            if (seen >= target) {
+                result = Histogram.lowest(idx);
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Bucket of the value.
+     * @param value The value
+     * @return Index of the bucket
+     */
+    private static int bucket(final long value) {
+        final int result;
+        if (value < Histogram.SUB) {
+            result = (int) value;
+        } else {
+            final int power = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+            final int shift = power - Histogram.BITS;
+            result = (shift + 1) * Histogram.SUB
+                + (int) (value >>> shift) - Histogram.SUB;
+        }
+        return result;
+    }
+
+    /**
+     * The lowest value of the bucket.
+     * @param bucket Index of the bucket
+     * @return The value
+     */
+    private static long lowest(final int bucket) {
+        final long result;
+        if (bucket < Histogram.SUB) {
+            result = bucket;
+        } else {
+            final int shift = bucket / Histogram.SUB - 1;
+            result = (long) (Histogram.SUB + bucket % Histogram.SUB) << shift;
+        }
+        return result;
+    }
+}
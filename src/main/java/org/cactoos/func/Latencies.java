@@ -0,0 +1,128 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latencies of the last calls.
+ *
+ * <p>The quantile is calculated again only after every {@code period}
+ * records, not on every request, since it copies and sorts the
+ * whole window.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+final class Latencies {
+
+    /**
+     * The latencies, in nanoseconds.
+     */
+    private final AtomicLongArray recent;
+
+    /**
+     * Number of recorded latencies.
+     */
+    private final AtomicLong count;
+
+    /**
+     * The share of calls, between zero and one.
+     */
+    private final double share;
+
+    /**
+     * Number of records, after which the quantile is calculated again.
+     */
+    private final long period;
+
+    /**
+     * Number of records, when the quantile was calculated last time.
+     */
+    private final AtomicLong calculated;
+
+    /**
+     * The last calculated quantile, in nanoseconds, or a negative
+     * number, if it is not calculated yet.
+     */
+    private final AtomicLong last;
+
+    /**
+     * Ctor.
+     * @param window Number of latencies to keep
+     * @param share The share of calls, between zero and one
+     */
+    Latencies(final int window, final double share) {
+        this(window, share, Math.max(1L, window / 10L));
+    }
+
+    /**
+     * Ctor.
+     * @param window Number of latencies to keep
+     * @param share The share of calls, between zero and one
+     * @param period Number of records, after which the quantile
+     *  is calculated again
+     */
+    Latencies(final int window, final double share, final long period) {
+        this.recent = new AtomicLongArray(window);
+        this.count = new AtomicLong();
+        this.share = share;
+        this.period = period;
+        this.calculated = new AtomicLong(-period);
+        this.last = new AtomicLong(-1L);
+    }
+
+    /**
+     * Record a latency.
+     * @param nanos The latency, in nanoseconds
+     */
+    void record(final long nanos) {
+        if (this.recent.length() > 0) {
+            this.recent.set(
+                (int) (this.count.getAndIncrement() % this.recent.length()),
+                nanos
+            );
+        }
+    }
+
+    /**
+     * The latency, which the share of the last calls didn't exceed.
+     * @param initial The latency to use, until the window is full
+     * @return The latency, in nanoseconds
+     */
+    long quantile(final long initial) {
+        final int size = this.recent.length();
+        final long total = this.count.get();
+        long result = initial;
+        if (size > 0 && total >= size) {
+            final long before = this.calculated.get();
+            if (total - before >= this.period
+                && this.calculated.compareAndSet(before, total)) {
+                this.last.set(this.calculate());
+            }
+            if (this.last.get() >= 0L) {
+                result = this.last.get();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculate the quantile of the window.
+     * @return The latency, in nanoseconds
+     */
+    private long calculate() {
+        final int size = this.recent.length();
+        final long[] sorted = new long[size];
+        for (int idx = 0; idx < size; ++idx) {
+            sorted[idx] = this.recent.get(idx);
+        }
+        Arrays.sort(sorted);
+        return sorted[Math.max(0, (int) Math.ceil(this.share * size) - 1)];
+    }
+}
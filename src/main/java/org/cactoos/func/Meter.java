@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.cactoos.Scalar;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+
+/**
+ * Meter of calls: how many, how many failed and how long they took.
+ *
+ * <p>Give the same object to {@link FuncWithMeter},
+ * {@link BiFuncWithMeter}, {@link org.cactoos.scalar.ScalarWithMeter}
+ * or {@link org.cactoos.proc.ProcWithMeter} and read a snapshot of it
+ * whenever needed:</p>
+ *
+ * <pre>{@code
+ * final Meter meter = new Meter();
+ * final Func<String, Document> func = new FuncWithMeter<>(
+ *     name -> new Document(name), meter
+ * );
+ * // ...
+ * final long slowest = meter.value().get("p99");
+ * }</pre>
+ *
+ * <p>The snapshot contains the number of {@code calls} and
+ * {@code errors}, and the {@code mean}, {@code max}, {@code p50},
+ * {@code p90}, {@code p99} and {@code p999} latency of calls, both
+ * successful and failed, in nanoseconds. Latencies are kept in
+ * a log-linear histogram of fixed size, so percentiles are precise
+ * to about three percent. Recording doesn't lock; a snapshot taken
+ * during concurrent updates may be slightly inconsistent.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+public final class Meter implements Scalar<Map<String, Long>> {
+
+    /**
+     * Calls.
+     */
+    private final LongAdder calls;
+
+    /**
+     * Failed calls.
+     */
+    private final LongAdder errors;
+
+    /**
+     * Total time of calls, in nanoseconds.
+     */
+    private final LongAdder time;
+
+    /**
+     * The longest call, in nanoseconds.
+     */
+    private final AtomicLong longest;
+
+    /**
+     * Latencies.
+     */
+    private final Histogram latencies;
+
+    /**
+     * Ctor.
+     */
+    public Meter() {
+        this.calls = new LongAdder();
+        this.errors = new LongAdder();
+        this.time = new LongAdder();
+        this.longest = new AtomicLong();
+        this.latencies = new Histogram();
+    }
+
+    /**
+     * Record a successful call.
+     * @param nanos Duration of the call, in nanoseconds
+     */
+    public void succeeded(final long nanos) {
+        this.calls.increment();
+        this.time.add(nanos);
+        long max = this.longest.get();
+        while (nanos > max && !this.longest.compareAndSet(max, nanos)) {
+            max = this.longest.get();
+        }
+        this.latencies.record(nanos);
+    }
+
+    /**
+     * Record a failed call.
+     * @param nanos Duration of the call, in nanoseconds
+     */
+    public void failed(final long nanos) {
+        this.errors.increment();
+        this.succeeded(nanos);
+    }
+
+    @Override
+    public Map<String, Long> value() {
+        final long count = this.calls.sum();
+        return new MapOf<>(
+            new MapEntry<>("calls", count),
+            new MapEntry<>("errors", this.errors.sum()),
+            new MapEntry<>("mean", this.time.sum() / Math.max(1L, count)),
+            new MapEntry<>("max", this.longest.get()),
+            new MapEntry<>("p50", this.latencies.quantile(0.5d)),
+            new MapEntry<>("p90", this.latencies.quantile(0.9d)),
+            new MapEntry<>("p99", this.latencies.quantile(0.99d)),
+            new MapEntry<>("p999", this.latencies.quantile(0.999d))
+        );
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.cactoos.Func;
+
+/**
+ * Wait before the next attempt, which emits the {@code org.cactoos.Retry}
+ * flight recorder event for every failed attempt of {@link Retry}.
+ *
+ * <p>The event carries the number of the attempt and the wait. It is
+ * disabled by default, enable it in the recording settings. Together
+ * with {@link RecordedFunc} around the func it shows every attempt
+ * and the pause after it:</p>
+ *
+ * <pre>{@code
+ * final Func<String, Profile> func = new Retry<>(
+ *     new RecordedFunc<>(id -> backend.profile(id), "profile"),
+ *     5,
+ *     new RecordedBackoff(new ExponentialBackoff(Duration.ofMillis(100L)))
+ * );
+ * }</pre>
+ *
+ * <p>The class needs the {@code jdk.jfr} module at runtime.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original
+ * backoff is.</p>
+ *
+ * @since 1.0
+ */
+public final class RecordedBackoff implements Func<Integer, Duration> {
+
+    /**
+     * The original backoff.
+     */
+    private final Func<Integer, Duration> origin;
+
+    /**
+     * Ctor.
+     * @param origin The original backoff
+     */
+    public RecordedBackoff(final Func<Integer, Duration> origin) {
+        this.origin = origin;
+    }
+
+    @Override
+    public Duration apply(final Integer attempt) throws Exception {
+        final Duration wait = this.origin.apply(attempt);
+        final RetryEvent event = new RetryEvent();
+        if (event.isEnabled()) {
+            event.failed(attempt, wait);
+        }
+        return wait;
+    }
+}
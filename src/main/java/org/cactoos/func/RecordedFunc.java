@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import org.cactoos.Func;
+
+/**
+ * Func, which emits the {@code org.cactoos.Call} flight recorder event.
+ *
+ * <p>The event is disabled by default, enable it in the recording
+ * settings. When it's disabled, the original func is called as is.
+ * Wrap the func given to {@link Retry} to get an event for every
+ * attempt, and give it {@link RecordedBackoff} to get its waits:</p>
+ *
+ * <pre>{@code
+ * final Func<String, Profile> func = new Retry<>(
+ *     new RecordedFunc<>(id -> backend.profile(id), "profile"),
+ *     5,
+ *     new RecordedBackoff(new ExponentialBackoff(Duration.ofMillis(100L)))
+ * );
+ * }</pre>
+ *
+ * <p>The class needs the {@code jdk.jfr} module at runtime.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class RecordedFunc<X, Y> implements Func<X, Y> {
+
+    /**
+     * Name of the func.
+     */
+    private final String name;
+
+    /**
+     * Original func.
+     */
+    private final Func<? super X, ? extends Y> func;
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param name Name of the func
+     */
+    public RecordedFunc(final Func<? super X, ? extends Y> fnc,
+        final String name) {
+        this.name = name;
+        this.func = fnc;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public Y apply(final X input) throws Exception {
+        final CallEvent event = new CallEvent(this.name);
+        final Y result;
+        if (event.isEnabled()) {
+            event.begin();
+            try {
+                result = this.func.apply(input);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception | Error ex) {
+                event.failed(ex);
+                throw ex;
+            }
+            event.succeeded();
+        } else {
+            result = this.func.apply(input);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.cactoos.Func;
+import org.cactoos.scalar.ThreadPerTask;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Func that caches calculated values for a limited time and refreshes
+ * them in background before they expire.
+ *
+ * <p>A value older than {@code refresh} is still returned, while
+ * a new one is being calculated by the executor. Only when a value
+ * gets older than {@code ttl} the caller has to wait for its
+ * calculation. Thus, as long as a value is requested often enough,
+ * the callers never wait:</p>
+ *
+ * <pre>{@code
+ * final Func<String, Config> configs = new Refreshing<>(
+ *     name -> new Config(name),
+ *     Duration.ofMinutes(4L),
+ *     Duration.ofMinutes(5L)
+ * );
+ * }</pre>
+ *
+ * <p>If a background calculation fails, the stale value is kept
+ * until it expires. At most one background calculation per input
+ * is running at a time and concurrent callers, which wait for the same
+ * missing value, share one calculation. Background calculations run in
+ * the shared {@link ThreadPerTask} executor, unless another one is
+ * given.</p>
+ *
+ * <p>The {@code refresh} age must be shorter than {@code ttl}, otherwise
+ * the constructor throws {@link IllegalArgumentException}. Time is
+ * measured by a monotonic ticker, {@link System#nanoTime()} by default,
+ * so a step of the wall clock doesn't expire values early or keep
+ * them too long.</p>
+ *
+ * <p>Expired values are purged at most once per {@code ttl}, when a new
+ * value is stored. When the size of the cache is limited, arbitrary
+ * entries are evicted once the limit is exceeded.</p>
+ *
+ * <p>NULL inputs are not supported.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see Expiring
+ * @since 1.0
+ */
+public final class Refreshing<X, Y> implements Func<X, Y> {
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * Func, which calculates missing values, one per input at a time.
+     */
+    private final Func<X, Y> loader;
+
+    /**
+     * Cache.
+     */
+    private final Map<X, Stamped<Y>> cache;
+
+    /**
+     * Inputs being refreshed right now.
+     */
+    private final Set<X> running;
+
+    /**
+     * Age after which a value is refreshed, in nanoseconds.
+     */
+    private final long refresh;
+
+    /**
+     * Time to live, in nanoseconds.
+     */
+    private final long ttl;
+
+    /**
+     * Executor of background calculations.
+     */
+    private final Executor executor;
+
+    /**
+     * Maximum cache size.
+     */
+    private final int size;
+
+    /**
+     * The moment of the last purge, in nanoseconds.
+     */
+    private final AtomicLong purged;
+
+    /**
+     * The ticker, which returns the current moment in nanoseconds.
+     */
+    private final LongSupplier ticker;
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param refresh Age after which a value is refreshed
+     * @param ttl Time to live
+     */
+    public Refreshing(final Func<X, Y> fnc, final Duration refresh,
+        final Duration ttl) {
+        this(fnc, refresh, ttl, new ThreadPerTask().value());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param refresh Age after which a value is refreshed
+     * @param ttl Time to live
+     * @param exec Executor of background calculations
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Refreshing(final Func<X, Y> fnc, final Duration refresh,
+        final Duration ttl, final Executor exec) {
+        this(fnc, refresh, ttl, exec, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param refresh Age after which a value is refreshed
+     * @param ttl Time to live
+     * @param exec Executor of background calculations
+     * @param ticker The monotonic ticker, in nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Refreshing(final Func<X, Y> fnc, final Duration refresh,
+        final Duration ttl, final Executor exec, final LongSupplier ticker) {
+        this(fnc, refresh, ttl, exec, Integer.MAX_VALUE, ticker);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param refresh Age after which a value is refreshed
+     * @param ttl Time to live
+     * @param exec Executor of background calculations
+     * @param max Max cache size
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Refreshing(final Func<X, Y> fnc, final Duration refresh,
+        final Duration ttl, final Executor exec, final int max) {
+        this(fnc, refresh, ttl, exec, max, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param refresh Age after which a value is refreshed
+     * @param ttl Time to live
+     * @param exec Executor of background calculations
+     * @param max Max cache size
+     * @param ticker The monotonic ticker, in nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Refreshing(final Func<X, Y> fnc, final Duration refresh,
+        final Duration ttl, final Executor exec, final int max,
+        final LongSupplier ticker) {
+        this.func = fnc;
+        this.loader = new CoalescedFunc<>(fnc);
+        this.size = max;
+        this.purged = new AtomicLong(ticker.getAsLong());
+        this.refresh = Refreshing.shorter(refresh, ttl).toNanos();
+        this.ttl = ttl.toNanos();
+        this.executor = exec;
+        this.ticker = ticker;
+        this.cache = new ConcurrentHashMap<>(0);
+        this.running = ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        final long now = this.ticker.getAsLong();
+        final Stamped<Y> cached = this.cache.get(input);
+        final Y result;
+        if (cached == null || cached.age(now) >= this.ttl) {
+            result = this.loader.apply(input);
+            this.store(input, result);
+        } else {
+            result = cached.value();
+            if (cached.age(now) >= this.refresh && this.running.add(input)) {
+                this.reload(input);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calculate the value in background and put it into the cache.
+     * @param input The input
+     */
+    private void reload(final X input) {
+        try {
+            CompletableFuture.supplyAsync(
+                () -> new UncheckedFunc<>(this.func).apply(input),
+                this.executor
+            ).whenComplete(
+                (value, error) -> {
+                    if (error == null) {
+                        this.store(input, value);
+                    }
+                    this.running.remove(input);
+                }
+            );
+        } catch (final RejectedExecutionException ex) {
+            this.running.remove(input);
+            throw ex;
+        }
+    }
+
+    /**
+     * Put the value into the cache, purging expired and extra values.
+     * @param input The input
+     * @param value The value
+     */
+    private void store(final X input, final Y value) {
+        final long now = this.ticker.getAsLong();
+        this.cache.put(input, new Stamped<>(value, now));
+        final long last = this.purged.get();
+        if (now - last >= this.ttl && this.purged.compareAndSet(last, now)) {
+            this.cache.values().removeIf(stamped -> stamped.age(now) >= this.ttl);
+        }
+        if (this.cache.size() > this.size) {
+            final Iterator<X> keys = this.cache.keySet().iterator();
+            while (keys.hasNext() && this.cache.size() > this.size) {
+                final X key = keys.next();
+                if (!key.equals(input)) {
+                    keys.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Make sure the refresh age is shorter than the time to live.
+     * @param refresh Age after which a value is refreshed
+     * @param ttl Time to live
+     * @return The refresh age
+     */
+    private static Duration shorter(final Duration refresh,
+        final Duration ttl) {
+        if (refresh.compareTo(ttl) >= 0) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "The refresh age must be shorter than TTL: %s, %s",
+                        refresh, ttl
+                    )
+                ).asString()
+            );
+        }
+        return refresh;
+    }
+}
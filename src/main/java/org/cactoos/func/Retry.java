@@ -10,6 +10,13 @@ import org.cactoos.Func;
 /**
  * Func that will try a few times before throwing an exception.
  *
+ * <p>The wait between attempts may be fixed or may depend on the number
+ * of the failed attempt, see {@link ExponentialBackoff},
+ * {@link FullJitterBackoff} and {@link CappedBackoff}. Retries may be
+ * limited by a {@link RetryBudget} shared between many functions.
+ * The caller's thread sleeps while waiting, use {@link RetryAsync}
+ * to schedule attempts without blocking.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <X> Type of input
@@ -29,9 +36,14 @@ public final class Retry<X, Y> implements Func<X, Y> {
     private final Func<Integer, Boolean> exit;
 
     /**
-     * Wait between executions.
+     * Wait after the failed attempt.
+     */
+    private final Func<Integer, Duration> backoff;
+
+    /**
+     * Budget of retries.
      */
-    private final Duration wait;
+    private final RetryBudget budget;
 
     /**
      * Ctor.
@@ -81,9 +93,41 @@ public final class Retry<X, Y> implements Func<X, Y> {
      */
     public Retry(final Func<X, Y> fnc, final Func<Integer, Boolean> ext,
         final Duration wait) {
+        this(fnc, ext, attempt -> wait, new RetryBudget.None());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param fnc Func original
+     * @param attempts Maximum number of attempts
+     * @param backoff Wait after the failed attempt, by its number
+     * @since 1.0
+     */
+    public Retry(final Func<X, Y> fnc, final int attempts,
+        final Func<Integer, Duration> backoff) {
+        this(
+            fnc, attempt -> attempt >= attempts, backoff,
+            new RetryBudget.None()
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param fnc Func original
+     * @param ext Exit condition, returns TRUE if there is no more reason to try
+     * @param backoff Wait after the failed attempt, by its number
+     * @param budget Budget of retries
+     * @since 1.0
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Retry(final Func<X, Y> fnc, final Func<Integer, Boolean> ext,
+        final Func<Integer, Duration> backoff, final RetryBudget budget) {
         this.func = fnc;
         this.exit = ext;
-        this.wait = wait;
+        this.backoff = backoff;
+        this.budget = budget;
     }
 
     @Override
@@ -93,7 +137,9 @@ public final class Retry<X, Y> implements Func<X, Y> {
         Exception error = new IllegalArgumentException(
             "An immediate exit, didn't have a chance to try at least once"
         );
-        while (!this.exit.apply(attempt)) {
+        this.budget.deposit();
+        boolean more = !this.exit.apply(attempt);
+        while (more) {
             try {
                 return this.func.apply(input);
             } catch (final InterruptedException ex) {
@@ -104,9 +150,10 @@ public final class Retry<X, Y> implements Func<X, Y> {
             } catch (final Exception ex) {
                 error = ex;
             }
-            if (!this.wait.isZero() && !this.wait.isNegative()) {
+            more = !this.exit.apply(attempt + 1) && this.budget.withdraw();
+            if (more) {
                 try {
-                    Thread.sleep(this.wait.toMillis());
+                    this.pause(attempt);
                 } catch (final InterruptedException ex) {
                     error = ex;
                     break;
@@ -117,4 +164,15 @@ public final class Retry<X, Y> implements Func<X, Y> {
         throw error;
     }
 
+    /**
+     * Wait before the next attempt.
+     * @param attempt Number of the failed attempt
+     * @throws Exception If fails or interrupted
+     */
+    private void pause(final int attempt) throws Exception {
+        final Duration wait = this.backoff.apply(attempt);
+        if (!wait.isZero() && !wait.isNegative()) {
+            Thread.sleep(wait.toMillis());
+        }
+    }
 }
@@ -0,0 +1,247 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Func;
+import org.cactoos.scalar.ThreadPerTask;
+
+/**
+ * Asynchronous func that will try a few times before failing,
+ * without blocking any thread between attempts.
+ *
+ * <p>The next attempt is scheduled in a shared daemon scheduler, after
+ * the wait given by the backoff for the number of the failed attempt.
+ * When the time comes, the scheduler hands the attempt to the executor,
+ * the shared {@link ThreadPerTask} executor by default, so even
+ * a blocking func doesn't hold up other timers. Still, the func is
+ * expected to return quickly, for example it may be
+ * a {@link Completable}:</p>
+ *
+ * <pre>{@code
+ * final Func<String, CompletableFuture<Profile>> func = new RetryAsync<>(
+ *     new Completable<>(id -> backend.profile(id)),
+ *     5,
+ *     new FullJitterBackoff(Duration.ofMillis(50L), Duration.ofSeconds(5L))
+ * );
+ * }</pre>
+ *
+ * <p>When there is no more reason to try, or the {@link RetryBudget}
+ * is exhausted, the future completes exceptionally with
+ * the last exception. An {@link Error} is not retried, the future
+ * completes exceptionally with it at once. If the caller cancels or
+ * completes the future, no more attempts are made.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original func,
+ * the exit condition and the backoff are.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see Retry
+ * @since 1.0
+ */
+public final class RetryAsync<X, Y> implements Func<X, CompletableFuture<Y>> {
+
+    /**
+     * Original func.
+     */
+    private final Func<X, ? extends CompletionStage<Y>> func;
+
+    /**
+     * Exit condition.
+     */
+    private final Func<Integer, Boolean> exit;
+
+    /**
+     * Wait after the failed attempt.
+     */
+    private final Func<Integer, Duration> backoff;
+
+    /**
+     * Budget of retries.
+     */
+    private final RetryBudget budget;
+
+    /**
+     * Scheduler of attempts.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Executor of attempts.
+     */
+    private final Executor executor;
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param attempts Maximum number of attempts
+     * @param backoff Wait after the failed attempt, by its number
+     */
+    public RetryAsync(final Func<X, ? extends CompletionStage<Y>> fnc,
+        final int attempts, final Func<Integer, Duration> backoff) {
+        this(
+            fnc, attempt -> attempt >= attempts, backoff,
+            new RetryBudget.None()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param ext Exit condition, returns TRUE if there is no more reason to try
+     * @param backoff Wait after the failed attempt, by its number
+     * @param budget Budget of retries
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RetryAsync(final Func<X, ? extends CompletionStage<Y>> fnc,
+        final Func<Integer, Boolean> ext,
+        final Func<Integer, Duration> backoff, final RetryBudget budget) {
+        this(fnc, ext, backoff, budget, new DaemonScheduler().value());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param ext Exit condition, returns TRUE if there is no more reason to try
+     * @param backoff Wait after the failed attempt, by its number
+     * @param budget Budget of retries
+     * @param scheduler Scheduler of attempts
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RetryAsync(final Func<X, ? extends CompletionStage<Y>> fnc,
+        final Func<Integer, Boolean> ext,
+        final Func<Integer, Duration> backoff, final RetryBudget budget,
+        final ScheduledExecutorService scheduler) {
+        this(fnc, ext, backoff, budget, scheduler, new ThreadPerTask().value());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param ext Exit condition, returns TRUE if there is no more reason to try
+     * @param backoff Wait after the failed attempt, by its number
+     * @param budget Budget of retries
+     * @param scheduler Scheduler of attempts
+     * @param exec Executor of attempts
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public RetryAsync(final Func<X, ? extends CompletionStage<Y>> fnc,
+        final Func<Integer, Boolean> ext,
+        final Func<Integer, Duration> backoff, final RetryBudget budget,
+        final ScheduledExecutorService scheduler, final Executor exec) {
+        this.func = fnc;
+        this.exit = ext;
+        this.backoff = backoff;
+        this.budget = budget;
+        this.scheduler = scheduler;
+        this.executor = exec;
+    }
+
+    @Override
+    public CompletableFuture<Y> apply(final X input) throws Exception {
+        final CompletableFuture<Y> result = new CompletableFuture<>();
+        this.budget.deposit();
+        if (this.exit.apply(0)) {
+            result.completeExceptionally(
+                new IllegalArgumentException(
+                    "An immediate exit, didn't have a chance to try at least once"
+                )
+            );
+        } else {
+            this.attempt(input, 0, result);
+        }
+        return result;
+    }
+
+    /**
+     * Make the attempt and schedule the next one if it fails.
+     * @param input The input
+     * @param attempt Number of the attempt
+     * @param result The future to complete
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void attempt(final X input, final int attempt,
+        final CompletableFuture<Y> result) {
+        if (!result.isDone()) {
+            CompletionStage<Y> stage;
+            try {
+                stage = this.func.apply(input);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception | Error ex) {
+                stage = CompletableFuture.failedFuture(ex);
+            }
+            stage.whenComplete(
+                (value, error) -> {
+                    if (error == null) {
+                        result.complete(value);
+                    } else if (error instanceof CompletionException
+                        && error.getCause() != null) {
+                        this.retry(input, attempt, result, error.getCause());
+                    } else {
+                        this.retry(input, attempt, result, error);
+                    }
+                }
+            );
+        }
+    }
+
+    /**
+     * Schedule the next attempt, if there is a reason to try.
+     * @param input The input
+     * @param attempt Number of the failed attempt
+     * @param result The future to complete
+     * @param error The failure
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void retry(final X input, final int attempt,
+        final CompletableFuture<Y> result, final Throwable error) {
+        if (!result.isDone()) {
+            try {
+                if (error instanceof Error || this.exit.apply(attempt + 1)
+                    || !this.budget.withdraw()) {
+                    result.completeExceptionally(error);
+                } else {
+                    this.scheduler.schedule(
+                        () -> this.start(input, attempt + 1, result),
+                        Math.max(0L, this.backoff.apply(attempt).toNanos()),
+                        TimeUnit.NANOSECONDS
+                    );
+                }
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception | Error ex) {
+                ex.addSuppressed(error);
+                result.completeExceptionally(ex);
+            }
+        }
+    }
+
+    /**
+     * Hand the attempt to the executor.
+     * @param input The input
+     * @param attempt Number of the attempt
+     * @param result The future to complete
+     */
+    private void start(final X input, final int attempt,
+        final CompletableFuture<Y> result) {
+        if (!result.isDone()) {
+            try {
+                this.executor.execute(
+                    () -> this.attempt(input, attempt, result)
+                );
+            } catch (final RejectedExecutionException ex) {
+                result.completeExceptionally(ex);
+            }
+        }
+    }
+}
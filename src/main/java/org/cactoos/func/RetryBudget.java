@@ -0,0 +1,131 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Budget of retries, shared by all calls to a dependency.
+ *
+ * <p>Every call deposits into the budget and every retry withdraws
+ * from it. When the dependency is down, a limited budget is soon
+ * exhausted and calls fail after the first attempt, instead of
+ * multiplying the load on it:</p>
+ *
+ * <pre>{@code
+ * final RetryBudget budget = new RetryBudget.Ratio(0.1d, 10);
+ * final Func<String, Profile> profiles = new Retry<>(
+ *     id -> backend.profile(id), attempt -> attempt >= 3,
+ *     new ExponentialBackoff(Duration.ofMillis(50L)), budget
+ * );
+ * final Func<String, Avatar> avatars = new Retry<>(
+ *     id -> backend.avatar(id), attempt -> attempt >= 3,
+ *     new ExponentialBackoff(Duration.ofMillis(50L)), budget
+ * );
+ * }</pre>
+ *
+ * @see Retry
+ * @since 1.0
+ */
+public interface RetryBudget {
+
+    /**
+     * Record a call.
+     */
+    void deposit();
+
+    /**
+     * Take one retry from the budget.
+     * @return TRUE if the retry is allowed
+     */
+    boolean withdraw();
+
+    /**
+     * Budget, which limits retries to a share of calls.
+     *
+     * <p>Every call deposits {@code ratio} of a retry into the budget and
+     * every retry withdraws a whole one, so in the long run there are no
+     * more retries than {@code ratio} of the calls. The budget starts
+     * full and never holds more than {@code reserve} retries, which
+     * allows a short burst.</p>
+     *
+     * <p>Objects of this class are thread safe.</p>
+     *
+     * @since 1.0
+     */
+    final class Ratio implements RetryBudget {
+
+        /**
+         * Cost of one retry.
+         */
+        private static final long RETRY = 1000L;
+
+        /**
+         * Share of a retry, deposited by one call.
+         */
+        private final long share;
+
+        /**
+         * Maximum balance.
+         */
+        private final long max;
+
+        /**
+         * Current balance.
+         */
+        private final AtomicLong balance;
+
+        /**
+         * Ctor.
+         * @param ratio Maximum ratio of retries to calls
+         * @param reserve Maximum number of retries in a burst
+         */
+        public Ratio(final double ratio, final int reserve) {
+            this.share = (long) (ratio * RetryBudget.Ratio.RETRY);
+            this.max = reserve * RetryBudget.Ratio.RETRY;
+            this.balance = new AtomicLong(this.max);
+        }
+
+        @Override
+        public void deposit() {
+            this.balance.accumulateAndGet(
+                this.share, (current, add) -> Math.min(this.max, current + add)
+            );
+        }
+
+        @Override
+        public boolean withdraw() {
+            long current = this.balance.get();
+            while (current >= RetryBudget.Ratio.RETRY
+                && !this.balance.compareAndSet(
+                    current, current - RetryBudget.Ratio.RETRY
+                )) {
+                current = this.balance.get();
+            }
+            return current >= RetryBudget.Ratio.RETRY;
+        }
+    }
+
+    /**
+     * No budget, all retries are allowed.
+     *
+     * <p>It keeps no state, so calls don't contend on it.</p>
+     *
+     * <p>This class is immutable and thread-safe.</p>
+     *
+     * @since 1.0
+     */
+    final class None implements RetryBudget {
+        @Override
+        public void deposit() {
+            // Nothing to record
+        }
+
+        @Override
+        public boolean withdraw() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event of a failed attempt, made by {@link Retry},
+ * see {@link RecordedBackoff}.
+ *
+ * <p>The event is disabled by default, enable {@code org.cactoos.Retry}
+ * in the recording settings to get it.</p>
+ *
+ * @since 1.0
+ */
+@Name("org.cactoos.Retry")
+@Label("Retry")
+@Category({"Cactoos", "Func"})
+@Description("Failed attempt of a call, which may be retried")
+@Enabled(false)
+@StackTrace(false)
+@SuppressWarnings("PMD.SingularField")
+final class RetryEvent extends Event {
+
+    /**
+     * Number of the attempt, starting from zero.
+     */
+    @Label("Attempt")
+    private int attempt;
+
+    /**
+     * Wait before the next attempt.
+     */
+    @Label("Backoff")
+    @Timespan(Timespan.MILLISECONDS)
+    private long backoff;
+
+    /**
+     * Commit the failed attempt.
+     * @param number Number of the attempt
+     * @param wait Wait before the next attempt
+     */
+    void failed(final int number, final Duration wait) {
+        this.attempt = number;
+        this.backoff = wait.toMillis();
+        this.commit();
+    }
+}
@@ -4,11 +4,23 @@
  */
 package org.cactoos.func;
 
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
 
 /**
  * BiFunc that is thread-safe and sticky.
  *
+ * <p>It works exactly as {@link SolidFunc}, without a global lock.</p>
+ *
+ * <p>Results are stored by pairs of arguments, which are made anew on
+ * every call, so don't store them in {@link org.cactoos.map.WeakKeys}:
+ * nobody refers to the pairs and results would be forgotten at the next
+ * garbage collection. {@link org.cactoos.map.SoftValues} works fine.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @param <X> Type of first input
@@ -33,6 +45,52 @@ public final class SolidBiFunc<X, Y, Z> extends BiFuncEnvelope<X, Y, Z> {
      * @since 0.26
      */
     public SolidBiFunc(final BiFunc<X, Y, Z> fnc, final int max) {
-        super(new SyncBiFunc<>(new StickyBiFunc<>(fnc, max)));
+        this(fnc, max, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param max Max buffer length
+     * @param stats Statistics to record
+     * @since 1.0
+     */
+    public SolidBiFunc(final BiFunc<X, Y, Z> fnc, final int max,
+        final CacheStats stats) {
+        this(
+            new SolidFunc<Map.Entry<X, Y>, Z>(
+                entry -> fnc.apply(entry.getKey(), entry.getValue()),
+                max,
+                stats
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param maps Factory of the storage of results
+     * @since 1.0
+     */
+    public SolidBiFunc(final BiFunc<X, Y, Z> fnc,
+        final Scalar<? extends ConcurrentMap<Object, Object>> maps) {
+        this(
+            new SolidFunc<Map.Entry<X, Y>, Z>(
+                entry -> fnc.apply(entry.getKey(), entry.getValue()),
+                maps
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Solid func of entries
+     */
+    private SolidBiFunc(final Func<Map.Entry<X, Y>, Z> fnc) {
+        super(
+            (first, second) -> fnc.apply(
+                new AbstractMap.SimpleImmutableEntry<>(first, second)
+            )
+        );
     }
 }
@@ -4,11 +4,58 @@
  */
 package org.cactoos.func;
 
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Unchecked;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
 
 /**
  * Func that is thread-safe and sticky.
  *
+ * <p>There is no global lock: a cached result is read without any
+ * locking, while a missing one is calculated only once and only the
+ * threads which asked for the same input wait for it. If the calculation
+ * fails, its exception is thrown to all of them and nothing is cached,
+ * so the next call tries again.</p>
+ *
+ * <p>When the size of the cache is limited, an arbitrary calculated
+ * entry is evicted once the limit is exceeded. Ongoing calculations are
+ * never evicted, so the limit is approximate under contention.</p>
+ *
+ * <p>Results are kept in a {@link ConcurrentHashMap} by default. Give
+ * a factory of another map instead, for example
+ * {@code SoftValues::new} to let the garbage collector reclaim them when
+ * memory runs low, or {@code WeakKeys::new} to forget the result as soon
+ * as its input is not used anywhere else, see
+ * {@link org.cactoos.map.SoftValues} and
+ * {@link org.cactoos.map.WeakKeys}.</p>
+ *
+ * <p>Hits, misses and evictions may be observed through
+ * {@link CacheStats}.</p>
+ *
+ * <p>A NULL input is supported and its result is kept apart from the
+ * map. A recursive call for the same input from the thread, which is
+ * calculating it, doesn't wait for itself: it calls the original
+ * function again, without caching, just like a reentrant lock would
+ * let it.</p>
+ *
+ * <p>A cycle between inputs, calculated by different threads, would
+ * make them wait for each other forever: for example, when the result
+ * of A needs B in one thread, while the result of B needs A in another
+ * one. Such a cycle is detected as soon as it's closed and the call,
+ * which closes it, throws {@link IllegalStateException} instead of
+ * waiting, so the calculations involved fail. Only the calls of the
+ * same object are tracked, a cycle through another function
+ * is not detected.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @param <X> Type of input
@@ -17,11 +64,46 @@ import org.cactoos.Func;
  */
 public final class SolidFunc<X, Y> implements Func<X, Y> {
 
+    /**
+     * Key of the NULL input among the owners.
+     */
+    private static final Object NIL = new Object();
+
     /**
      * Original func.
      */
     private final Func<X, Y> func;
 
+    /**
+     * Cache of calculated and ongoing results.
+     */
+    private final ConcurrentMap<X, CompletableFuture<Y>> cache;
+
+    /**
+     * Calculated or ongoing result of the NULL input.
+     */
+    private final AtomicReference<CompletableFuture<Y>> nil;
+
+    /**
+     * Threads calculating the results, by their inputs.
+     */
+    private final ConcurrentMap<Object, Thread> owners;
+
+    /**
+     * Inputs the threads are waiting for, by the threads.
+     */
+    private final ConcurrentMap<Thread, Object> waits;
+
+    /**
+     * Maximum cache size.
+     */
+    private final int size;
+
+    /**
+     * Statistics.
+     */
+    private final CacheStats stats;
+
     /**
      * Ctor.
      * @param fnc Original function
@@ -37,11 +119,290 @@ public final class SolidFunc<X, Y> implements Func<X, Y> {
      * @since 0.26
      */
     public SolidFunc(final Func<X, Y> fnc, final int max) {
-        this.func = new SyncFunc<>(new StickyFunc<>(fnc, max));
+        this(fnc, max, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param max Max caching buffer length
+     * @param stats Statistics to record
+     * @since 1.0
+     */
+    public SolidFunc(final Func<X, Y> fnc, final int max,
+        final CacheStats stats) {
+        this(fnc, new ConcurrentHashMap<>(0), max, stats);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param maps Factory of the storage of results
+     * @since 1.0
+     */
+    public SolidFunc(final Func<X, Y> fnc,
+        final Scalar<? extends ConcurrentMap<Object, Object>> maps) {
+        this(fnc, maps, Integer.MAX_VALUE, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param maps Factory of the storage of results
+     * @param max Max caching buffer length
+     * @param stats Statistics to record
+     * @since 1.0
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public SolidFunc(final Func<X, Y> fnc,
+        final Scalar<? extends ConcurrentMap<Object, Object>> maps,
+        final int max, final CacheStats stats) {
+        this(fnc, SolidFunc.<X, Y>storage(maps), max, stats);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original function
+     * @param map The storage of ongoing and calculated results
+     * @param max Max caching buffer length
+     * @param stats Statistics to record
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private SolidFunc(final Func<X, Y> fnc,
+        final ConcurrentMap<X, CompletableFuture<Y>> map, final int max,
+        final CacheStats stats) {
+        this.func = fnc;
+        this.cache = map;
+        this.nil = new AtomicReference<>();
+        this.owners = new ConcurrentHashMap<>(0);
+        this.waits = new ConcurrentHashMap<>(0);
+        this.size = max;
+        this.stats = stats;
     }
 
     @Override
     public Y apply(final X input) throws Exception {
-        return this.func.apply(input);
+        CompletableFuture<Y> future = this.cached(input);
+        if (future == null) {
+            final CompletableFuture<Y> fresh = new CompletableFuture<>();
+            future = this.putIfAbsent(input, fresh);
+            if (future == null) {
+                future = fresh;
+                this.calculate(input, fresh);
+            } else {
+                this.found(input, future);
+            }
+        } else {
+            this.found(input, future);
+        }
+        final Y result;
+        if (!future.isDone() && Thread.currentThread().equals(
+            this.owners.get(SolidFunc.key(input))
+        )) {
+            result = this.func.apply(input);
+        } else {
+            result = this.await(input, future);
+        }
+        return result;
+    }
+
+    /**
+     * Wait for the result, unless the wait closes a cycle.
+     * @param input The input
+     * @param future The result
+     * @return The result
+     * @throws Exception If the calculation fails or the wait closes
+     *  a cycle between threads
+     */
+    private Y await(final X input, final CompletableFuture<Y> future)
+        throws Exception {
+        final Thread current = Thread.currentThread();
+        final Object key = SolidFunc.key(input);
+        this.waits.put(current, key);
+        try {
+            if (!future.isDone() && this.cyclic(current, key)) {
+                throw new IllegalStateException(
+                    new UncheckedText(
+                        new FormattedText(
+                            "Cyclic wait for the result of input: %s", input
+                        )
+                    ).asString()
+                );
+            }
+            return future.get();
+        } catch (final ExecutionException ex) {
+            throw new CauseOf(ex).value();
+        } finally {
+            this.waits.remove(current);
+        }
+    }
+
+    /**
+     * Does the thread wait, through other threads, for itself?
+     * @param current The thread
+     * @param key Key of the input it waits for
+     * @return TRUE if it does
+     */
+    private boolean cyclic(final Thread current, final Object key) {
+        Thread owner = this.owners.get(key);
+        int steps = 0;
+        while (owner != null && !owner.equals(current)
+            && steps < this.waits.size()) {
+            final Object next = this.waits.get(owner);
+            if (next == null) {
+                owner = null;
+            } else {
+                owner = this.owners.get(next);
+            }
+            steps += 1;
+        }
+        return current.equals(owner);
+    }
+
+    /**
+     * Record the result found in the cache as a hit, or as a wait
+     * if another thread is still calculating it.
+     * @param input The input
+     * @param future The result found
+     */
+    private void found(final X input, final CompletableFuture<Y> future) {
+        if (future.isDone()) {
+            this.stats.hit();
+        } else if (!Thread.currentThread().equals(
+            this.owners.get(SolidFunc.key(input))
+        )) {
+            this.stats.waited();
+        }
+    }
+
+    /**
+     * Calculate the result and complete the future with it.
+     * @param input The input
+     * @param future The future to complete
+     * @throws Exception If fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void calculate(final X input, final CompletableFuture<Y> future)
+        throws Exception {
+        final long start = this.stats.nanos();
+        final Object key = SolidFunc.key(input);
+        this.owners.put(key, Thread.currentThread());
+        try {
+            future.complete(this.func.apply(input));
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception | Error ex) {
+            this.stats.failed(this.stats.nanos() - start);
+            this.remove(input, future);
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            this.owners.remove(key, Thread.currentThread());
+        }
+        this.stats.loaded(this.stats.nanos() - start);
+        if (this.cache.size() > this.size) {
+            this.evict(input, future);
+        }
+        this.stats.resized(this.cache.size());
+    }
+
+    /**
+     * Evict calculated results until the cache fits its size.
+     * @param input The input, which is just calculated
+     * @param future Its result
+     */
+    private void evict(final X input, final CompletableFuture<Y> future) {
+        final Iterator<Map.Entry<X, CompletableFuture<Y>>> entries =
+            this.cache.entrySet().iterator();
+        while (entries.hasNext() && this.cache.size() > this.size) {
+            final Map.Entry<X, CompletableFuture<Y>> entry = entries.next();
+            if (!entry.getKey().equals(input) && entry.getValue().isDone()
+                && this.cache.remove(entry.getKey(), entry.getValue())) {
+                this.stats.evicted(1L);
+            }
+        }
+        if (this.cache.size() > this.size && this.remove(input, future)) {
+            this.stats.evicted(1L);
+        }
+    }
+
+    /**
+     * Find the calculated or ongoing result.
+     * @param input The input
+     * @return The future or NULL if there is none
+     */
+    private CompletableFuture<Y> cached(final X input) {
+        final CompletableFuture<Y> future;
+        if (input == null) {
+            future = this.nil.get();
+        } else {
+            future = this.cache.get(input);
+        }
+        return future;
+    }
+
+    /**
+     * Store the future, unless there is one already.
+     * @param input The input
+     * @param fresh The future to store
+     * @return The future, which is already stored, or NULL
+     */
+    private CompletableFuture<Y> putIfAbsent(final X input,
+        final CompletableFuture<Y> fresh) {
+        final CompletableFuture<Y> future;
+        if (input == null) {
+            if (this.nil.compareAndSet(null, fresh)) {
+                future = null;
+            } else {
+                future = this.nil.get();
+            }
+        } else {
+            future = this.cache.putIfAbsent(input, fresh);
+        }
+        return future;
+    }
+
+    /**
+     * Forget the future.
+     * @param input The input
+     * @param future The future to forget
+     * @return TRUE if it was forgotten
+     */
+    private boolean remove(final X input, final CompletableFuture<Y> future) {
+        final boolean removed;
+        if (input == null) {
+            removed = this.nil.compareAndSet(future, null);
+        } else {
+            removed = this.cache.remove(input, future);
+        }
+        return removed;
+    }
+
+    /**
+     * Make the storage of results.
+     * @param maps Factory of the storage
+     * @param <X> Type of input
+     * @param <Y> Type of output
+     * @return The storage
+     */
+    @SuppressWarnings("unchecked")
+    private static <X, Y> ConcurrentMap<X, CompletableFuture<Y>> storage(
+        final Scalar<? extends ConcurrentMap<Object, Object>> maps) {
+        return (ConcurrentMap<X, CompletableFuture<Y>>) (ConcurrentMap<?, ?>)
+            new Unchecked<>(maps).value();
+    }
+
+    /**
+     * Key of the input among the owners.
+     * @param input The input
+     * @return The key
+     */
+    private static Object key(final Object input) {
+        final Object key;
+        if (input == null) {
+            key = SolidFunc.NIL;
+        } else {
+            key = input;
+        }
+        return key;
     }
 }
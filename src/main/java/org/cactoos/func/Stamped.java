@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+/**
+ * Cached value together with the moment it was stored or used.
+ *
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @param <T> Type of value
+ * @since 1.0
+ */
+final class Stamped<T> {
+
+    /**
+     * The value.
+     */
+    private final T content;
+
+    /**
+     * The moment, in nanoseconds.
+     */
+    private final long moment;
+
+    /**
+     * Ctor.
+     * @param value The value
+     * @param moment The moment, in nanoseconds
+     */
+    Stamped(final T value, final long moment) {
+        this.content = value;
+        this.moment = moment;
+    }
+
+    /**
+     * The value.
+     * @return The value
+     */
+    T value() {
+        return this.content;
+    }
+
+    /**
+     * How old it is.
+     * @param now Current moment, in nanoseconds
+     * @return Age in nanoseconds
+     */
+    long age(final long now) {
+        return now - this.moment;
+    }
+}
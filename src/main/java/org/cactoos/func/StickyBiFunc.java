@@ -4,10 +4,12 @@
  */
 package org.cactoos.func;
 
-import java.util.LinkedHashMap;
+import java.util.AbstractMap;
+import java.util.HashMap;
 import java.util.Map;
 import org.cactoos.BiFunc;
-import org.cactoos.map.MapEntry;
+import org.cactoos.Func;
+import org.cactoos.map.Lru;
 import org.cactoos.scalar.Sticky;
 
 /**
@@ -18,7 +20,13 @@ import org.cactoos.scalar.Sticky;
  * recommended to always decorate it with {@link SyncBiFunc}.</p>
  *
  * <p>This {@link BiFunc} decorator technically is an in-memory
- * cache.</p>
+ * cache. When its size is limited, the least recently used entry
+ * is evicted first, see {@link StickyFunc}.</p>
+ *
+ * <p>Results are stored by pairs of arguments, which are made anew on
+ * every call, so don't store them in {@link org.cactoos.map.WeakKeys}:
+ * nobody refers to the pairs and results would be forgotten at the next
+ * garbage collection.</p>
  *
  * <p>There is no thread-safety guarantee.
  * @param <X> Type of input
@@ -30,50 +38,58 @@ import org.cactoos.scalar.Sticky;
 public final class StickyBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
 
     /**
-     * Original func.
+     * Sticky func.
      */
-    private final BiFunc<X, Y, Z> func;
+    private final Func<Map.Entry<X, Y>, Z> func;
 
     /**
-     * Cache.
+     * Ctor.
+     * @param fnc Func original
      */
-    private final Map<Map.Entry<X, Y>, Z> cache;
+    public StickyBiFunc(final BiFunc<X, Y, Z> fnc) {
+        this(fnc, new HashMap<>(0));
+    }
 
     /**
-     * Maximum cache size.
+     * Ctor.
+     * @param fnc Func original
+     * @param max Maximum buffer size
+     * @since 0.26
      */
-    private final int size;
+    public StickyBiFunc(final BiFunc<X, Y, Z> fnc, final int max) {
+        this(fnc, new Lru<>(max));
+    }
 
     /**
      * Ctor.
      * @param fnc Func original
+     * @param map The storage of cached values
+     * @since 1.0
      */
-    public StickyBiFunc(final BiFunc<X, Y, Z> fnc) {
-        this(fnc, Integer.MAX_VALUE);
+    public StickyBiFunc(final BiFunc<X, Y, Z> fnc,
+        final Map<Map.Entry<X, Y>, Z> map) {
+        this(fnc, map, new CacheStats.None());
     }
 
     /**
      * Ctor.
      * @param fnc Func original
-     * @param max Maximum buffer size
-     * @since 0.26
+     * @param map The storage of cached values
+     * @param stats Statistics to record
+     * @since 1.0
      */
-    public StickyBiFunc(final BiFunc<X, Y, Z> fnc, final int max) {
-        this.func = fnc;
-        this.cache = new LinkedHashMap<>(0);
-        this.size = max;
+    public StickyBiFunc(final BiFunc<X, Y, Z> fnc,
+        final Map<Map.Entry<X, Y>, Z> map, final CacheStats stats) {
+        this.func = new StickyFunc<>(
+            entry -> fnc.apply(entry.getKey(), entry.getValue()),
+            map,
+            stats
+        );
     }
 
     @Override
     public Z apply(final X first, final Y second) throws Exception {
-        final Map.Entry<X, Y> key = new MapEntry<>(first, second);
-        while (this.cache.size() > this.size) {
-            this.cache.remove(this.cache.keySet().iterator().next());
-        }
-        if (!this.cache.containsKey(key)) {
-            this.cache.put(key, this.func.apply(first, second));
-        }
-        return this.cache.get(key);
+        return this.func.apply(new AbstractMap.SimpleImmutableEntry<>(first, second));
     }
 
 }
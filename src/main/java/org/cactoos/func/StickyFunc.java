@@ -4,8 +4,13 @@
  */
 package org.cactoos.func;
 
-import org.cactoos.BiFunc;
+import java.util.HashMap;
+import java.util.Map;
 import org.cactoos.Func;
+import org.cactoos.map.Lru;
+import org.cactoos.map.SoftValues;
+import org.cactoos.map.TinyLfu;
+import org.cactoos.map.WeakKeys;
 import org.cactoos.scalar.Sticky;
 
 /**
@@ -15,6 +20,35 @@ import org.cactoos.scalar.Sticky;
  * <p>This {@link Func} decorator technically is an in-memory
  * cache.</p>
  *
+ * <p>When the size of the cache is limited, the least recently used
+ * entry is evicted first, see {@link Lru}. Any other {@link Map} may be
+ * used as a storage, for example {@link TinyLfu}, which keeps the most
+ * frequently used entries even under a flood of unique keys:</p>
+ *
+ * <pre>{@code
+ * final Func<String, Document> func = new StickyFunc<>(
+ *     name -> new Document(name),
+ *     new TinyLfu<>(10_000)
+ * );
+ * }</pre>
+ *
+ * <p>Large results may be kept in {@link SoftValues}, so that the
+ * garbage collector reclaims them when memory runs low, and results
+ * which are useless once their input is gone may be kept in
+ * {@link WeakKeys} or {@link java.util.WeakHashMap}.</p>
+ *
+ * <p>Hits, misses and evictions may be observed through
+ * {@link CacheStats}.</p>
+ *
+ * <p>A hit costs one lookup in the map and a miss costs one more, to put
+ * the result. NULL results are cached too, the map keeps a private
+ * marker instead of them. Evictions are counted by the size of the map
+ * before and after the put, which replaces an entry, if the map still
+ * had one for the input.</p>
+ *
+ * <p>With the maximum size of zero nothing is cached and every call
+ * is a miss.</p>
+ *
  * <p>Pay attention that this class is not thread-safe. It is highly
  * recommended to always decorate it with {@link SyncFunc}.</p>
  *
@@ -28,16 +62,31 @@ import org.cactoos.scalar.Sticky;
 public final class StickyFunc<X, Y> implements Func<X, Y> {
 
     /**
-     * Sticky bi-func.
+     * Cached NULL result.
+     */
+    private static final Object NIL = new Object();
+
+    /**
+     * Original func.
      */
-    private final BiFunc<X, Boolean, Y> func;
+    private final Func<X, Y> func;
+
+    /**
+     * Cache, with NULL results replaced by the marker.
+     */
+    private final Map<X, Object> cache;
+
+    /**
+     * Statistics.
+     */
+    private final CacheStats stats;
 
     /**
      * Ctor.
      * @param fnc Func original
      */
     public StickyFunc(final Func<X, Y> fnc) {
-        this(fnc, Integer.MAX_VALUE);
+        this(fnc, new HashMap<>(0));
     }
 
     /**
@@ -47,15 +96,66 @@ public final class StickyFunc<X, Y> implements Func<X, Y> {
      * @since 0.26
      */
     public StickyFunc(final Func<X, Y> fnc, final int max) {
-        this.func = new StickyBiFunc<>(
-            (first, second) -> fnc.apply(first),
-            max
-        );
+        this(fnc, new Lru<>(max));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param map The storage of cached values
+     * @since 1.0
+     */
+    public StickyFunc(final Func<X, Y> fnc, final Map<X, Y> map) {
+        this(fnc, map, new CacheStats.None());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func original
+     * @param map The storage of cached values
+     * @param stats Statistics to record
+     * @since 1.0
+     */
+    @SuppressWarnings("unchecked")
+    public StickyFunc(final Func<X, Y> fnc, final Map<X, Y> map,
+        final CacheStats stats) {
+        this.func = fnc;
+        this.cache = (Map<X, Object>) map;
+        this.stats = stats;
     }
 
     @Override
+    @SuppressWarnings({"unchecked", "PMD.AvoidCatchingGenericException"})
     public Y apply(final X input) throws Exception {
-        return this.func.apply(input, true);
+        Object result = this.cache.get(input);
+        if (result == null) {
+            final long start = this.stats.nanos();
+            try {
+                result = this.func.apply(input);
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception | Error ex) {
+                this.stats.failed(this.stats.nanos() - start);
+                throw ex;
+            }
+            this.stats.loaded(this.stats.nanos() - start);
+            if (result == null) {
+                result = StickyFunc.NIL;
+            }
+            final int before = this.cache.size();
+            long added = 1L;
+            if (this.cache.put(input, result) != null) {
+                added = 0L;
+            }
+            final int after = this.cache.size();
+            this.stats.evicted(Math.max(0L, before + added - after));
+            this.stats.resized(after);
+        } else {
+            this.stats.hit();
+        }
+        if (StickyFunc.NIL.equals(result)) {
+            result = null;
+        }
+        return (Y) result;
     }
 
 }
@@ -4,11 +4,20 @@
  */
 package org.cactoos.func;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import org.cactoos.BiFunc;
 
 /**
  * BiFunc that is thread-safe.
  *
+ * <p>By default calls are serialized by a {@link ReentrantLock} of this
+ * object: a virtual thread waiting for it doesn't pin its carrier
+ * thread, as it does waiting for a monitor on JDK 21-23. Give an object after the func to serialize them by
+ * its monitor instead, even if the object is a {@link Lock}, or give
+ * a {@link Lock} before the func to serialize them with it, for
+ * example to share it with other code.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @param <X> Type of first input
@@ -16,24 +25,14 @@ import org.cactoos.BiFunc;
  * @param <Z> Type of output
  * @since 0.18
  */
-public final class SyncBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
-
-    /**
-     * Original func.
-     */
-    private final BiFunc<X, Y, Z> func;
-
-    /**
-     * Sync lock.
-     */
-    private final Object lock;
+public final class SyncBiFunc<X, Y, Z> extends BiFuncEnvelope<X, Y, Z> {
 
     /**
      * Ctor.
      * @param fnc Func original
      */
     public SyncBiFunc(final BiFunc<X, Y, Z> fnc) {
-        this(fnc, fnc);
+        this(new ReentrantLock(), fnc);
     }
 
     /**
@@ -42,14 +41,31 @@ public final class SyncBiFunc<X, Y, Z> implements BiFunc<X, Y, Z> {
      * @param lck Sync lock
      */
     public SyncBiFunc(final BiFunc<X, Y, Z> fnc, final Object lck) {
-        this.func = fnc;
-        this.lock = lck;
+        super(
+            (first, second) -> {
+                synchronized (lck) {
+                    return fnc.apply(first, second);
+                }
+            }
+        );
     }
 
-    @Override
-    public Z apply(final X first, final Y second) throws Exception {
-        synchronized (this.lock) {
-            return this.func.apply(first, second);
-        }
+    /**
+     * Ctor.
+     * @param lck Sync lock
+     * @param fnc Func original
+     * @since 1.0
+     */
+    public SyncBiFunc(final Lock lck, final BiFunc<X, Y, Z> fnc) {
+        super(
+            (first, second) -> {
+                lck.lock();
+                try {
+                    return fnc.apply(first, second);
+                } finally {
+                    lck.unlock();
+                }
+            }
+        );
     }
 }
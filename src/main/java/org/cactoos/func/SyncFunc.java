@@ -4,35 +4,34 @@
  */
 package org.cactoos.func;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import org.cactoos.Func;
 
 /**
  * Func that is thread-safe.
  *
+ * <p>By default calls are serialized by a {@link ReentrantLock} of this
+ * object: a virtual thread waiting for it doesn't pin its carrier
+ * thread, as it does waiting for a monitor on JDK 21-23. Give an object after the func to serialize them by
+ * its monitor instead, even if the object is a {@link Lock}, or give
+ * a {@link Lock} before the func to serialize them with it, for
+ * example to share it with other code.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @param <X> Type of input
  * @param <Y> Type of output
  * @since 0.4
  */
-public final class SyncFunc<X, Y> implements Func<X, Y> {
-
-    /**
-     * Original func.
-     */
-    private final Func<X, Y> func;
-
-    /**
-     * Sync lock.
-     */
-    private final Object lock;
+public final class SyncFunc<X, Y> extends FuncEnvelope<X, Y> {
 
     /**
      * Ctor.
      * @param fnc Func original
      */
     public SyncFunc(final Func<X, Y> fnc) {
-        this(fnc, fnc);
+        this(new ReentrantLock(), fnc);
     }
 
     /**
@@ -41,14 +40,31 @@ public final class SyncFunc<X, Y> implements Func<X, Y> {
      * @param lck Sync lock
      */
     public SyncFunc(final Func<X, Y> fnc, final Object lck) {
-        this.func = fnc;
-        this.lock = lck;
+        super(
+            input -> {
+                synchronized (lck) {
+                    return fnc.apply(input);
+                }
+            }
+        );
     }
 
-    @Override
-    public Y apply(final X input) throws Exception {
-        synchronized (this.lock) {
-            return this.func.apply(input);
-        }
+    /**
+     * Ctor.
+     * @param lck Sync lock
+     * @param fnc Func original
+     * @since 1.0
+     */
+    public SyncFunc(final Lock lck, final Func<X, Y> fnc) {
+        super(
+            input -> {
+                lck.lock();
+                try {
+                    return fnc.apply(input);
+                } finally {
+                    lck.unlock();
+                }
+            }
+        );
     }
 }
@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import org.cactoos.Func;
+
+/**
+ * Func, which is called not more often than the {@link TokenBucket} allows.
+ *
+ * <p>By default the call waits for a token as long as needed. With
+ * a timeout it waits no longer than that and fails with
+ * {@link RejectedExecutionException} if the token can't arrive in time;
+ * with zero timeout it fails at once when the bucket is empty:</p>
+ *
+ * <pre>{@code
+ * final Func<String, Profile> func = new Throttled<>(
+ *     id -> backend.profile(id),
+ *     new TokenBucket(100, Duration.ofSeconds(1L)),
+ *     Duration.ZERO
+ * );
+ * }</pre>
+ *
+ * <p>Objects of this class are thread safe, if the original func is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @see org.cactoos.proc.Throttled
+ * @since 1.0
+ */
+public final class Throttled<X, Y> implements Func<X, Y> {
+
+    /**
+     * Original func.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * The bucket.
+     */
+    private final TokenBucket bucket;
+
+    /**
+     * How long to wait for a token.
+     */
+    private final Duration timeout;
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param bucket The bucket
+     */
+    public Throttled(final Func<X, Y> fnc, final TokenBucket bucket) {
+        this(fnc, bucket, Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Original func
+     * @param bucket The bucket
+     * @param timeout How long to wait for a token
+     */
+    public Throttled(final Func<X, Y> fnc, final TokenBucket bucket,
+        final Duration timeout) {
+        this.func = fnc;
+        this.bucket = bucket;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Y apply(final X input) throws Exception {
+        if (!this.bucket.acquire(this.timeout)) {
+            throw new RejectedExecutionException("The rate limit is exceeded");
+        }
+        return this.func.apply(input);
+    }
+}
@@ -5,13 +5,25 @@
 package org.cactoos.func;
 
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.cactoos.Func;
+import org.cactoos.scalar.ThreadPerTask;
 
 /**
  * Function that gets interrupted after a certain time has passed.
+ *
+ * <p>The function runs in a worker thread, while the caller waits
+ * for its result. When the time is over, the worker is interrupted and
+ * the caller gets {@link TimeoutException} right away, even if the
+ * function ignores the interruption. By default workers are taken from
+ * the shared {@link ThreadPerTask} executor.
+ * Use {@link TimedInPlace} to run the function in the caller's
+ * thread, without a worker.</p>
+ *
  * @param <X> Type of input
  * @param <Y> Type of output
  * @since 0.29.3
@@ -34,7 +46,28 @@ public final class Timed<X, Y> implements Func<X, Y> {
      * @param milliseconds Milliseconds
      */
     public Timed(final Func<X, Y> function, final long milliseconds) {
-        this(milliseconds, new Async<>(function));
+        this(function, milliseconds, new ThreadPerTask().value());
+    }
+
+    /**
+     * Ctor.
+     * @param function Origin function
+     * @param milliseconds Milliseconds
+     * @param exec Executor of workers
+     * @since 1.0
+     */
+    public Timed(final Func<X, Y> function, final long milliseconds,
+        final Executor exec) {
+        this(
+            milliseconds,
+            input -> {
+                final FutureTask<Y> task = new FutureTask<>(
+                    () -> function.apply(input)
+                );
+                exec.execute(task);
+                return task;
+            }
+        );
     }
 
     /**
@@ -0,0 +1,194 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Function that runs in the caller's thread and gets interrupted
+ * after a certain time has passed.
+ *
+ * <p>No thread is taken for the function: a timer is scheduled in a
+ * shared daemon scheduler and interrupts the caller when the time is
+ * over, so the overhead is a few microseconds. It works best with
+ * functions, which block on I/O, locks or sleep and so respond to
+ * interruption, especially in virtual threads. A function, which
+ * ignores interruption, runs to its end, and then {@link TimeoutException}
+ * is thrown. Use {@link Timed} if the caller must get the exception
+ * in time in any case.</p>
+ *
+ * <pre>{@code
+ * final Func<String, Profile> func = new TimedInPlace<>(
+ *     id -> backend.profile(id), 250L
+ * );
+ * }</pre>
+ *
+ * <p>When the time is over, {@link TimeoutException} is thrown, with the
+ * exception of the function as a cause, if there is one. The interrupted
+ * status of the caller is cleared only if the timer set it: if the
+ * caller was interrupted by someone else before the time was over,
+ * it stays interrupted.</p>
+ *
+ * <p>Objects of this class are thread safe, if the function is.</p>
+ *
+ * @param <X> Type of input
+ * @param <Y> Type of output
+ * @since 1.0
+ */
+public final class TimedInPlace<X, Y> implements Func<X, Y> {
+
+    /**
+     * The function is running.
+     */
+    private static final int RUNNING = 0;
+
+    /**
+     * The function is finished in time.
+     */
+    private static final int DONE = 1;
+
+    /**
+     * The time is over, the caller is about to be interrupted.
+     */
+    private static final int EXPIRED = 2;
+
+    /**
+     * The time is over, the caller is interrupted.
+     */
+    private static final int INTERRUPTED = 3;
+
+    /**
+     * The time is over, the caller was interrupted by someone else.
+     */
+    private static final int FOREIGN = 4;
+
+    /**
+     * Origin function.
+     */
+    private final Func<X, Y> func;
+
+    /**
+     * Milliseconds.
+     */
+    private final long time;
+
+    /**
+     * Scheduler of timers.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Ctor.
+     * @param function Origin function
+     * @param milliseconds Milliseconds
+     */
+    public TimedInPlace(final Func<X, Y> function, final long milliseconds) {
+        this(function, milliseconds, new DaemonScheduler().value());
+    }
+
+    /**
+     * Ctor.
+     * @param function Origin function
+     * @param milliseconds Milliseconds
+     * @param scheduler Scheduler of timers
+     */
+    public TimedInPlace(final Func<X, Y> function, final long milliseconds,
+        final ScheduledExecutorService scheduler) {
+        this.func = function;
+        this.time = milliseconds;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public Y apply(final X input) throws Exception {
+        final Thread caller = Thread.currentThread();
+        final AtomicInteger state = new AtomicInteger(TimedInPlace.RUNNING);
+        final ScheduledFuture<?> timer = this.scheduler.schedule(
+            () -> {
+                if (state.compareAndSet(
+                    TimedInPlace.RUNNING, TimedInPlace.EXPIRED
+                )) {
+                    if (caller.isInterrupted()) {
+                        state.set(TimedInPlace.FOREIGN);
+                    } else {
+                        caller.interrupt();
+                        state.set(TimedInPlace.INTERRUPTED);
+                    }
+                }
+            },
+            this.time,
+            TimeUnit.MILLISECONDS
+        );
+        final Y result;
+        try {
+            result = this.func.apply(input);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            if (TimedInPlace.finished(state, timer)) {
+                throw ex;
+            }
+            throw this.timeout(ex);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Error ex) {
+            TimedInPlace.finished(state, timer);
+            throw ex;
+        }
+        if (!TimedInPlace.finished(state, timer)) {
+            throw this.timeout(null);
+        }
+        return result;
+    }
+
+    /**
+     * Exception to throw when the time is over.
+     * @param cause Exception of the function, or NULL
+     * @return Exception
+     */
+    private TimeoutException timeout(final Exception cause) {
+        final TimeoutException error = new TimeoutException(
+            new UncheckedText(
+                new FormattedText(
+                    "The function is not finished in %d ms", this.time
+                )
+            ).asString()
+        );
+        error.initCause(cause);
+        return error;
+    }
+
+    /**
+     * Mark the function as finished, unless the time is over.
+     * If it is, wait until the timer is done with the caller and clear
+     * its interrupted status, if the timer set it.
+     * @param state The state
+     * @param timer The timer
+     * @return TRUE if finished in time
+     */
+    private static boolean finished(final AtomicInteger state,
+        final ScheduledFuture<?> timer) {
+        final boolean intime = state.compareAndSet(
+            TimedInPlace.RUNNING, TimedInPlace.DONE
+        );
+        if (intime) {
+            timer.cancel(false);
+        } else {
+            while (state.get() == TimedInPlace.EXPIRED) {
+                Thread.onSpinWait();
+            }
+            if (state.get() == TimedInPlace.INTERRUPTED) {
+                Thread.interrupted();
+            }
+        }
+        return intime;
+    }
+}
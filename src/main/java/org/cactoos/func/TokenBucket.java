@@ -0,0 +1,166 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Token bucket, which limits the rate of calls.
+ *
+ * <p>The bucket gets {@code permits} tokens per {@code period} and holds
+ * no more than {@code burst} of them, so after a pause up to
+ * {@code burst} calls may go through at once. It starts full.
+ * Give the same bucket to all decorators, which draw from the same
+ * budget, see {@link Throttled} and {@link org.cactoos.proc.Throttled}:</p>
+ *
+ * <pre>{@code
+ * final TokenBucket bucket = new TokenBucket(100, Duration.ofSeconds(1L));
+ * final Func<String, Profile> profiles = new Throttled<>(
+ *     id -> backend.profile(id), bucket
+ * );
+ * final Func<String, Avatar> avatars = new Throttled<>(
+ *     id -> backend.avatar(id), bucket, Duration.ZERO
+ * );
+ * }</pre>
+ *
+ * <p>The bucket keeps only the moment, when the next token arrives,
+ * in an atomic variable, so taking a token doesn't lock. A token,
+ * which is not there yet, is reserved in advance and the caller
+ * waits for it. If the caller is interrupted while waiting, the token
+ * is given back. Time is measured by a monotonic ticker,
+ * {@link System#nanoTime()} by default, so a step of the wall clock
+ * doesn't stall the bucket.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+public final class TokenBucket {
+
+    /**
+     * Interval between two tokens, in nanoseconds.
+     */
+    private final long interval;
+
+    /**
+     * Time to fill the whole bucket, in nanoseconds.
+     */
+    private final long capacity;
+
+    /**
+     * The moment, when the bucket is full, in nanoseconds.
+     */
+    private final AtomicLong full;
+
+    /**
+     * The ticker, which returns the current moment in nanoseconds.
+     */
+    private final LongSupplier ticker;
+
+    /**
+     * Ctor.
+     * @param permits Number of tokens per period
+     * @param period The period
+     */
+    public TokenBucket(final int permits, final Duration period) {
+        this(permits, period, permits);
+    }
+
+    /**
+     * Ctor.
+     * @param permits Number of tokens per period
+     * @param period The period
+     * @param burst Maximum number of tokens in the bucket
+     */
+    public TokenBucket(final int permits, final Duration period,
+        final int burst) {
+        this(permits, period, burst, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param permits Number of tokens per period
+     * @param period The period
+     * @param burst Maximum number of tokens in the bucket
+     * @param ticker The monotonic ticker, in nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public TokenBucket(final int permits, final Duration period,
+        final int burst, final LongSupplier ticker) {
+        this.interval = Math.max(
+            1L, period.toNanos() / TokenBucket.positive(permits, "permits")
+        );
+        this.capacity = this.interval * TokenBucket.positive(burst, "burst");
+        this.full = new AtomicLong(Long.MIN_VALUE);
+        this.ticker = ticker;
+    }
+
+    /**
+     * Take a token, waiting for it as long as needed.
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        this.acquire(Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Take a token, if it arrives in time.
+     *
+     * <p>With zero timeout the token is taken only if it's in the bucket
+     * right now. If the token can't arrive in time, the method returns
+     * at once, without waiting.</p>
+     *
+     * @param timeout How long to wait for the token
+     * @return TRUE if the token is taken
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public boolean acquire(final Duration timeout)
+        throws InterruptedException {
+        final long limit = timeout.toNanos();
+        long delay;
+        boolean done;
+        do {
+            final long current = this.full.get();
+            final long now = this.ticker.getAsLong();
+            final long next = Math.max(current, now) + this.interval;
+            delay = next - this.capacity - now;
+            done = delay > limit || this.full.compareAndSet(current, next);
+        } while (!done);
+        final boolean taken = delay <= limit;
+        if (taken && delay > 0L) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (final InterruptedException ex) {
+                this.full.addAndGet(-this.interval);
+                throw ex;
+            }
+        }
+        return taken;
+    }
+
+    /**
+     * Make sure the number is positive.
+     * @param number The number
+     * @param name Name of the number
+     * @return The number
+     */
+    private static int positive(final int number, final String name) {
+        if (number <= 0) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "The %s must be positive: %d", name, number
+                    )
+                ).asString()
+            );
+        }
+        return number;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of reading an input, from opening of its
+ * stream to closing.
+ *
+ * <p>The event is disabled by default, enable {@code org.cactoos.Input}
+ * in the recording settings to get it.</p>
+ *
+ * @since 1.0
+ */
+@Name("org.cactoos.Input")
+@Label("Input")
+@Category({"Cactoos", "IO"})
+@Description("Reading of an input, from opening of its stream to closing")
+@Enabled(false)
+@StackTrace(false)
+@SuppressWarnings("PMD.SingularField")
+final class InputEvent extends Event {
+
+    /**
+     * The input.
+     */
+    @Label("Source")
+    private final String source;
+
+    /**
+     * Bytes read.
+     */
+    @Label("Bytes Read")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Ctor.
+     * @param source The input
+     */
+    InputEvent(final String source) {
+        super();
+        this.source = source;
+    }
+
+    /**
+     * Count bytes read.
+     * @param count How many bytes were read
+     */
+    void read(final long count) {
+        this.bytes += count;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.Input;
+
+/**
+ * Input, which emits the {@code org.cactoos.Input} flight recorder event
+ * when its stream is closed.
+ *
+ * <p>The event covers reading of the stream, from opening to closing,
+ * with the number of bytes read. It is disabled by default, enable it
+ * in the recording settings. When it's disabled, the stream of the
+ * original input is returned as is:</p>
+ *
+ * <pre>{@code
+ * final Input input = new RecordedInput(
+ *     new GzipInput(new InputOf(file)), "archive"
+ * );
+ * }</pre>
+ *
+ * <p>The class needs the {@code jdk.jfr} module at runtime.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 1.0
+ */
+public final class RecordedInput implements Input {
+
+    /**
+     * The input.
+     */
+    private final Input origin;
+
+    /**
+     * Name of the input.
+     */
+    private final String source;
+
+    /**
+     * Ctor.
+     * @param origin The input
+     * @param source Name of the input
+     */
+    public RecordedInput(final Input origin, final String source) {
+        this.origin = origin;
+        this.source = source;
+    }
+
+    @Override
+    public InputStream stream() throws Exception {
+        final InputEvent event = new InputEvent(this.source);
+        final InputStream stream;
+        if (event.isEnabled()) {
+            event.begin();
+            stream = new RecordedInput.Stream(this.origin.stream(), event);
+        } else {
+            stream = this.origin.stream();
+        }
+        return stream;
+    }
+
+    /**
+     * Stream, which counts bytes read and commits the event on close.
+     *
+     * @since 1.0
+     */
+    private static final class Stream extends FilterInputStream {
+
+        /**
+         * The event.
+         */
+        private final InputEvent event;
+
+        /**
+         * Is it closed already?
+         */
+        private final AtomicBoolean closed;
+
+        /**
+         * Ctor.
+         * @param stream The stream
+         * @param event The event
+         */
+        Stream(final InputStream stream, final InputEvent event) {
+            super(stream);
+            this.event = event;
+            this.closed = new AtomicBoolean();
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int data = super.read();
+            if (data >= 0) {
+                this.event.read(1L);
+            }
+            return data;
+        }
+
+        @Override
+        public int read(final byte[] buf, final int off, final int len)
+            throws IOException {
+            final int count = super.read(buf, off, len);
+            if (count > 0) {
+                this.event.read(count);
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(final long num) throws IOException {
+            final long count = super.skip(num);
+            this.event.read(count);
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (this.closed.compareAndSet(false, true)) {
+                    this.event.commit();
+                }
+            }
+        }
+    }
+}
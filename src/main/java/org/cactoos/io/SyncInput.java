@@ -5,11 +5,22 @@
 package org.cactoos.io;
 
 import java.io.InputStream;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.cactoos.Func;
 import org.cactoos.Input;
+import org.cactoos.func.SyncFunc;
 
 /**
  * Thread-safe {@link Input}.
  *
+ * <p>By default streams are serialized by a {@link ReentrantLock} of this
+ * object: a virtual thread waiting for it doesn't pin its carrier
+ * thread, as it does waiting for a monitor on JDK 21-23. Give an object after the input to serialize them by
+ * its monitor instead, even if the object is a {@link Lock}, or give
+ * a {@link Lock} before the input to serialize them with it, for
+ * example to share it with other code.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @since 0.18
@@ -22,16 +33,16 @@ public final class SyncInput implements Input {
     private final Input origin;
 
     /**
-     * Sync lock.
+     * Opening of the stream under the lock.
      */
-    private final Object lock;
+    private final Func<Input, InputStream> open;
 
     /**
      * Ctor.
      * @param input The input
      */
     public SyncInput(final Input input) {
-        this(input, input);
+        this(new ReentrantLock(), input);
     }
 
     /**
@@ -40,14 +51,31 @@ public final class SyncInput implements Input {
      * @param lck The lock object
      */
     public SyncInput(final Input input, final Object lck) {
+        this(input, new SyncFunc<>(Input::stream, lck));
+    }
+
+    /**
+     * Ctor.
+     * @param lck The lock
+     * @param input The input
+     * @since 1.0
+     */
+    public SyncInput(final Lock lck, final Input input) {
+        this(input, new SyncFunc<>(lck, Input::stream));
+    }
+
+    /**
+     * Ctor.
+     * @param input The input
+     * @param open Opening of the stream under the lock
+     */
+    private SyncInput(final Input input, final Func<Input, InputStream> open) {
         this.origin = input;
-        this.lock = lck;
+        this.open = open;
     }
 
     @Override
     public InputStream stream() throws Exception {
-        synchronized (this.lock) {
-            return this.origin.stream();
-        }
+        return this.open.apply(this.origin);
     }
 }
@@ -5,11 +5,22 @@
 package org.cactoos.io;
 
 import java.io.OutputStream;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.cactoos.Func;
 import org.cactoos.Output;
+import org.cactoos.func.SyncFunc;
 
 /**
  * Thread-safe {@link Output}.
  *
+ * <p>By default streams are serialized by a {@link ReentrantLock} of this
+ * object: a virtual thread waiting for it doesn't pin its carrier
+ * thread, as it does waiting for a monitor on JDK 21-23. Give an object after the output to serialize them by
+ * its monitor instead, even if the object is a {@link Lock}, or give
+ * a {@link Lock} before the output to serialize them with it, for
+ * example to share it with other code.</p>
+ *
  * <p>Objects of this class are thread safe.</p>
  *
  * @since 0.18
@@ -22,16 +33,16 @@ public final class SyncOutput implements Output {
     private final Output origin;
 
     /**
-     * Sync lock.
+     * Opening of the stream under the lock.
      */
-    private final Object lock;
+    private final Func<Output, OutputStream> open;
 
     /**
      * Ctor.
      * @param output The output
      */
     public SyncOutput(final Output output) {
-        this(output, output);
+        this(new ReentrantLock(), output);
     }
 
     /**
@@ -40,14 +51,31 @@ public final class SyncOutput implements Output {
      * @param lck The lock object
      */
     public SyncOutput(final Output output, final Object lck) {
+        this(output, new SyncFunc<>(Output::stream, lck));
+    }
+
+    /**
+     * Ctor.
+     * @param lck The lock
+     * @param output The output
+     * @since 1.0
+     */
+    public SyncOutput(final Lock lck, final Output output) {
+        this(output, new SyncFunc<>(lck, Output::stream));
+    }
+
+    /**
+     * Ctor.
+     * @param output The output
+     * @param open Opening of the stream under the lock
+     */
+    private SyncOutput(final Output output, final Func<Output, OutputStream> open) {
         this.origin = output;
-        this.lock = lck;
+        this.open = open;
     }
 
     @Override
     public OutputStream stream() throws Exception {
-        synchronized (this.lock) {
-            return this.origin.stream();
-        }
+        return this.open.apply(this.origin);
     }
 }
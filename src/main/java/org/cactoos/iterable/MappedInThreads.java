@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Func;
+import org.cactoos.scalar.ThreadPerTask;
+
+/**
+ * Mapped iterable, which applies the function in multiple threads.
+ *
+ * <p>Use it instead of {@link Mapped} when the function is expensive,
+ * for example parsing or hashing. Items are mapped ahead of the
+ * consumer, no more than {@code window} of them at a time, by default in
+ * {@link ThreadPerTask}. Results are returned in the order of source
+ * items, unless the ordering is turned off, then they are returned as
+ * soon as they are ready:</p>
+ *
+ * <pre>{@code
+ * final Iterable<Digest> digests = new MappedInThreads<>(
+ *     file -> new Digest(file), files, 8
+ * );
+ * }</pre>
+ *
+ * <p>The first failure of the function is thrown as is, if it's
+ * unchecked, or wrapped into {@link java.io.UncheckedIOException}
+ * otherwise. The {@code window} must be at least one, see
+ * {@link org.cactoos.iterator.MappedInThreads}.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <Y> Type of target item
+ * @since 1.0
+ */
+public final class MappedInThreads<Y> extends IterableEnvelope<Y> {
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param src Source iterable
+     * @param <X> Type of source item
+     */
+    public <X> MappedInThreads(final Func<? super X, ? extends Y> fnc,
+        final Iterable<? extends X> src) {
+        this(fnc, src, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param src Source iterable
+     * @param window Maximum number of items in flight
+     * @param <X> Type of source item
+     */
+    public <X> MappedInThreads(final Func<? super X, ? extends Y> fnc,
+        final Iterable<? extends X> src, final int window) {
+        this(fnc, src, window, true);
+    }
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param src Source iterable
+     * @param window Maximum number of items in flight
+     * @param ordered Keep the order of source items
+     * @param <X> Type of source item
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public <X> MappedInThreads(final Func<? super X, ? extends Y> fnc,
+        final Iterable<? extends X> src, final int window,
+        final boolean ordered) {
+        this(new ThreadPerTask().value(), fnc, src, window, ordered);
+    }
+
+    /**
+     * Ctor.
+     * @param exec The executor, it is not shut down
+     * @param fnc Func
+     * @param src Source iterable
+     * @param window Maximum number of items in flight
+     * @param ordered Keep the order of source items
+     * @param <X> Type of source item
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public <X> MappedInThreads(final ExecutorService exec,
+        final Func<? super X, ? extends Y> fnc,
+        final Iterable<? extends X> src, final int window,
+        final boolean ordered) {
+        super(
+            new IterableOf<>(
+                () -> new org.cactoos.iterator.MappedInThreads<>(
+                    exec, fnc, src.iterator(), window, ordered
+                )
+            )
+        );
+    }
+}
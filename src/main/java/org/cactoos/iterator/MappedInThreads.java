@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Ternary;
+import org.cactoos.scalar.ThreadPerTask;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Mapped iterator, which applies the function in multiple threads.
+ *
+ * <p>Source items are pulled ahead of the consumer and mapped in the
+ * executor, no more than {@code window} of them at a time. Ordered
+ * results are returned in the order of source items, even if later
+ * items are mapped first. Unordered results are returned as soon as
+ * they are ready.</p>
+ *
+ * <p>As soon as the function fails, the items in flight are cancelled,
+ * no more items are pulled and the failure is thrown from
+ * {@link #next()}: as is, if it's unchecked, or wrapped into
+ * {@link java.io.UncheckedIOException} otherwise. The {@code window}
+ * must be at least one, otherwise the constructor throws
+ * {@link IllegalArgumentException}.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <Y> Type of target item
+ * @since 1.0
+ */
+public final class MappedInThreads<Y> extends IteratorEnvelope<Y> {
+
+    /**
+     * Ctor.
+     * @param fnc Func
+     * @param src Source iterator
+     * @param window Maximum number of items in flight
+     * @param <X> Type of source item
+     */
+    public <X> MappedInThreads(final Func<? super X, ? extends Y> fnc,
+        final Iterator<? extends X> src, final int window) {
+        this(new ThreadPerTask().value(), fnc, src, window, true);
+    }
+
+    /**
+     * Ctor.
+     * @param exec The executor, it is not shut down
+     * @param fnc Func
+     * @param src Source iterator
+     * @param window Maximum number of items in flight
+     * @param ordered Keep the order of source items
+     * @param <X> Type of source item
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public <X> MappedInThreads(final ExecutorService exec,
+        final Func<? super X, ? extends Y> fnc, final Iterator<? extends X> src,
+        final int window, final boolean ordered) {
+        this(
+            exec,
+            new Mapped<Scalar<Y>>(item -> () -> fnc.apply(item), src),
+            window,
+            ordered
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param exec The executor, it is not shut down
+     * @param tasks Source items, mapped to tasks
+     * @param window Maximum number of items in flight
+     * @param ordered Keep the order of source items
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private MappedInThreads(final ExecutorService exec,
+        final Iterator<Scalar<Y>> tasks, final int window,
+        final boolean ordered) {
+        super(
+            new Windowed<>(
+                new Unchecked<>(
+                    new Ternary<Windowed.Flights<Y>>(
+                        ordered,
+                        () -> new Windowed.Ordered<>(exec),
+                        () -> new Windowed.Unordered<>(exec)
+                    )
+                ).value(),
+                window,
+                tasks
+            )
+        );
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.CallableOf;
+import org.cactoos.scalar.Unchecked;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Iterator over results of tasks, which are submitted lazily, no more
+ * than {@code window} of them in flight at a time.
+ *
+ * <p>The order of results is defined by the {@link Windowed.Flights}:
+ * either the order of the tasks, or the order of their completion.
+ * As soon as one task fails, the others in flight are cancelled and no
+ * more tasks are submitted. The window must be at least one, otherwise
+ * the constructor throws {@link IllegalArgumentException}.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @param <T> The type of task result item
+ * @since 1.0
+ */
+final class Windowed<T> implements Iterator<T> {
+
+    /**
+     * The tasks, which are not submitted yet.
+     */
+    private final Iterator<? extends Scalar<? extends T>> tasks;
+
+    /**
+     * The tasks in flight.
+     */
+    private final Windowed.Flights<T> flights;
+
+    /**
+     * Maximum number of tasks in flight.
+     */
+    private final int window;
+
+    /**
+     * Did any task fail?
+     */
+    private boolean failed;
+
+    /**
+     * Ctor.
+     * @param flights The tasks in flight
+     * @param window Maximum number of tasks in flight
+     * @param tasks The tasks
+     */
+    Windowed(final Windowed.Flights<T> flights, final int window,
+        final Iterator<? extends Scalar<? extends T>> tasks) {
+        this.tasks = tasks;
+        this.flights = flights;
+        this.window = Windowed.positive(window);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!this.failed) {
+            while (this.flights.size() < this.window
+                && this.tasks.hasNext()) {
+                this.flights.submit(new CallableOf<>(this.tasks.next()));
+            }
+        }
+        return this.flights.size() > 0;
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException(
+                "No more results of the tasks"
+            );
+        }
+        return new Unchecked<>(this::take).value();
+    }
+
+    /**
+     * Take the next result.
+     * @return The result
+     * @throws Exception If the task failed or the thread is interrupted,
+     *  in which case its interrupted status is set again
+     */
+    private T take() throws Exception {
+        try {
+            return this.flights.take().get();
+        } catch (final ExecutionException ex) {
+            this.cancel();
+            throw Windowed.cause(ex);
+        } catch (final InterruptedException ex) {
+            this.cancel();
+            Thread.currentThread().interrupt();
+            throw ex;
+        }
+    }
+
+    /**
+     * Cancel the tasks in flight and submit no more.
+     */
+    private void cancel() {
+        this.failed = true;
+        final Collection<Future<T>> all = this.flights.all();
+        for (final Future<T> future : all) {
+            future.cancel(true);
+        }
+        all.clear();
+    }
+
+    /**
+     * The original exception of the task.
+     * @param error The failure of the task
+     * @return The exception to throw
+     */
+    private static Exception cause(final ExecutionException error) {
+        final Throwable cause = error.getCause();
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        final Exception result;
+        if (cause instanceof Exception) {
+            result = (Exception) cause;
+        } else {
+            result = error;
+        }
+        return result;
+    }
+
+    /**
+     * Check the window.
+     * @param window Maximum number of tasks in flight
+     * @return The window
+     */
+    private static int positive(final int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "The number of tasks in flight must be at least 1: %d",
+                        window
+                    )
+                ).asString()
+            );
+        }
+        return window;
+    }
+
+    /**
+     * Tasks in flight.
+     *
+     * @param <T> The type of task result item
+     * @since 1.0
+     */
+    interface Flights<T> {
+
+        /**
+         * Submit the task.
+         * @param task The task
+         */
+        void submit(Callable<T> task);
+
+        /**
+         * How many tasks are in flight.
+         * @return The number of tasks
+         */
+        int size();
+
+        /**
+         * Take the next task out of flight.
+         * @return The task
+         * @throws InterruptedException If interrupted while waiting
+         */
+        Future<T> take() throws InterruptedException;
+
+        /**
+         * All tasks in flight.
+         * @return The tasks, which may be cleared
+         */
+        Collection<Future<T>> all();
+    }
+
+    /**
+     * Tasks in flight, taken in the order of submission.
+     *
+     * @param <T> The type of task result item
+     * @since 1.0
+     */
+    static final class Ordered<T> implements Windowed.Flights<T> {
+
+        /**
+         * The executor.
+         */
+        private final ExecutorService service;
+
+        /**
+         * The tasks in flight, in the order of submission.
+         */
+        private final Deque<Future<T>> flying;
+
+        /**
+         * Ctor.
+         * @param exc The executor
+         */
+        Ordered(final ExecutorService exc) {
+            this.service = exc;
+            this.flying = new ArrayDeque<>(0);
+        }
+
+        @Override
+        public void submit(final Callable<T> task) {
+            this.flying.add(this.service.submit(task));
+        }
+
+        @Override
+        public int size() {
+            return this.flying.size();
+        }
+
+        @Override
+        public Future<T> take() {
+            return this.flying.remove();
+        }
+
+        @Override
+        public Collection<Future<T>> all() {
+            return this.flying;
+        }
+    }
+
+    /**
+     * Tasks in flight, taken in the order of completion.
+     *
+     * @param <T> The type of task result item
+     * @since 1.0
+     */
+    static final class Unordered<T> implements Windowed.Flights<T> {
+
+        /**
+         * The completion service.
+         */
+        private final CompletionService<T> service;
+
+        /**
+         * The tasks in flight.
+         */
+        private final Collection<Future<T>> flying;
+
+        /**
+         * Ctor.
+         * @param exc The executor
+         */
+        Unordered(final ExecutorService exc) {
+            this.service = new ExecutorCompletionService<>(exc);
+            this.flying = new HashSet<>(0);
+        }
+
+        @Override
+        public void submit(final Callable<T> task) {
+            this.flying.add(this.service.submit(task));
+        }
+
+        @Override
+        public int size() {
+            return this.flying.size();
+        }
+
+        @Override
+        public Future<T> take() throws InterruptedException {
+            final Future<T> future = this.service.take();
+            this.flying.remove(future);
+            return future;
+        }
+
+        @Override
+        public Collection<Future<T>> all() {
+            return this.flying;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.map;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Map of limited size, which evicts the least recently used entry
+ * when the limit is exceeded.
+ *
+ * <p>Both {@link Map#get(Object)} and {@link Map#put(Object, Object)}
+ * count as a use of the entry. Eviction happens right after an
+ * insertion and costs O(1).</p>
+ *
+ * <pre>{@code
+ * final Map<String, Integer> map = new Lru<>(2);
+ * map.put("a", 1);
+ * map.put("b", 2);
+ * map.get("a");
+ * map.put("c", 3); // "b" is evicted, since "a" was used recently
+ * }</pre>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @see TinyLfu
+ * @since 1.0
+ */
+public final class Lru<K, V> extends MapEnvelope<K, V> {
+
+    /**
+     * Load factor of the underlying map.
+     */
+    private static final float LOAD = 0.75f;
+
+    /**
+     * Ctor.
+     * @param max Maximum number of entries
+     */
+    public Lru(final int max) {
+        super(
+            new LinkedHashMap<K, V>(0, Lru.LOAD, true) {
+                private static final long serialVersionUID = -4155240113462861473L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                    return this.size() > max;
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.map;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.AbstractMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Map, which holds its values through soft references.
+ *
+ * <p>The garbage collector may reclaim a value when memory runs low,
+ * and the entry disappears from the map. Entries with reclaimed values
+ * are removed incrementally, on every access to the map, without any
+ * background thread, and at once, when their key is looked up. It is a good storage for a memoizing function,
+ * which keeps large results:</p>
+ *
+ * <pre>{@code
+ * final Func<String, Document> func = new StickyFunc<>(
+ *     name -> new Document(name), new SoftValues<>()
+ * );
+ * }</pre>
+ *
+ * <p>Keys are held strongly until their entries are removed. NULL keys
+ * are not supported. Methods {@link Map#keySet()}, {@link Map#values()}
+ * and {@link Map#entrySet()} return read-only snapshots, and
+ * {@link Map#size()} may count values, which were reclaimed
+ * but not yet removed.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @see WeakKeys
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class SoftValues<K, V> extends AbstractMap<K, V>
+    implements ConcurrentMap<K, V> {
+
+    /**
+     * Replacement of NULL values.
+     */
+    private static final Object NIL = new Object();
+
+    /**
+     * References to values.
+     */
+    private final ConcurrentMap<K, SoftValues.Ref<K>> refs;
+
+    /**
+     * Queue of references to reclaimed values.
+     */
+    private final ReferenceQueue<Object> queue;
+
+    /**
+     * Ctor.
+     */
+    public SoftValues() {
+        super();
+        this.refs = new ConcurrentHashMap<>(0);
+        this.queue = new ReferenceQueue<>();
+    }
+
+    @Override
+    public V get(final Object key) {
+        this.purge();
+        final SoftValues.Ref<K> ref = this.refs.get(key);
+        if (ref != null && ref.get() == null) {
+            this.refs.remove(key, ref);
+        }
+        return SoftValues.value(ref);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        this.purge();
+        final SoftValues.Ref<K> ref = this.refs.get(key);
+        return ref != null && ref.get() != null;
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        this.purge();
+        return SoftValues.value(this.refs.put(key, this.ref(key, value)));
+    }
+
+    @Override
+    public V putIfAbsent(final K key, final V value) {
+        this.purge();
+        final SoftValues.Ref<K> fresh = this.ref(key, value);
+        V before = null;
+        while (true) {
+            final SoftValues.Ref<K> ref = this.refs.putIfAbsent(key, fresh);
+            if (ref == null) {
+                break;
+            }
+            final Object current = ref.get();
+            if (current != null) {
+                before = SoftValues.value(ref);
+                break;
+            }
+            if (this.refs.replace(key, ref, fresh)) {
+                break;
+            }
+        }
+        return before;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        this.purge();
+        return SoftValues.value(this.refs.remove(key));
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        this.purge();
+        final SoftValues.Ref<K> ref = this.refs.get(key);
+        return ref != null && ref.get() != null
+            && Objects.equals(SoftValues.value(ref), value)
+            && this.refs.remove(key, ref);
+    }
+
+    @Override
+    public boolean replace(final K key, final V before, final V after) {
+        this.purge();
+        final SoftValues.Ref<K> ref = this.refs.get(key);
+        return ref != null && ref.get() != null
+            && Objects.equals(SoftValues.value(ref), before)
+            && this.refs.replace(key, ref, this.ref(key, after));
+    }
+
+    @Override
+    public V replace(final K key, final V value) {
+        this.purge();
+        final SoftValues.Ref<K> ref = this.refs.get(key);
+        V before = null;
+        if (ref != null && ref.get() != null
+            && this.refs.replace(key, ref, this.ref(key, value))) {
+            before = SoftValues.value(ref);
+        }
+        return before;
+    }
+
+    @Override
+    public int size() {
+        this.purge();
+        return this.refs.size();
+    }
+
+    @Override
+    public void clear() {
+        this.refs.clear();
+        this.purge();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        this.purge();
+        final Set<Map.Entry<K, V>> entries = new LinkedHashSet<>(0);
+        for (final Map.Entry<K, SoftValues.Ref<K>> entry
+            : this.refs.entrySet()) {
+            if (entry.getValue().get() != null) {
+                entries.add(
+                    new AbstractMap.SimpleImmutableEntry<>(
+                        entry.getKey(), SoftValues.value(entry.getValue())
+                    )
+                );
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Remove entries, which values were reclaimed.
+     */
+    @SuppressWarnings("unchecked")
+    private void purge() {
+        SoftValues.Ref<K> ref = (SoftValues.Ref<K>) this.queue.poll();
+        while (ref != null) {
+            this.refs.remove(ref.key, ref);
+            ref = (SoftValues.Ref<K>) this.queue.poll();
+        }
+    }
+
+    /**
+     * Make a reference to the value.
+     * @param key The key
+     * @param value The value
+     * @return Reference
+     */
+    private SoftValues.Ref<K> ref(final K key, final V value) {
+        final Object referent;
+        if (value == null) {
+            referent = SoftValues.NIL;
+        } else {
+            referent = value;
+        }
+        return new SoftValues.Ref<>(key, referent, this.queue);
+    }
+
+    /**
+     * Value behind the reference.
+     * @param ref The reference, or NULL
+     * @param <V> Type of value
+     * @return The value, or NULL if there is none
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> V value(final SoftValues.Ref<?> ref) {
+        final Object referent;
+        if (ref == null || SoftValues.NIL.equals(ref.get())) {
+            referent = null;
+        } else {
+            referent = ref.get();
+        }
+        return (V) referent;
+    }
+
+    /**
+     * Soft reference to a value, which knows its key.
+     *
+     * @param <K> Type of key
+     * @since 1.0
+     */
+    private static final class Ref<K> extends SoftReference<Object> {
+
+        /**
+         * The key.
+         */
+        private final K key;
+
+        /**
+         * Ctor.
+         * @param key The key
+         * @param value The value
+         * @param queue The queue to register with
+         */
+        Ref(final K key, final Object value,
+            final ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.map;
+
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Map of limited size, with W-TinyLFU admission policy.
+ *
+ * <p>New entries go to a small LRU "window", which takes about one
+ * percent of the capacity. An entry pushed out of the window is admitted
+ * to the main LRU segment only if it was requested more often than the
+ * entry the main segment would have to evict for it. Frequencies are
+ * estimated by a compact count-min sketch, which is periodically halved,
+ * so that the history ages. This keeps the hot set in the map even
+ * when it is flooded by keys, which are requested only once.</p>
+ *
+ * <p>Only {@link Map#get(Object)} counts as a request of the key.
+ * Methods {@link Map#keySet()}, {@link Map#values()} and
+ * {@link Map#entrySet()} return read-only snapshots.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @see Lru
+ * @since 1.0
+ */
+public final class TinyLfu<K, V> extends MapEnvelope<K, V> {
+
+    /**
+     * Ctor.
+     * @param max Maximum number of entries
+     */
+    public TinyLfu(final int max) {
+        super(new TinyLfu.Segments<>(max));
+    }
+
+    /**
+     * Window and main segments together with the frequency sketch.
+     *
+     * @param <K> Type of key
+     * @param <V> Type of value
+     * @since 1.0
+     */
+    private static final class Segments<K, V> extends AbstractMap<K, V> {
+
+        /**
+         * Window segment.
+         */
+        private final Map<K, V> window;
+
+        /**
+         * Main segment.
+         */
+        private final Map<K, V> main;
+
+        /**
+         * Frequencies of the keys.
+         */
+        private final TinyLfu.Sketch sketch;
+
+        /**
+         * Maximum size of the window segment.
+         */
+        private final int edge;
+
+        /**
+         * Maximum size of the main segment.
+         */
+        private final int limit;
+
+        /**
+         * Ctor.
+         * @param max Maximum number of entries
+         */
+        Segments(final int max) {
+            this.edge = Math.min(max, Math.max(1, max / 100));
+            this.limit = max - this.edge;
+            this.window = new Lru<>(Integer.MAX_VALUE);
+            this.main = new Lru<>(Integer.MAX_VALUE);
+            this.sketch = new TinyLfu.Sketch(max);
+        }
+
+        @Override
+        public V get(final Object key) {
+            this.sketch.increment(key);
+            V value = this.main.get(key);
+            if (value == null) {
+                value = this.window.get(key);
+            }
+            return value;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return this.main.containsKey(key) || this.window.containsKey(key);
+        }
+
+        @Override
+        public V put(final K key, final V value) {
+            final V before;
+            if (this.main.containsKey(key)) {
+                before = this.main.put(key, value);
+            } else {
+                before = this.window.put(key, value);
+                if (this.window.size() > this.edge) {
+                    final Iterator<Map.Entry<K, V>> eldest =
+                        this.window.entrySet().iterator();
+                    final Map.Entry<K, V> candidate = eldest.next();
+                    eldest.remove();
+                    this.admit(candidate.getKey(), candidate.getValue());
+                }
+            }
+            return before;
+        }
+
+        @Override
+        public V remove(final Object key) {
+            final V removed;
+            if (this.main.containsKey(key)) {
+                removed = this.main.remove(key);
+            } else {
+                removed = this.window.remove(key);
+            }
+            return removed;
+        }
+
+        @Override
+        public int size() {
+            return this.main.size() + this.window.size();
+        }
+
+        @Override
+        public void clear() {
+            this.main.clear();
+            this.window.clear();
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            final Set<Map.Entry<K, V>> entries = new LinkedHashSet<>(0);
+            for (final Map.Entry<K, V> entry : this.main.entrySet()) {
+                entries.add(new MapEntry<>(entry.getKey(), entry.getValue()));
+            }
+            for (final Map.Entry<K, V> entry : this.window.entrySet()) {
+                entries.add(new MapEntry<>(entry.getKey(), entry.getValue()));
+            }
+            return entries;
+        }
+
+        /**
+         * Move the candidate from the window to the main segment,
+         * if it's more popular than the victim of the main segment.
+         * @param key The key of the candidate
+         * @param value The value of the candidate
+         */
+        private void admit(final K key, final V value) {
+            if (this.main.size() < this.limit) {
+                this.main.put(key, value);
+            } else if (this.limit > 0) {
+                final Iterator<K> eldest = this.main.keySet().iterator();
+                final K victim = eldest.next();
+                if (this.sketch.frequency(key) > this.sketch.frequency(victim)) {
+                    eldest.remove();
+                    this.main.put(key, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Count-min sketch with four hash functions and saturating
+     * counters, which are halved after a sample of increments.
+     *
+     * @since 1.0
+     */
+    private static final class Sketch {
+
+        /**
+         * Seeds of the hash functions.
+         */
+        private static final int[] SEEDS = {
+            0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F,
+        };
+
+        /**
+         * Maximum value of a counter.
+         */
+        private static final int CEILING = 15;
+
+        /**
+         * Maximum length of the table.
+         */
+        private static final int LONGEST = 1 << 22;
+
+        /**
+         * Counters.
+         */
+        private final int[] table;
+
+        /**
+         * Number of increments after which counters are halved.
+         */
+        private final long sample;
+
+        /**
+         * Number of increments since the last halving.
+         */
+        private long additions;
+
+        /**
+         * Ctor.
+         * @param max Maximum number of entries in the map
+         */
+        Sketch(final int max) {
+            this.table = new int[TinyLfu.Sketch.length(max)];
+            this.sample = Math.max(1L, 10L * max);
+        }
+
+        /**
+         * Register one more request of the key.
+         * @param key The key
+         */
+        void increment(final Object key) {
+            final int hash = TinyLfu.Sketch.spread(key);
+            for (final int seed : TinyLfu.Sketch.SEEDS) {
+                final int idx = this.index(hash, seed);
+                if (this.table[idx] < TinyLfu.Sketch.CEILING) {
+                    ++this.table[idx];
+                }
+            }
+            ++this.additions;
+            if (this.additions >= this.sample) {
+                final int[] counters = this.table;
+                for (int idx = 0; idx < counters.length; ++idx) {
+                    counters[idx] >>>= 1;
+                }
+                this.additions >>>= 1;
+            }
+        }
+
+        /**
+         * Estimated number of requests of the key.
+         * @param key The key
+         * @return Frequency
+         */
+        int frequency(final Object key) {
+            final int hash = TinyLfu.Sketch.spread(key);
+            int min = TinyLfu.Sketch.CEILING;
+            for (final int seed : TinyLfu.Sketch.SEEDS) {
+                min = Math.min(min, this.table[this.index(hash, seed)]);
+            }
+            return min;
+        }
+
+        /**
+         * Position of the counter in the table.
+         * @param hash Hash of the key
+         * @param seed Seed of the hash function
+         * @return Position
+         */
+        private int index(final int hash, final int seed) {
+            final int[] counters = this.table;
+            final int mixed = (hash + seed) * seed;
+            return (mixed ^ mixed >>> 16) & counters.length - 1;
+        }
+
+        /**
+         * Length of the table, which is a power of two, about four
+         * times bigger than the map.
+         * @param max Maximum number of entries in the map
+         * @return Length
+         */
+        private static int length(final int max) {
+            int length = 16;
+            while (length < TinyLfu.Sketch.LONGEST && length / 4 < max) {
+                length <<= 1;
+            }
+            return length;
+        }
+
+        /**
+         * Hash code of the key, with spread bits.
+         * @param key The key
+         * @return Hash
+         */
+        private static int spread(final Object key) {
+            final int hash = Objects.hashCode(key);
+            return hash ^ hash >>> 16;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.map;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Map, which holds its keys through weak references.
+ *
+ * <p>An entry disappears from the map when its key is not used
+ * anywhere else and the garbage collector reclaims it. Keys are compared
+ * by {@link Object#equals(Object)}. Entries with reclaimed keys are
+ * removed incrementally, on every access to the map, without any
+ * background thread. Unlike {@link java.util.WeakHashMap}, this map
+ * may be shared between threads, for example as a storage
+ * of {@link org.cactoos.func.SolidFunc}:</p>
+ *
+ * <pre>{@code
+ * final Func<Session, Profile> func = new SolidFunc<>(
+ *     session -> new Profile(session), WeakKeys::new
+ * );
+ * }</pre>
+ *
+ * <p>The caller must keep a key strongly reachable for as long as its
+ * entry is needed. A key, which is made only for a lookup, is reclaimed
+ * at the next garbage collection and its entry is never found again.
+ * That's why this map is useless as a storage of
+ * {@link org.cactoos.func.SolidBiFunc} and
+ * {@link org.cactoos.func.StickyBiFunc}: they make a new pair of their
+ * arguments on every call and nobody else refers to it.</p>
+ *
+ * <p>Values are held strongly, so a value must not refer to its own key,
+ * otherwise the entry is never reclaimed. NULL keys are not supported.
+ * Methods {@link Map#keySet()}, {@link Map#values()} and
+ * {@link Map#entrySet()} return read-only snapshots, and
+ * {@link Map#size()} may count keys, which were reclaimed
+ * but not yet removed.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @see SoftValues
+ * @since 1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class WeakKeys<K, V> extends AbstractMap<K, V>
+    implements ConcurrentMap<K, V> {
+
+    /**
+     * Replacement of NULL values.
+     */
+    private static final Object NIL = new Object();
+
+    /**
+     * Values by references to keys.
+     */
+    private final ConcurrentMap<WeakKeys.Ref, Object> values;
+
+    /**
+     * Queue of references to reclaimed keys.
+     */
+    private final ReferenceQueue<Object> queue;
+
+    /**
+     * Ctor.
+     */
+    public WeakKeys() {
+        super();
+        this.values = new ConcurrentHashMap<>(0);
+        this.queue = new ReferenceQueue<>();
+    }
+
+    @Override
+    public V get(final Object key) {
+        this.purge();
+        return WeakKeys.value(this.values.get(new WeakKeys.Ref(key, null)));
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        this.purge();
+        return this.values.containsKey(new WeakKeys.Ref(key, null));
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        this.purge();
+        return WeakKeys.value(
+            this.values.put(
+                new WeakKeys.Ref(key, this.queue), WeakKeys.stored(value)
+            )
+        );
+    }
+
+    @Override
+    public V putIfAbsent(final K key, final V value) {
+        this.purge();
+        return WeakKeys.value(
+            this.values.putIfAbsent(
+                new WeakKeys.Ref(key, this.queue), WeakKeys.stored(value)
+            )
+        );
+    }
+
+    @Override
+    public V remove(final Object key) {
+        this.purge();
+        return WeakKeys.value(
+            this.values.remove(new WeakKeys.Ref(key, null))
+        );
+    }
+
+    @Override
+    public boolean remove(final Object key, final Object value) {
+        this.purge();
+        return this.values.remove(
+            new WeakKeys.Ref(key, null), WeakKeys.stored(value)
+        );
+    }
+
+    @Override
+    public boolean replace(final K key, final V before, final V after) {
+        this.purge();
+        return this.values.replace(
+            new WeakKeys.Ref(key, null),
+            WeakKeys.stored(before),
+            WeakKeys.stored(after)
+        );
+    }
+
+    @Override
+    public V replace(final K key, final V value) {
+        this.purge();
+        return WeakKeys.value(
+            this.values.replace(
+                new WeakKeys.Ref(key, null), WeakKeys.stored(value)
+            )
+        );
+    }
+
+    @Override
+    public int size() {
+        this.purge();
+        return this.values.size();
+    }
+
+    @Override
+    public void clear() {
+        this.values.clear();
+        this.purge();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<Map.Entry<K, V>> entrySet() {
+        this.purge();
+        final Set<Map.Entry<K, V>> entries = new LinkedHashSet<>(0);
+        for (final Map.Entry<WeakKeys.Ref, Object> entry
+            : this.values.entrySet()) {
+            final Object key = entry.getKey().get();
+            if (key != null) {
+                entries.add(
+                    new AbstractMap.SimpleImmutableEntry<>(
+                        (K) key, WeakKeys.value(entry.getValue())
+                    )
+                );
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Remove entries, which keys were reclaimed.
+     */
+    private void purge() {
+        Object ref = this.queue.poll();
+        while (ref != null) {
+            this.values.remove(ref);
+            ref = this.queue.poll();
+        }
+    }
+
+    /**
+     * Value to store in the map.
+     * @param value The value, or NULL
+     * @return Value to store
+     */
+    private static Object stored(final Object value) {
+        final Object result;
+        if (value == null) {
+            result = WeakKeys.NIL;
+        } else {
+            result = value;
+        }
+        return result;
+    }
+
+    /**
+     * Value taken from the map.
+     * @param stored Stored value, or NULL
+     * @param <V> Type of value
+     * @return The value, or NULL if there is none
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> V value(final Object stored) {
+        final Object result;
+        if (WeakKeys.NIL.equals(stored)) {
+            result = null;
+        } else {
+            result = stored;
+        }
+        return (V) result;
+    }
+
+    /**
+     * Weak reference to a key, equal to any other reference
+     * to an equal key.
+     *
+     * @since 1.0
+     */
+    private static final class Ref extends WeakReference<Object> {
+
+        /**
+         * Hash code of the key.
+         */
+        private final int hash;
+
+        /**
+         * Ctor.
+         * @param key The key
+         * @param queue The queue to register with, or NULL for lookups
+         */
+        Ref(final Object key, final ReferenceQueue<Object> queue) {
+            super(key, queue);
+            this.hash = key.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            boolean same = this == other;
+            if (!same && other instanceof WeakKeys.Ref) {
+                final Object key = this.get();
+                same = key != null && key.equals(((WeakKeys.Ref) other).get());
+            }
+            return same;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -4,13 +4,20 @@
  */
 package org.cactoos.proc;
 
+import java.util.concurrent.ExecutorService;
 import org.cactoos.Proc;
+import org.cactoos.Scalar;
 import org.cactoos.func.FuncOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.Partitioned;
 import org.cactoos.scalar.AndInThreads;
+import org.cactoos.scalar.ThreadPerTask;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
 
 /**
- * Executes a {@link Proc} in a new Thread for each element of an
- * {@link Iterable}
+ * Executes a {@link Proc} in a new Thread for each element, or a batch
+ * of elements, of an {@link Iterable}
  *
  * <p>
  * This class can be effectively used to iterate through a collection, just like
@@ -27,32 +34,143 @@ import org.cactoos.scalar.AndInThreads;
  *    // Order of printing can be random.
  * }
  * <p>
+ * By default every element gets its own {@link ThreadPerTask} thread, no
+ * more than {@link AndInThreads} keeps in flight. To keep memory and load
+ * bounded tighter for a long {@link Iterable}, limit the parallelism:
+ * elements are then pulled lazily and no more than the given number of
+ * them, or of their batches, are in flight:
+ * </p>
+ *
+ * {@code
+ * new ForEachInThreads<Row>(row -> table.insert(row), 16, 100).exec(rows);
+ * }
+ * <p>
+ * Either way, elements are executed by {@link AndInThreads}: the first
+ * failure cancels the elements in flight and is thrown wrapped into
+ * {@link java.util.concurrent.ExecutionException}. The parallelism and
+ * the batch must be at least one, otherwise the constructor throws
+ * {@link IllegalArgumentException}.
+ * <p>
  * There is no thread-safety guarantee.
  *
  * @param <X> The type to iterate over
  * @since 1.0
  */
-public final class ForEachInThreads<X> implements Proc<Iterable<X>> {
+public final class ForEachInThreads<X> extends ProcEnvelope<Iterable<X>> {
+
+    /**
+     * Ctor.
+     *
+     * @param proc The proc to execute
+     */
+    public ForEachInThreads(final Proc<X> proc) {
+        this(proc, new ThreadPerTask().value());
+    }
 
     /**
-     * The proc.
+     * Ctor.
+     *
+     * @param proc The proc to execute
+     * @param svc The service to execute it in, it is not shut down
+     * @since 1.0
      */
-    private final Proc<X> proc;
+    public ForEachInThreads(final Proc<X> proc, final ExecutorService svc) {
+        super(
+            input -> new AndInThreads(
+                svc, new FuncOf<>(proc, true), input
+            ).value()
+        );
+    }
 
     /**
      * Ctor.
      *
      * @param proc The proc to execute
+     * @param parallelism Maximum number of elements in flight
+     * @since 1.0
      */
-    public ForEachInThreads(final Proc<X> proc) {
-        this.proc = proc;
+    public ForEachInThreads(final Proc<X> proc, final int parallelism) {
+        this(proc, parallelism, 1);
     }
 
-    @Override
-    public void exec(final Iterable<X> input) throws Exception {
-        new AndInThreads(
-            new FuncOf<>(this.proc, true), input
+    /**
+     * Ctor.
+     *
+     * @param proc The proc to execute
+     * @param parallelism Maximum number of batches in flight
+     * @param batch Number of elements in a batch
+     * @since 1.0
+     */
+    public ForEachInThreads(final Proc<X> proc, final int parallelism,
+        final int batch) {
+        this(proc, new ThreadPerTask().value(), parallelism, batch);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param proc The proc to execute
+     * @param svc The service to execute it in, it is not shut down
+     * @param parallelism Maximum number of batches in flight
+     * @param batch Number of elements in a batch
+     * @since 1.0
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public ForEachInThreads(final Proc<X> proc, final ExecutorService svc,
+        final int parallelism, final int batch) {
+        super(
+            ForEachInThreads.batched(
+                proc, svc,
+                ForEachInThreads.positive(parallelism, "parallelism"),
+                ForEachInThreads.positive(batch, "batch")
+            )
+        );
+    }
+
+    /**
+     * Proc, which executes the original one for batches of elements, no
+     * more than the given number of batches at a time.
+     * @param proc The proc to execute
+     * @param svc The service to execute it in
+     * @param parallelism Maximum number of batches in flight
+     * @param batch Number of elements in a batch
+     * @param <X> The type to iterate over
+     * @return The proc
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static <X> Proc<Iterable<X>> batched(final Proc<X> proc,
+        final ExecutorService svc, final int parallelism, final int batch) {
+        return input -> new AndInThreads(
+            svc,
+            parallelism,
+            new Mapped<Scalar<Boolean>>(
+                items -> () -> {
+                    for (final X item : items) {
+                        proc.exec(item);
+                    }
+                    return true;
+                },
+                new Partitioned<>(batch, input)
+            )
         ).value();
     }
 
+    /**
+     * Check the number.
+     * @param number The number
+     * @param name Name of the number
+     * @return The number
+     */
+    private static int positive(final int number, final String name) {
+        if (number < 1) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "The %s must be at least 1: %d", name, number
+                    )
+                ).asString()
+            );
+        }
+        return number;
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.proc;
+
+import java.time.Duration;
+import org.cactoos.Proc;
+import org.cactoos.func.Bulkhead;
+import org.cactoos.func.FuncOf;
+import org.cactoos.func.FuncWithBulkhead;
+
+/**
+ * Proc, which is executed only when the {@link Bulkhead} has
+ * a free place.
+ *
+ * <p>It protects a shared dependency from loops, which run
+ * in many threads:</p>
+ *
+ * <pre>{@code
+ * new ForEachInThreads<String>(
+ *     new ProcWithBulkhead<>(id -> backend.delete(id), new Bulkhead(4, 1000))
+ * ).exec(ids);
+ * }</pre>
+ *
+ * <p>See {@link FuncWithBulkhead} for the details.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original proc is.</p>
+ *
+ * @param <X> Type of input
+ * @since 1.0
+ */
+public final class ProcWithBulkhead<X> implements Proc<X> {
+
+    /**
+     * Func with the bulkhead.
+     */
+    private final FuncWithBulkhead<X, Boolean> func;
+
+    /**
+     * Ctor.
+     * @param proc Original proc
+     * @param bulkhead The bulkhead
+     */
+    public ProcWithBulkhead(final Proc<? super X> proc,
+        final Bulkhead bulkhead) {
+        this(proc, bulkhead, Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Ctor.
+     * @param proc Original proc
+     * @param bulkhead The bulkhead
+     * @param timeout How long to wait for a place
+     */
+    public ProcWithBulkhead(final Proc<? super X> proc,
+        final Bulkhead bulkhead, final Duration timeout) {
+        this.func = new FuncWithBulkhead<>(
+            new FuncOf<>(proc, true), bulkhead, timeout
+        );
+    }
+
+    @Override
+    public void exec(final X input) throws Exception {
+        this.func.apply(input);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.proc;
+
+import org.cactoos.Proc;
+import org.cactoos.func.FuncOf;
+import org.cactoos.func.FuncWithMeter;
+import org.cactoos.func.Meter;
+
+/**
+ * Proc, which records its executions in a {@link Meter}.
+ *
+ * <p>Objects of this class are thread safe, if the original proc is.</p>
+ *
+ * @param <X> Type of input
+ * @since 1.0
+ */
+public final class ProcWithMeter<X> implements Proc<X> {
+
+    /**
+     * Func with the meter.
+     */
+    private final FuncWithMeter<X, Boolean> func;
+
+    /**
+     * Ctor.
+     * @param proc Original proc
+     * @param meter The meter
+     */
+    public ProcWithMeter(final Proc<? super X> proc, final Meter meter) {
+        this.func = new FuncWithMeter<>(new FuncOf<>(proc, true), meter);
+    }
+
+    @Override
+    public void exec(final X input) throws Exception {
+        this.func.apply(input);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.proc;
+
+import java.time.Duration;
+import org.cactoos.Proc;
+import org.cactoos.func.FuncOf;
+import org.cactoos.func.TokenBucket;
+
+/**
+ * Proc, which is executed not more often than the
+ * {@link TokenBucket} allows.
+ *
+ * <p>It is handy for loops, which hit a rate-limited backend:</p>
+ *
+ * <pre>{@code
+ * new ForEachInThreads<String>(
+ *     new Throttled<>(
+ *         id -> backend.delete(id),
+ *         new TokenBucket(100, Duration.ofSeconds(1L))
+ *     )
+ * ).exec(ids);
+ * }</pre>
+ *
+ * <p>See {@link org.cactoos.func.Throttled} for the details.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original proc is.</p>
+ *
+ * @param <X> Type of input
+ * @since 1.0
+ */
+public final class Throttled<X> implements Proc<X> {
+
+    /**
+     * Throttled func.
+     */
+    private final org.cactoos.func.Throttled<X, Boolean> func;
+
+    /**
+     * Ctor.
+     * @param proc Original proc
+     * @param bucket The bucket
+     */
+    public Throttled(final Proc<? super X> proc, final TokenBucket bucket) {
+        this(proc, bucket, Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Ctor.
+     * @param proc Original proc
+     * @param bucket The bucket
+     * @param timeout How long to wait for a token
+     */
+    public Throttled(final Proc<? super X> proc, final TokenBucket bucket,
+        final Duration timeout) {
+        this.func = new org.cactoos.func.Throttled<>(
+            new FuncOf<>(proc, true), bucket, timeout
+        );
+    }
+
+    @Override
+    public void exec(final X input) throws Exception {
+        this.func.apply(input);
+    }
+}
@@ -4,24 +4,32 @@
  */
 package org.cactoos.scalar;
 
-import java.util.Collection;
-import java.util.LinkedList;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
 import org.cactoos.Func;
 import org.cactoos.Proc;
 import org.cactoos.Scalar;
 import org.cactoos.func.FuncOf;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Mapped;
-import org.cactoos.text.FormattedText;
 
 /**
  * Logical conjunction, in multiple threads.
  *
- * <p>The usage is same as for {@link And}</p>
+ * <p>The usage is same as for {@link And}. Results are taken in the
+ * order the scalars finish: as soon as one of them is FALSE or fails,
+ * the result is known and the others are cancelled.</p>
+ *
+ * <p>By default the scalars run in {@link ThreadPerTask}, give your own
+ * {@link ExecutorService} to run them elsewhere. It is not shut
+ * down. Mind that the default constructors don't create a new thread
+ * pool for every evaluation and don't shut it down after it any more:
+ * all of them share the same executor, so a scalar must not rely on
+ * a thread of its own.</p>
+ *
+ * <p>At most 1024 scalars, or the given {@code window} of them, are
+ * submitted at a time, the next one is submitted when one of them
+ * finishes. The window must be at least one, otherwise the constructor
+ * throws {@link IllegalArgumentException}.</p>
  *
  * <p>This class implements {@link Scalar}, which throws a checked
  * {@link Exception}. This may not be convenient in many cases. To make
@@ -35,22 +43,7 @@ import org.cactoos.text.FormattedText;
  * @see IoChecked
  * @since 0.25
  */
-public final class AndInThreads implements Scalar<Boolean> {
-
-    /**
-     * The service.
-     */
-    private final ExecutorService service;
-
-    /**
-     * The iterator.
-     */
-    private final Iterable<? extends Scalar<Boolean>> iterable;
-
-    /**
-     * Shut down the service when it's done.
-     */
-    private final boolean shut;
+public final class AndInThreads extends ScalarEnvelope<Boolean> {
 
     /**
      * Ctor.
@@ -93,7 +86,7 @@ public final class AndInThreads implements Scalar<Boolean> {
      * @param src The iterable
      */
     public AndInThreads(final Iterable<? extends Scalar<Boolean>> src) {
-        this(Executors.newCachedThreadPool(), src, true);
+        this(new ThreadPerTask().value(), src);
     }
 
     /**
@@ -182,48 +175,31 @@ public final class AndInThreads implements Scalar<Boolean> {
      */
     public AndInThreads(final ExecutorService svc,
         final Iterable<? extends Scalar<Boolean>> src) {
-        this(svc, src, false);
+        super(
+            new InThreads(
+                svc, src, true,
+                (first, second) -> first && second,
+                result -> !result
+            )
+        );
     }
 
     /**
      * Ctor.
      * @param svc Executable service to run thread in
+     * @param window Maximum number of scalars submitted at a time
      * @param src The iterable
-     * @param sht Shut it down
+     * @since 1.0
      */
-    private AndInThreads(final ExecutorService svc,
-        final Iterable<? extends Scalar<Boolean>> src, final boolean sht) {
-        this.service = svc;
-        this.iterable = src;
-        this.shut = sht;
-    }
-
-    @Override
-    public Boolean value() throws Exception {
-        final Collection<Future<Boolean>> futures = new LinkedList<>();
-        for (final Scalar<Boolean> item : this.iterable) {
-            futures.add(this.service.submit(item::value));
-        }
-        final boolean result = new And(
-            Future::get,
-            futures
-        ).value();
-        if (this.shut) {
-            this.service.shutdown();
-            try {
-                if (!this.service.awaitTermination(1L, TimeUnit.MINUTES)) {
-                    throw new IllegalStateException(
-                        new FormattedText(
-                            "Can't terminate the service, result=%b",
-                            result
-                        ).asString()
-                    );
-                }
-            } catch (final InterruptedException ex) {
-                Thread.currentThread().interrupt();
-                throw new IllegalStateException(ex);
-            }
-        }
-        return result;
+    public AndInThreads(final ExecutorService svc, final int window,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        super(
+            new InThreads(
+                svc, src, true,
+                (first, second) -> first && second,
+                result -> !result,
+                window
+            )
+        );
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import org.cactoos.Scalar;
+
+/**
+ * Cached version of a Scalar, which is recalculated when the given
+ * time has passed since the last calculation.
+ *
+ * <pre>{@code
+ * final Scalar<Token> token = new Expiring<>(
+ *     () -> new Token(),
+ *     Duration.ofMinutes(5L)
+ * );
+ * }</pre>
+ *
+ * <p>Time is measured by a monotonic ticker, {@link System#nanoTime()}
+ * by default, so a step of the wall clock doesn't expire the value early
+ * or keep it too long.</p>
+ *
+ * <p>Pay attention that this class is not thread-safe. It is highly
+ * recommended to always decorate it with {@link Synced}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @param <T> Type of result
+ * @see org.cactoos.func.Expiring
+ * @since 1.0
+ */
+public final class Expiring<T> implements Scalar<T> {
+
+    /**
+     * Origin.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * Time to live, in nanoseconds.
+     */
+    private final long ttl;
+
+    /**
+     * The ticker, which returns the current moment in nanoseconds.
+     */
+    private final LongSupplier ticker;
+
+    /**
+     * The cached value.
+     */
+    private T cached;
+
+    /**
+     * The moment of the calculation, in nanoseconds.
+     */
+    private long moment;
+
+    /**
+     * Is the value calculated?
+     */
+    private boolean done;
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param ttl Time to live
+     */
+    public Expiring(final Scalar<? extends T> scalar, final Duration ttl) {
+        this(scalar, ttl, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param ttl Time to live
+     * @param ticker The monotonic ticker, in nanoseconds
+     */
+    public Expiring(final Scalar<? extends T> scalar, final Duration ttl,
+        final LongSupplier ticker) {
+        this.origin = scalar;
+        this.ttl = ttl.toNanos();
+        this.ticker = ticker;
+    }
+
+    @Override
+    public T value() throws Exception {
+        final long now = this.ticker.getAsLong();
+        if (!this.done || now - this.moment >= this.ttl) {
+            this.cached = this.origin.value();
+            this.moment = now;
+            this.done = true;
+        }
+        return this.cached;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.cactoos.BiFunc;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Logical operation over scalars, calculated in multiple threads.
+ *
+ * <p>Results are taken in the order of completion, not submission. As
+ * soon as the result is known or any scalar fails, the scalars, which
+ * are still running, are cancelled.</p>
+ *
+ * <p>At most {@code window} scalars are submitted at a time, the next
+ * one is submitted when one of them finishes. So the scalars are taken
+ * from the iterable lazily, and a long iterable is not kept in memory
+ * as futures. The window must be at least one, otherwise the
+ * constructor throws {@link IllegalArgumentException}.</p>
+ *
+ * @since 1.0
+ */
+final class InThreads implements Scalar<Boolean> {
+
+    /**
+     * Default number of scalars submitted at a time.
+     */
+    private static final int WINDOW = 1024;
+
+    /**
+     * The service.
+     */
+    private final ExecutorService service;
+
+    /**
+     * The scalars.
+     */
+    private final Iterable<? extends Scalar<Boolean>> iterable;
+
+    /**
+     * Result of no scalars.
+     */
+    private final boolean initial;
+
+    /**
+     * Operation to add the next result.
+     */
+    private final BiFunc<Boolean, Boolean, Boolean> operation;
+
+    /**
+     * Is the result known?
+     */
+    private final Func<Boolean, Boolean> known;
+
+    /**
+     * Number of scalars submitted at a time.
+     */
+    private final int window;
+
+    /**
+     * Ctor.
+     * @param svc The service
+     * @param src The scalars
+     * @param initial Result of no scalars
+     * @param operation Operation to add the next result
+     * @param known Is the result known?
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    InThreads(final ExecutorService svc,
+        final Iterable<? extends Scalar<Boolean>> src, final boolean initial,
+        final BiFunc<Boolean, Boolean, Boolean> operation,
+        final Func<Boolean, Boolean> known) {
+        this(svc, src, initial, operation, known, InThreads.WINDOW);
+    }
+
+    /**
+     * Ctor.
+     * @param svc The service
+     * @param src The scalars
+     * @param initial Result of no scalars
+     * @param operation Operation to add the next result
+     * @param known Is the result known?
+     * @param window Number of scalars submitted at a time
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    InThreads(final ExecutorService svc,
+        final Iterable<? extends Scalar<Boolean>> src, final boolean initial,
+        final BiFunc<Boolean, Boolean, Boolean> operation,
+        final Func<Boolean, Boolean> known, final int window) {
+        this.service = svc;
+        this.iterable = src;
+        this.initial = initial;
+        this.operation = operation;
+        this.known = known;
+        this.window = InThreads.positive(window);
+    }
+
+    @Override
+    public Boolean value() throws Exception {
+        final CompletionService<Boolean> completion =
+            new ExecutorCompletionService<>(this.service);
+        final Iterator<? extends Scalar<Boolean>> items =
+            this.iterable.iterator();
+        final Set<Future<Boolean>> running = new HashSet<>(0);
+        boolean result = this.initial;
+        try {
+            InThreads.submit(completion, items, running, this.window);
+            while (!running.isEmpty() && !this.known.apply(result)) {
+                final Future<Boolean> done = completion.take();
+                running.remove(done);
+                result = this.operation.apply(result, done.get());
+                if (!this.known.apply(result)) {
+                    InThreads.submit(completion, items, running, this.window);
+                }
+            }
+        } finally {
+            for (final Future<Boolean> future : running) {
+                future.cancel(true);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Submit the next scalars, until the window is full.
+     * @param completion The completion service
+     * @param items The scalars
+     * @param running The futures of the running scalars
+     * @param window Number of scalars submitted at a time
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static void submit(final CompletionService<Boolean> completion,
+        final Iterator<? extends Scalar<Boolean>> items,
+        final Set<Future<Boolean>> running, final int window) {
+        while (running.size() < window && items.hasNext()) {
+            running.add(completion.submit(items.next()::value));
+        }
+    }
+
+    /**
+     * Check the window.
+     * @param window Number of scalars submitted at a time
+     * @return The window
+     */
+    private static int positive(final int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "The window must be at least 1: %d", window
+                    )
+                ).asString()
+            );
+        }
+        return window;
+    }
+}
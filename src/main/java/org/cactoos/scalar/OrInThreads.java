@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Logical disjunction, in multiple threads.
+ *
+ * <p>The usage is same as for {@link Or}. Results are taken in the
+ * order the scalars finish: as soon as one of them is TRUE, the result
+ * is known and the others are cancelled. If one of them fails, the
+ * others are cancelled too.</p>
+ *
+ * <p>By default the scalars run in {@link ThreadPerTask}, give your own
+ * {@link ExecutorService} to run them elsewhere. It is not shut
+ * down. Use {@link org.cactoos.iterable.Mapped} to make the scalars
+ * of a func and its inputs. At most 1024 scalars are submitted at
+ * a time, as in {@link AndInThreads}.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @see Or
+ * @see AndInThreads
+ * @since 1.0
+ */
+public final class OrInThreads extends ScalarEnvelope<Boolean> {
+
+    /**
+     * Ctor.
+     * @param src The scalars
+     */
+    @SafeVarargs
+    public OrInThreads(final Scalar<Boolean>... src) {
+        this(new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param src The scalars
+     */
+    public OrInThreads(final Iterable<? extends Scalar<Boolean>> src) {
+        this(new ThreadPerTask().value(), src);
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param src The scalars
+     */
+    @SafeVarargs
+    public OrInThreads(final ExecutorService svc,
+        final Scalar<Boolean>... src) {
+        this(svc, new IterableOf<>(src));
+    }
+
+    /**
+     * Ctor.
+     * @param svc Executable service to run thread in
+     * @param src The scalars
+     */
+    public OrInThreads(final ExecutorService svc,
+        final Iterable<? extends Scalar<Boolean>> src) {
+        super(
+            new InThreads(
+                svc, src, false,
+                (first, second) -> first || second,
+                result -> result
+            )
+        );
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.cactoos.Scalar;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Cached version of a Scalar, which is recalculated in background
+ * before it expires.
+ *
+ * <p>A value older than {@code refresh} is still returned, while
+ * a new one is being calculated by the executor, by default the shared
+ * {@link ThreadPerTask} executor, which
+ * {@link org.cactoos.func.Refreshing} uses too. Only when the value gets
+ * older than {@code ttl} the caller has to wait for its calculation,
+ * which concurrent callers share.</p>
+ *
+ * <pre>{@code
+ * final Scalar<Config> config = new Refreshing<>(
+ *     () -> new Config(),
+ *     Duration.ofMinutes(4L),
+ *     Duration.ofMinutes(5L)
+ * );
+ * }</pre>
+ *
+ * <p>If a background calculation fails, the stale value is kept until
+ * it expires. The {@code refresh} age must be shorter than {@code ttl},
+ * otherwise the constructor throws {@link IllegalArgumentException}.
+ * Time is measured by a monotonic ticker, {@link System#nanoTime()}
+ * by default.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @param <T> Type of result
+ * @see org.cactoos.func.Refreshing
+ * @since 1.0
+ */
+public final class Refreshing<T> implements Scalar<T> {
+
+    /**
+     * Origin.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * Age after which the value is refreshed, in nanoseconds.
+     */
+    private final long refresh;
+
+    /**
+     * Time to live, in nanoseconds.
+     */
+    private final long ttl;
+
+    /**
+     * Executor of background calculations.
+     */
+    private final Executor executor;
+
+    /**
+     * The ticker, which returns the current moment in nanoseconds.
+     */
+    private final LongSupplier ticker;
+
+    /**
+     * Is the value being refreshed right now?
+     */
+    private final AtomicBoolean running;
+
+    /**
+     * Sync lock of the calculation of the expired value.
+     */
+    private final Lock lock;
+
+    /**
+     * The cached value with the moment it was calculated.
+     */
+    private volatile Refreshing.Stamped<T> cache;
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param refresh Age after which the value is refreshed
+     * @param ttl Time to live
+     */
+    public Refreshing(final Scalar<? extends T> scalar,
+        final Duration refresh, final Duration ttl) {
+        this(scalar, refresh, ttl, new ThreadPerTask().value());
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param refresh Age after which the value is refreshed
+     * @param ttl Time to live
+     * @param exec Executor of background calculations
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Refreshing(final Scalar<? extends T> scalar,
+        final Duration refresh, final Duration ttl, final Executor exec) {
+        this(scalar, refresh, ttl, exec, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param refresh Age after which the value is refreshed
+     * @param ttl Time to live
+     * @param exec Executor of background calculations
+     * @param ticker The monotonic ticker, in nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Refreshing(final Scalar<? extends T> scalar,
+        final Duration refresh, final Duration ttl, final Executor exec,
+        final LongSupplier ticker) {
+        this.origin = scalar;
+        this.refresh = Refreshing.shorter(refresh, ttl).toNanos();
+        this.ttl = ttl.toNanos();
+        this.executor = exec;
+        this.ticker = ticker;
+        this.running = new AtomicBoolean();
+        this.lock = new ReentrantLock();
+    }
+
+    @Override
+    public T value() throws Exception {
+        Refreshing.Stamped<T> cached = this.cache;
+        if (this.expired(cached)) {
+            this.lock.lock();
+            try {
+                cached = this.cache;
+                if (this.expired(cached)) {
+                    cached = this.store(this.origin.value());
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        } else if (this.ticker.getAsLong() - cached.moment >= this.refresh
+            && this.running.compareAndSet(false, true)) {
+            this.reload();
+        }
+        return cached.content;
+    }
+
+    /**
+     * Is the value missing or expired?
+     * @param cached The cached value
+     * @return TRUE if it is
+     */
+    private boolean expired(final Refreshing.Stamped<T> cached) {
+        return cached == null
+            || this.ticker.getAsLong() - cached.moment >= this.ttl;
+    }
+
+    /**
+     * Calculate the value in background and put it into the cache.
+     */
+    private void reload() {
+        try {
+            CompletableFuture.supplyAsync(
+                () -> new Unchecked<>(this.origin).value(),
+                this.executor
+            ).whenComplete(
+                (value, error) -> {
+                    if (error == null) {
+                        this.store(value);
+                    }
+                    this.running.set(false);
+                }
+            );
+        } catch (final RejectedExecutionException ex) {
+            this.running.set(false);
+            throw ex;
+        }
+    }
+
+    /**
+     * Put the value into the cache.
+     * @param value The value
+     * @return The cached value
+     */
+    private Refreshing.Stamped<T> store(final T value) {
+        final Refreshing.Stamped<T> stamped = new Refreshing.Stamped<>(
+            value, this.ticker.getAsLong()
+        );
+        this.cache = stamped;
+        return stamped;
+    }
+
+    /**
+     * Make sure the refresh age is shorter than the time to live.
+     * @param refresh Age after which the value is refreshed
+     * @param ttl Time to live
+     * @return The refresh age
+     */
+    private static Duration shorter(final Duration refresh,
+        final Duration ttl) {
+        if (refresh.compareTo(ttl) >= 0) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText(
+                        "The refresh age must be shorter than TTL: %s, %s",
+                        refresh, ttl
+                    )
+                ).asString()
+            );
+        }
+        return refresh;
+    }
+
+    /**
+     * Cached value together with the moment it was calculated.
+     *
+     * @param <T> Type of value
+     * @since 1.0
+     */
+    private static final class Stamped<T> {
+
+        /**
+         * The value.
+         */
+        private final T content;
+
+        /**
+         * The moment, in nanoseconds.
+         */
+        private final long moment;
+
+        /**
+         * Ctor.
+         * @param value The value
+         * @param moment The moment, in nanoseconds
+         */
+        Stamped(final T value, final long moment) {
+            this.content = value;
+            this.moment = moment;
+        }
+    }
+}
@@ -7,6 +7,7 @@ package org.cactoos.scalar;
 import java.time.Duration;
 import org.cactoos.Func;
 import org.cactoos.Scalar;
+import org.cactoos.func.RetryBudget;
 
 /**
  * Func that will try a few times before throwing an exception.
@@ -23,6 +24,10 @@ import org.cactoos.Scalar;
  * ).value() // will try to run 5 times before throwing an exception
  * }</pre>
  *
+ * <p>The wait between attempts may depend on the number of the failed
+ * attempt, see {@link org.cactoos.func.ExponentialBackoff}, and retries
+ * may be limited by a shared {@link RetryBudget}.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * <p>This class implements {@link Scalar}, which throws a checked
@@ -47,9 +52,14 @@ public final class Retry<T> implements Scalar<T> {
     private final Func<Integer, Boolean> func;
 
     /**
-     * Wait between executions.
+     * Wait after the failed attempt.
      */
-    private final Duration wait;
+    private final Func<Integer, Duration> backoff;
+
+    /**
+     * Budget of retries.
+     */
+    private final RetryBudget budget;
 
     /**
      * Ctor.
@@ -106,9 +116,40 @@ public final class Retry<T> implements Scalar<T> {
      */
     public Retry(final Scalar<? extends T> scalar,
         final Func<Integer, Boolean> exit, final Duration wait) {
+        this(scalar, exit, attempt -> wait, new RetryBudget.None());
+    }
+
+    /**
+     * Ctor.
+     * @param scalar Scalar original
+     * @param attempts Maximum number of attempts
+     * @param backoff Wait after the failed attempt, by its number
+     * @since 1.0
+     */
+    public Retry(final Scalar<? extends T> scalar, final int attempts,
+        final Func<Integer, Duration> backoff) {
+        this(
+            scalar, attempt -> attempt >= attempts, backoff,
+            new RetryBudget.None()
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param scalar Scalar original
+     * @param exit Exit condition, returns TRUE if there is no reason to try
+     * @param backoff Wait after the failed attempt, by its number
+     * @param budget Budget of retries
+     * @since 1.0
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Retry(final Scalar<? extends T> scalar,
+        final Func<Integer, Boolean> exit,
+        final Func<Integer, Duration> backoff, final RetryBudget budget) {
         this.origin = scalar;
         this.func = exit;
-        this.wait = wait;
+        this.backoff = backoff;
+        this.budget = budget;
     }
 
     @Override
@@ -116,7 +157,8 @@ public final class Retry<T> implements Scalar<T> {
         return new org.cactoos.func.Retry<>(
             (Func<Boolean, T>) input -> this.origin.value(),
             this.func,
-            this.wait
+            this.backoff,
+            this.budget
         ).apply(true);
     }
 }
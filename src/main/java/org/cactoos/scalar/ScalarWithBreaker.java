@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.CircuitBreaker;
+import org.cactoos.func.FuncWithBreaker;
+
+/**
+ * Scalar, which is not calculated while the circuit breaker is open.
+ *
+ * <p>When the {@link CircuitBreaker} is open, the call fails fast with
+ * {@link java.util.concurrent.RejectedExecutionException}. Use
+ * {@link ScalarWithFallback} to replace it with a default value.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original
+ * scalar is.</p>
+ *
+ * @param <T> Type of result
+ * @see FuncWithBreaker
+ * @since 1.0
+ */
+public final class ScalarWithBreaker<T> implements Scalar<T> {
+
+    /**
+     * The origin scalar.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * The breaker.
+     */
+    private final CircuitBreaker breaker;
+
+    /**
+     * Ctor.
+     * @param origin Original scalar
+     * @param breaker The breaker
+     */
+    public ScalarWithBreaker(final Scalar<? extends T> origin,
+        final CircuitBreaker breaker) {
+        this.origin = origin;
+        this.breaker = breaker;
+    }
+
+    @Override
+    public T value() throws Exception {
+        return new FuncWithBreaker<>(
+            (Func<Boolean, T>) input -> this.origin.value(),
+            this.breaker
+        ).apply(true);
+    }
+}
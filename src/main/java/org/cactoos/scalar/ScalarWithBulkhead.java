@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.Bulkhead;
+import org.cactoos.func.FuncWithBulkhead;
+
+/**
+ * Scalar, which is calculated only when the {@link Bulkhead} has
+ * a free place.
+ *
+ * <p>If the place is not taken in time, the call fails with
+ * {@link java.util.concurrent.RejectedExecutionException}. Use
+ * {@link ScalarWithFallback} to replace it with a default value.</p>
+ *
+ * <p>Objects of this class are thread safe, if the original
+ * scalar is.</p>
+ *
+ * @param <T> Type of result
+ * @see FuncWithBulkhead
+ * @since 1.0
+ */
+public final class ScalarWithBulkhead<T> implements Scalar<T> {
+
+    /**
+     * The origin scalar.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * The bulkhead.
+     */
+    private final Bulkhead bulkhead;
+
+    /**
+     * How long to wait for a place.
+     */
+    private final Duration timeout;
+
+    /**
+     * Ctor.
+     * @param origin Original scalar
+     * @param bulkhead The bulkhead
+     */
+    public ScalarWithBulkhead(final Scalar<? extends T> origin,
+        final Bulkhead bulkhead) {
+        this(origin, bulkhead, Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * Ctor.
+     * @param origin Original scalar
+     * @param bulkhead The bulkhead
+     * @param timeout How long to wait for a place
+     */
+    public ScalarWithBulkhead(final Scalar<? extends T> origin,
+        final Bulkhead bulkhead, final Duration timeout) {
+        this.origin = origin;
+        this.bulkhead = bulkhead;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public T value() throws Exception {
+        return new FuncWithBulkhead<>(
+            (Func<Boolean, T>) input -> this.origin.value(),
+            this.bulkhead,
+            this.timeout
+        ).apply(true);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.FuncWithMeter;
+import org.cactoos.func.Meter;
+
+/**
+ * Scalar, which records its calculations in a {@link Meter}.
+ *
+ * <p>Objects of this class are thread safe, if the original
+ * scalar is.</p>
+ *
+ * @param <T> Type of result
+ * @since 1.0
+ */
+public final class ScalarWithMeter<T> implements Scalar<T> {
+
+    /**
+     * The origin scalar.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * The meter.
+     */
+    private final Meter meter;
+
+    /**
+     * Ctor.
+     * @param origin Original scalar
+     * @param meter The meter
+     */
+    public ScalarWithMeter(final Scalar<? extends T> origin,
+        final Meter meter) {
+        this.origin = origin;
+        this.meter = meter;
+    }
+
+    @Override
+    public T value() throws Exception {
+        return new FuncWithMeter<>(
+            (Func<Boolean, T>) input -> this.origin.value(),
+            this.meter
+        ).apply(true);
+    }
+}
@@ -4,11 +4,36 @@
  */
 package org.cactoos.scalar;
 
+import java.time.Duration;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import org.cactoos.Func;
 import org.cactoos.Scalar;
 
 /**
  * Cached and synchronized version of a Scalar.
  *
+ * <p>The value is calculated only once, by one thread, while others
+ * wait for it. Once it's calculated, it's read without any locking,
+ * even if it is NULL.</p>
+ *
+ * <p>By default a failed calculation is not cached and the next call
+ * tries again. With a backoff the exception is cached and thrown to all
+ * callers until the backoff is over; give
+ * {@link java.time.temporal.ChronoUnit#FOREVER} duration to cache
+ * it forever, or {@link org.cactoos.func.ExponentialBackoff} to wait
+ * longer after every next failure. The backoff is measured by a monotonic
+ * ticker, {@link System#nanoTime()} by default, so a step of the wall
+ * clock doesn't shorten or stretch it:</p>
+ *
+ * <pre>{@code
+ * final Scalar<Config> config = new Solid<>(
+ *     () -> new Config(server),
+ *     new ExponentialBackoff(Duration.ofSeconds(1L))
+ * );
+ * }</pre>
+ *
  * <p>Objects of this class are thread safe.
  *
  * @param <T> Type of result
@@ -18,39 +43,203 @@ import org.cactoos.Scalar;
  */
 public final class Solid<T> implements Scalar<T> {
 
+    /**
+     * Content of the cache, before the value is calculated.
+     */
+    private static final Object EMPTY = new Object();
+
+    /**
+     * Content of the cache, when the value is NULL.
+     */
+    private static final Object NIL = new Object();
+
     /**
      * Origin.
      */
     private final Scalar<? extends T> origin;
 
     /**
-     * Cache.
+     * Backoff after a number of failures in a row.
+     */
+    private final Func<Integer, Duration> backoff;
+
+    /**
+     * The ticker, which returns the current moment in nanoseconds.
+     */
+    private final LongSupplier ticker;
+
+    /**
+     * Cache: empty, the value or the failure.
      */
-    private volatile T cache;
+    private volatile Object cache;
 
     /**
      * Sync lock.
      */
-    private final Object lock;
+    private final Lock lock;
 
     /**
      * Ctor.
      * @param origin The Scalar to cache and sync
      */
     public Solid(final Scalar<? extends T> origin) {
+        this(origin, Duration.ZERO);
+    }
+
+    /**
+     * Ctor.
+     * @param origin The Scalar to cache and sync
+     * @param backoff How long to cache a failure
+     * @since 1.0
+     */
+    public Solid(final Scalar<? extends T> origin, final Duration backoff) {
+        this(origin, attempt -> backoff);
+    }
+
+    /**
+     * Ctor.
+     * @param origin The Scalar to cache and sync
+     * @param backoff How long to cache a failure, by the number
+     *  of failures in a row, starting from zero
+     * @since 1.0
+     */
+    public Solid(final Scalar<? extends T> origin,
+        final Func<Integer, Duration> backoff) {
+        this(origin, backoff, System::nanoTime);
+    }
+
+    /**
+     * Ctor.
+     * @param origin The Scalar to cache and sync
+     * @param backoff How long to cache a failure, by the number
+     *  of failures in a row, starting from zero
+     * @param ticker The monotonic ticker, in nanoseconds
+     * @since 1.0
+     */
+    public Solid(final Scalar<? extends T> origin,
+        final Func<Integer, Duration> backoff, final LongSupplier ticker) {
         this.origin = origin;
-        this.lock = new Object();
+        this.backoff = backoff;
+        this.ticker = ticker;
+        this.cache = Solid.EMPTY;
+        this.lock = new ReentrantLock();
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T value() throws Exception {
-        if (this.cache == null) {
-            synchronized (this.lock) {
-                if (this.cache == null) {
-                    this.cache = this.origin.value();
+        Object current = this.cache;
+        if (this.stale(current)) {
+            this.lock.lock();
+            try {
+                current = this.cache;
+                if (this.stale(current)) {
+                    current = this.calculate(current);
+                    this.cache = current;
                 }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        if (current instanceof Solid.Failure) {
+            throw ((Solid.Failure) current).error;
+        }
+        final Object result;
+        if (Solid.NIL.equals(current)) {
+            result = null;
+        } else {
+            result = current;
+        }
+        return (T) result;
+    }
+
+    /**
+     * Does the cache need a new calculation?
+     * @param current Content of the cache
+     * @return TRUE if it does
+     */
+    private boolean stale(final Object current) {
+        return Solid.EMPTY.equals(current)
+            || current instanceof Solid.Failure
+            && this.ticker.getAsLong() - ((Solid.Failure) current).since
+            >= ((Solid.Failure) current).wait;
+    }
+
+    /**
+     * Calculate the value.
+     * @param previous Previous content of the cache
+     * @return New content of the cache
+     * @throws Exception If the backoff fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Object calculate(final Object previous) throws Exception {
+        Object result;
+        try {
+            result = this.origin.value();
+            if (result == null) {
+                result = Solid.NIL;
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            int attempt = 0;
+            if (previous instanceof Solid.Failure) {
+                attempt = ((Solid.Failure) previous).attempt + 1;
+            }
+            final Duration wait = this.backoff.apply(attempt);
+            final long nanos;
+            if (wait.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0) {
+                nanos = Long.MAX_VALUE;
+            } else {
+                nanos = wait.toNanos();
             }
+            result = new Solid.Failure(
+                ex, attempt, this.ticker.getAsLong(), nanos
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Failed calculation.
+     *
+     * @since 1.0
+     */
+    private static final class Failure {
+
+        /**
+         * The exception.
+         */
+        private final Exception error;
+
+        /**
+         * Number of failures in a row before this one.
+         */
+        private final int attempt;
+
+        /**
+         * When it failed, in nanoseconds.
+         */
+        private final long since;
+
+        /**
+         * How long to wait before trying again, in nanoseconds.
+         */
+        private final long wait;
+
+        /**
+         * Ctor.
+         * @param error The exception
+         * @param attempt Number of failures in a row before this one
+         * @param since When it failed, in nanoseconds
+         * @param wait How long to wait before trying again, in nanoseconds
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Failure(final Exception error, final int attempt, final long since,
+            final long wait) {
+            this.error = error;
+            this.attempt = attempt;
+            this.since = since;
+            this.wait = wait;
         }
-        return this.cache;
     }
 }
@@ -4,8 +4,8 @@
  */
 package org.cactoos.scalar;
 
-import org.cactoos.Func;
 import org.cactoos.Scalar;
+import org.cactoos.func.CacheStats;
 import org.cactoos.func.StickyFunc;
 
 /**
@@ -32,6 +32,11 @@ import org.cactoos.func.StickyFunc;
  * ).value()
  * }</pre>
  *
+ * <p>The value is kept in a single slot, so reading it once it's
+ * calculated costs as much as reading a field. NULL is cached too.
+ * If the calculation fails, nothing is cached and the next call
+ * tries again.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @param <T> Type of result
@@ -41,22 +46,82 @@ import org.cactoos.func.StickyFunc;
 public final class Sticky<T> implements Scalar<T> {
 
     /**
-     * Func.
+     * Content of the slot, before the value is calculated.
+     */
+    private static final Object EMPTY = new Object();
+
+    /**
+     * Statistics of objects, which don't record them.
+     */
+    private static final CacheStats IGNORED = new CacheStats.None();
+
+    /**
+     * The scalar.
+     */
+    private final Scalar<? extends T> origin;
+
+    /**
+     * Statistics.
      */
-    private final Func<Boolean, ? extends T> func;
+    private final CacheStats stats;
+
+    /**
+     * The slot with the value.
+     */
+    private Object slot;
 
     /**
      * Ctor.
      * @param scalar The Scalar to cache
      */
     public Sticky(final Scalar<? extends T> scalar) {
-        this.func = new StickyFunc<>(
-            input -> scalar.value()
-        );
+        this(scalar, Sticky.IGNORED);
+    }
+
+    /**
+     * Ctor.
+     * @param scalar The Scalar to cache
+     * @param stats Statistics to record
+     * @since 1.0
+     */
+    public Sticky(final Scalar<? extends T> scalar, final CacheStats stats) {
+        this.origin = scalar;
+        this.stats = stats;
+        this.slot = Sticky.EMPTY;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T value() throws Exception {
-        return this.func.apply(true);
+        final Object result;
+        if (Sticky.EMPTY.equals(this.slot)) {
+            result = this.calculate();
+        } else {
+            this.stats.hit();
+            result = this.slot;
+        }
+        return (T) result;
+    }
+
+    /**
+     * Calculate the value and put it into the slot.
+     * @return The value
+     * @throws Exception If fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private T calculate() throws Exception {
+        final long start = this.stats.nanos();
+        final T result;
+        try {
+            result = this.origin.value();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception | Error ex) {
+            this.stats.failed(this.stats.nanos() - start);
+            throw ex;
+        }
+        this.slot = result;
+        this.stats.loaded(this.stats.nanos() - start);
+        this.stats.resized(1L);
+        return result;
     }
 }
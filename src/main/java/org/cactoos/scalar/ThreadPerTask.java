@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+
+/**
+ * Executor, which starts a new virtual thread for every task.
+ *
+ * <p>Virtual threads are cheap, so thousands of tasks, which mostly
+ * wait for I/O, may run at once without a pool. They appeared in
+ * Java 21; on older versions this executor falls back to a cached pool
+ * of daemon threads. Either way the executor is shared by all objects
+ * of this class, so it can't be shut down: {@link ExecutorService#shutdown()}
+ * and {@link ExecutorService#shutdownNow()} throw
+ * {@link UnsupportedOperationException}. Its threads don't keep the JVM
+ * alive, there is no need to stop them:</p>
+ *
+ * <pre>{@code
+ * new AndInThreads(
+ *     new ThreadPerTask().value(),
+ *     url -> new Ping(url).value(),
+ *     urls
+ * ).value();
+ * }</pre>
+ *
+ * <p>Give it to any object, which accepts an executor, such as
+ * {@link org.cactoos.func.Async}, {@link org.cactoos.func.Timed},
+ * {@link org.cactoos.proc.ForEachInThreads} or
+ * {@link org.cactoos.experimental.Threads}.</p>
+ *
+ * <p>This class is experimental and may change.</p>
+ *
+ * <p>Objects of this class are thread safe.</p>
+ *
+ * @since 1.0
+ */
+public final class ThreadPerTask implements Scalar<ExecutorService> {
+
+    /**
+     * The executor.
+     */
+    private static final ExecutorService SHARED = new ThreadPerTask.Shared(
+        ThreadPerTask.make()
+    );
+
+    @Override
+    public ExecutorService value() {
+        return ThreadPerTask.SHARED;
+    }
+
+    /**
+     * Make the executor.
+     * @return The executor
+     */
+    private static ExecutorService make() {
+        ExecutorService exec;
+        try {
+            exec = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        } catch (final ReflectiveOperationException ex) {
+            exec = Executors.newCachedThreadPool(
+                task -> {
+                    final Thread thread = new Thread(task, "cactoos-task");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+        }
+        return exec;
+    }
+
+    /**
+     * The executor, which can't be shut down.
+     *
+     * @since 1.0
+     */
+    private static final class Shared extends AbstractExecutorService {
+
+        /**
+         * The origin.
+         */
+        private final ExecutorService origin;
+
+        /**
+         * Ctor.
+         * @param exec The origin
+         */
+        Shared(final ExecutorService exec) {
+            super();
+            this.origin = exec;
+        }
+
+        @Override
+        public void execute(final Runnable task) {
+            this.origin.execute(task);
+        }
+
+        @Override
+        public void shutdown() {
+            throw new UnsupportedOperationException(
+                "The shared executor can't be shut down"
+            );
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            throw new UnsupportedOperationException(
+                "The shared executor can't be shut down"
+            );
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout,
+            final TimeUnit unit) throws InterruptedException {
+            return this.origin.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.cactoos.scalar.LengthOf;
+import org.cactoos.scalar.Sleeping;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Completed}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class CompletedTest {
+
+    @Test
+    void yieldsInOrderOfCompletion() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Iterator<String> results = new Completed<String>(
+            2,
+            () -> {
+                latch.await();
+                return "slow";
+            },
+            () -> "fast"
+        ).iterator();
+        new Assertion<>(
+            "Must yield the first completed result first",
+            results.next(),
+            new IsEqual<>("fast")
+        ).affirm();
+        latch.countDown();
+        new Assertion<>(
+            "Must yield the slow result last",
+            results.next(),
+            new IsEqual<>("slow")
+        ).affirm();
+    }
+
+    @Test
+    void keepsWindowOfTasksInFlight() throws Exception {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        new Assertion<>(
+            "Must yield all results",
+            new LengthOf(
+                new Completed<>(
+                    3,
+                    new Mapped<Scalar<Integer>>(
+                        idx -> () -> {
+                            max.accumulateAndGet(
+                                active.incrementAndGet(), Math::max
+                            );
+                            Thread.sleep(10L);
+                            active.decrementAndGet();
+                            return idx;
+                        },
+                        new ListOf<>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)
+                    )
+                )
+            ).value(),
+            new IsEqual<>(10L)
+        ).affirm();
+        new Assertion<>(
+            "Must not run more tasks than the window at once",
+            max.get() <= 3,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void submitsTasksLazily() {
+        final AtomicInteger submitted = new AtomicInteger();
+        new Completed<>(
+            2,
+            new Mapped<Scalar<Integer>>(
+                idx -> {
+                    submitted.incrementAndGet();
+                    return () -> idx;
+                },
+                new ListOf<>(1, 2, 3, 4, 5)
+            )
+        ).iterator().next();
+        new Assertion<>(
+            "Must submit only the window of tasks",
+            submitted.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void cancelsTheRestOnFailure() throws Exception {
+        final Sleeping<Integer> slow = new Sleeping<>(1);
+        final AtomicInteger started = new AtomicInteger();
+        final Iterator<Integer> results = new Completed<Integer>(
+            2,
+            new IterableOf<Scalar<Integer>>(
+                slow,
+                () -> {
+                    slow.started();
+                    throw new IOException("Broken");
+                },
+                started::incrementAndGet
+            )
+        ).iterator();
+        new Assertion<>(
+            "Must throw the failure",
+            results::next,
+            new Throws<>(UncheckedIOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must interrupt the running task",
+            slow.interrupted(),
+            new IsEqual<>(true)
+        ).affirm();
+        new Assertion<>(
+            "Must not yield more results",
+            results.hasNext(),
+            new IsEqual<>(false)
+        ).affirm();
+        new Assertion<>(
+            "Must not start the rest of the tasks",
+            started.get(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+
+    @Test
+    void keepsInterruptedStatus() {
+        final Iterator<Integer> results = new Completed<Integer>(
+            1, new IterableOf<Scalar<Integer>>(new Sleeping<>(1))
+        ).iterator();
+        Thread.currentThread().interrupt();
+        new Assertion<>(
+            "Must throw when interrupted",
+            results::next,
+            new Throws<>(UncheckedIOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must leave the thread interrupted",
+            Thread.interrupted(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void throwsCauseOfFailure() {
+        new Assertion<>(
+            "Must throw the exception of the task as is",
+            () -> new Completed<Integer>(
+                1,
+                () -> {
+                    throw new IllegalStateException("Boom");
+                }
+            ).iterator().next(),
+            new Throws<>("Boom", IllegalStateException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsEmptyWindow() {
+        new Assertion<>(
+            "Must reject a window without tasks in flight",
+            () -> new Completed<>(0, () -> 1),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import org.cactoos.list.ListOf;
+import org.cactoos.scalar.Sleeping;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValues;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ShutdownOnFailure}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ShutdownOnFailureTest {
+
+    @Test
+    void collectsResultsInOrderOfTasks() {
+        new Assertion<>(
+            "Must collect results in the order of tasks",
+            new ListOf<>(
+                new ShutdownOnFailure<>(
+                    () -> {
+                        Thread.sleep(50L);
+                        return 1;
+                    },
+                    () -> 2,
+                    () -> 3
+                )
+            ),
+            new IsEqual<>(new ListOf<>(1, 2, 3))
+        ).affirm();
+    }
+
+    @Test
+    void cancelsSiblingsOnFailure() throws Exception {
+        final Sleeping<Integer> slow = new Sleeping<>(0);
+        new Assertion<>(
+            "Must throw the failure of the task",
+            () -> new ListOf<>(
+                new ShutdownOnFailure<Integer>(
+                    slow,
+                    () -> {
+                        slow.started();
+                        throw new IOException("Broken");
+                    }
+                )
+            ),
+            new Throws<>(UncheckedIOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must interrupt the sibling",
+            slow.interrupted(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void throwsErrorOfTaskAsIs() {
+        new Assertion<>(
+            "Must throw the error of the task as is",
+            () -> new ListOf<>(
+                new ShutdownOnFailure<Integer>(
+                    () -> 1,
+                    () -> {
+                        throw new AssertionError("Failed");
+                    }
+                )
+            ),
+            new Throws<>("Failed", AssertionError.class)
+        ).affirm();
+    }
+
+    @Test
+    void keepsInterruptedStatus() throws Exception {
+        final Sleeping<Integer> slow = new Sleeping<>(0);
+        Thread.currentThread().interrupt();
+        new Assertion<>(
+            "Must throw when interrupted",
+            () -> new ListOf<>(new ShutdownOnFailure<>(slow)),
+            new Throws<>(UncheckedIOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must leave the thread interrupted",
+            Thread.interrupted(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void cancelsAllOnDeadline() throws Exception {
+        final Sleeping<Integer> slow = new Sleeping<>(0);
+        new Assertion<>(
+            "Must fail when the deadline is exceeded",
+            () -> new ListOf<>(
+                new ShutdownOnFailure<>(
+                    Duration.ofMillis(100L),
+                    slow,
+                    () -> 1
+                )
+            ),
+            new Throws<>(UncheckedIOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must interrupt the slow task",
+            slow.interrupted(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void runsTasksAgainForEachIteration() {
+        new Assertion<>(
+            "Must execute the tasks for every iteration",
+            new ShutdownOnFailure<>(() -> "a", () -> "b"),
+            new HasValues<>("a", "b")
+        ).affirm();
+    }
+}
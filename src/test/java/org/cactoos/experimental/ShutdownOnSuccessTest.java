@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.experimental;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import org.cactoos.scalar.Sleeping;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ShutdownOnSuccess}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ShutdownOnSuccessTest {
+
+    @Test
+    void returnsFirstSuccess() throws Exception {
+        final Sleeping<String> slow = new Sleeping<>("slow");
+        new Assertion<>(
+            "Must return the result of the successful task",
+            new ShutdownOnSuccess<>(
+                slow,
+                () -> {
+                    throw new IOException("Fails fast");
+                },
+                () -> {
+                    slow.started();
+                    return "quick";
+                }
+            ),
+            new HasValue<>("quick")
+        ).affirm();
+        new Assertion<>(
+            "Must interrupt the slow task",
+            slow.interrupted(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void aggregatesFailures() {
+        new Assertion<>(
+            "Must suppress other failures in the first one",
+            () -> {
+                int suppressed = -1;
+                try {
+                    new ShutdownOnSuccess<String>(
+                        () -> {
+                            throw new IOException("First");
+                        },
+                        () -> {
+                            throw new IOException("Second");
+                        },
+                        () -> {
+                            throw new IOException("Third");
+                        }
+                    ).value();
+                } catch (final IOException ex) {
+                    suppressed = ex.getSuppressed().length;
+                }
+                return suppressed;
+            },
+            new HasValue<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void cancelsAllOnDeadline() throws Exception {
+        final Sleeping<String> slow = new Sleeping<>("slow");
+        new Assertion<>(
+            "Must fail when the deadline is exceeded",
+            () -> new ShutdownOnSuccess<>(
+                Duration.ofMillis(100L),
+                slow
+            ).value(),
+            new Throws<>(TimeoutException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must interrupt the slow task",
+            slow.interrupted(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import org.cactoos.Func;
+import org.cactoos.list.ListOf;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link BatchedAsync}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class BatchedAsyncTest {
+
+    @Test
+    void dispatchesFullBatch() throws Exception {
+        final List<List<Integer>> calls = new CopyOnWriteArrayList<>();
+        final Func<Integer, CompletableFuture<Integer>> func =
+            new BatchedAsync<>(
+                inputs -> {
+                    calls.add(inputs);
+                    return new MapOf<>(
+                        input -> new MapEntry<>(input, input * 10),
+                        inputs
+                    );
+                },
+                3,
+                Duration.ofMinutes(1L)
+            );
+        final CompletableFuture<Integer> first = func.apply(1);
+        func.apply(2);
+        func.apply(1);
+        final CompletableFuture<Integer> last = func.apply(3);
+        new Assertion<>(
+            "Must complete the last future",
+            last.get(),
+            new IsEqual<>(30)
+        ).affirm();
+        new Assertion<>(
+            "Must make one bulk call with distinct inputs",
+            calls,
+            new IsEqual<>(Collections.singletonList(new ListOf<>(1, 2, 3)))
+        ).affirm();
+        new Assertion<>(
+            "Must complete the first future",
+            first.get(),
+            new IsEqual<>(10)
+        ).affirm();
+    }
+
+    @Test
+    void dispatchesAfterLinger() throws Exception {
+        final Func<Integer, CompletableFuture<Integer>> func =
+            new BatchedAsync<>(
+                inputs -> new MapOf<>(
+                    input -> new MapEntry<>(input, -input),
+                    inputs
+                ),
+                100,
+                Duration.ofMillis(20L)
+            );
+        new Assertion<>(
+            "Must dispatch an incomplete batch after linger",
+            func.apply(7).get(),
+            new IsEqual<>(-7)
+        ).affirm();
+    }
+
+    @Test
+    void failsAllFutures() throws Exception {
+        final Func<Integer, CompletableFuture<Integer>> func =
+            new BatchedAsync<>(
+                inputs -> {
+                    throw new IOException("bulk call failed");
+                },
+                2,
+                Duration.ofMinutes(1L)
+            );
+        final CompletableFuture<Integer> first = func.apply(1);
+        func.apply(2);
+        new Assertion<>(
+            "Must fail with the exception of the bulk call",
+            () -> first.get(),
+            new Throws<>(ExecutionException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must keep the original exception",
+            first.handle((value, error) -> error).get(),
+            new IsInstanceOf(IOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void failsWithoutResult() throws Exception {
+        final CompletableFuture<Integer> future =
+            new BatchedAsync<Integer, Integer>(
+                inputs -> new MapOf<>(),
+                1,
+                Duration.ofMinutes(1L)
+            ).apply(1);
+        new Assertion<>(
+            "Must fail when there is no result",
+            future.handle((value, error) -> error).get(),
+            new IsInstanceOf(IllegalStateException.class)
+        ).affirm();
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    void failsWhenTimerIsRejected() throws Exception {
+        final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor();
+        scheduler.shutdown();
+        final Func<Integer, CompletableFuture<Integer>> func =
+            new BatchedAsync<>(
+                inputs -> new MapOf<>(
+                    input -> new MapEntry<>(input, input),
+                    inputs
+                ),
+                2,
+                Duration.ofMinutes(1L),
+                Runnable::run,
+                scheduler
+            );
+        new Assertion<>(
+            "Must fail the future, if the timer is rejected",
+            func.apply(1).handle((value, error) -> error).get(),
+            new IsInstanceOf(RejectedExecutionException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must not keep the batch without a timer",
+            func.apply(2).handle((value, error) -> error).get(),
+            new IsInstanceOf(RejectedExecutionException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Batched}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class BatchedTest {
+
+    @Test
+    void batchesConcurrentCalls() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> batched = new Batched<>(
+            list -> {
+                calls.incrementAndGet();
+                return new MapOf<>(
+                    input -> new MapEntry<>(input, input + 1),
+                    list
+                );
+            },
+            1000,
+            Duration.ofMillis(100L)
+        );
+        new Assertion<>(
+            "Must give each caller its own result",
+            func -> func.apply(5) == 6,
+            new RunsInThreads<>(batched, 50)
+        ).affirm();
+        new Assertion<>(
+            "Must make fewer bulk calls than single calls",
+            calls.get() < 50,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void throwsOriginalException() {
+        new Assertion<>(
+            "Must throw the exception of the bulk call",
+            () -> new Batched<Integer, Integer>(
+                list -> {
+                    throw new IOException("no backend");
+                },
+                1,
+                Duration.ofMillis(1L)
+            ).apply(1),
+            new Throws<>("no backend", IOException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link BiFuncWithBreaker}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class BiFuncWithBreakerTest {
+
+    @Test
+    void appliesWhenClosed() throws Exception {
+        new Assertion<>(
+            "Must apply the original func",
+            new BiFuncWithBreaker<Integer, Integer, Integer>(
+                Integer::sum,
+                new CircuitBreaker(10, 0.5d, Duration.ofMinutes(1L))
+            ).apply(1, 2),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsWhenOpen() {
+        final CircuitBreaker breaker = new CircuitBreaker(
+            1, 1.0d, Duration.ofMinutes(1L)
+        );
+        breaker.failed(breaker.permit(), 0L);
+        new Assertion<>(
+            "Must reject the call",
+            () -> new BiFuncWithBreaker<Integer, Integer, Integer>(
+                Integer::sum, breaker
+            ).apply(1, 2),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
+
+/**
+ * Test case for {@link BiFuncWithMeter}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class BiFuncWithMeterTest {
+
+    @Test
+    void countsCalls() throws Exception {
+        final Meter meter = new Meter();
+        new Assertion<>(
+            "Must return the result of the original func",
+            new BiFuncWithMeter<>(
+                (Integer first, Integer second) -> first + second, meter
+            ).apply(1, 2),
+            new IsEqual<>(3)
+        ).affirm();
+        new Assertion<>(
+            "Must count the call",
+            meter.value(),
+            new HasEntry<>("calls", 1L)
+        ).affirm();
+    }
+}
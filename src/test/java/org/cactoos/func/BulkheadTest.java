@@ -0,0 +1,124 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Bulkhead}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class BulkheadTest {
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(1, 0);
+        bulkhead.acquire(Duration.ZERO);
+        final long start = System.nanoTime();
+        new Assertion<>(
+            "Must reject when there is no place in the queue",
+            bulkhead.acquire(Duration.ofMinutes(1L)),
+            new IsEqual<>(false)
+        ).affirm();
+        new Assertion<>(
+            "Must reject at once",
+            System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10L),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void waitsInQueue() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(1, 1);
+        bulkhead.acquire(Duration.ZERO);
+        CompletableFuture.runAsync(
+            () -> {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(50L);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                bulkhead.release(0L);
+            }
+        );
+        new Assertion<>(
+            "Must take the place, when it's free",
+            bulkhead.acquire(Duration.ofMinutes(1L)),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void givesUpAfterTimeout() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(1, 1);
+        bulkhead.acquire(Duration.ZERO);
+        new Assertion<>(
+            "Must give up waiting after the timeout",
+            bulkhead.acquire(Duration.ofMillis(10L)),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void growsWithFastCalls() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(
+            1, 10, 0, Duration.ofSeconds(1L)
+        );
+        for (int idx = 0; idx < 100; ++idx) {
+            bulkhead.acquire(Duration.ZERO);
+            bulkhead.release(0L);
+        }
+        new Assertion<>(
+            "Must grow the limit up to the maximum",
+            BulkheadTest.places(bulkhead),
+            new IsEqual<>(10)
+        ).affirm();
+    }
+
+    @Test
+    void shrinksWithSlowCalls() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(
+            1, 10, 0, Duration.ofSeconds(1L)
+        );
+        for (int idx = 0; idx < 100; ++idx) {
+            bulkhead.acquire(Duration.ZERO);
+            bulkhead.release(0L);
+        }
+        for (int idx = 0; idx < 10; ++idx) {
+            bulkhead.acquire(Duration.ZERO);
+        }
+        for (int idx = 0; idx < 10; ++idx) {
+            bulkhead.release(Long.MAX_VALUE);
+        }
+        new Assertion<>(
+            "Must shrink the limit down to the minimum",
+            BulkheadTest.places(bulkhead),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    /**
+     * Take all free places.
+     * @param bulkhead The bulkhead
+     * @return How many places were taken
+     * @throws InterruptedException If interrupted
+     */
+    private static int places(final Bulkhead bulkhead)
+        throws InterruptedException {
+        int taken = 0;
+        while (bulkhead.acquire(Duration.ZERO)) {
+            ++taken;
+        }
+        return taken;
+    }
+}
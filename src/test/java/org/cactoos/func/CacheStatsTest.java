@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.cactoos.Func;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
+
+/**
+ * Test case for {@link CacheStats}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class CacheStatsTest {
+
+    @Test
+    void countsEverything() {
+        final CacheStats stats = new CacheStats.Counters();
+        stats.hit();
+        stats.hit();
+        stats.loaded(10L);
+        stats.loaded(20L);
+        stats.loaded(30L);
+        stats.failed(5L);
+        stats.evicted(1L);
+        stats.resized(2L);
+        new Assertion<>(
+            "Must count hits, misses, evictions and failures",
+            stats.value(),
+            new AllOf<>(
+                new HasEntry<>("hits", 2L),
+                new HasEntry<>("misses", 4L),
+                new HasEntry<>("evictions", 1L),
+                new HasEntry<>("failures", 1L),
+                new HasEntry<>("load-time", 65L),
+                new HasEntry<>("size", 2L)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void countsWaitsApartFromHitsAndMisses() {
+        final CacheStats stats = new CacheStats.Counters();
+        stats.waited();
+        stats.waited();
+        new Assertion<>(
+            "Must count waits as neither hits nor misses",
+            stats.value(),
+            new AllOf<>(
+                new HasEntry<>("waits", 2L),
+                new HasEntry<>("hits", 0L),
+                new HasEntry<>("misses", 0L)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void startsFromZero() {
+        new Assertion<>(
+            "Must be empty at the beginning",
+            new CacheStats.Counters().value(),
+            new AllOf<>(
+                new HasEntry<>("hits", 0L),
+                new HasEntry<>("misses", 0L),
+                new HasEntry<>("size", 0L)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void emitsEvents() throws Exception {
+        new Assertion<>(
+            "Must emit an event for every hit and miss",
+            new EventsOf(
+                "org.cactoos.Cache",
+                ignored -> {
+                    final CacheStats stats = new CacheStats.Counters(true);
+                    stats.hit();
+                    stats.loaded(10L);
+                    stats.failed(5L);
+                }
+            ).value().size(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void reportsSizeOfStorage() throws Exception {
+        final CacheStats stats = new CacheStats.Counters();
+        final Map<Integer, Integer> map = new HashMap<>(0);
+        map.put(0, 0);
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> input, map, stats
+        );
+        func.apply(1);
+        map.clear();
+        func.apply(2);
+        new Assertion<>(
+            "Must report the size of the storage",
+            stats.value(),
+            new HasEntry<>("size", 1L)
+        ).affirm();
+    }
+
+    @Test
+    void recordsNothingWhenDisabled() {
+        final CacheStats stats = new CacheStats.None();
+        stats.hit();
+        stats.waited();
+        stats.loaded(10L);
+        new Assertion<>(
+            "Must not record anything",
+            stats.value(),
+            new AllOf<>(
+                new HasEntry<>("hits", 0L),
+                new HasEntry<>("waits", 0L),
+                new HasEntry<>("misses", 0L)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void emitsNoEventsUnlessAsked() throws Exception {
+        new Assertion<>(
+            "Must not emit events by default",
+            new EventsOf(
+                "org.cactoos.Cache",
+                ignored -> new CacheStats.Counters().hit()
+            ).value().size(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link CappedBackoff}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class CappedBackoffTest {
+
+    @Test
+    void limitsWait() throws Exception {
+        new Assertion<>(
+            "Must not wait longer than the cap",
+            new CappedBackoff(
+                new ExponentialBackoff(Duration.ofMillis(100L)),
+                Duration.ofSeconds(1L)
+            ).apply(10),
+            new IsEqual<>(Duration.ofSeconds(1L))
+        ).affirm();
+    }
+
+    @Test
+    void keepsShortWait() throws Exception {
+        new Assertion<>(
+            "Must keep the wait shorter than the cap",
+            new CappedBackoff(
+                new ExponentialBackoff(Duration.ofMillis(100L)),
+                Duration.ofSeconds(1L)
+            ).apply(1),
+            new IsEqual<>(Duration.ofMillis(200L))
+        ).affirm();
+    }
+}
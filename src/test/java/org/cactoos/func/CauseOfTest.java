@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CauseOf}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class CauseOfTest {
+
+    @Test
+    void unwrapsException() {
+        final Exception cause = new IOException("Broken");
+        new Assertion<>(
+            "Must return the cause",
+            new CauseOf(new ExecutionException(cause)).value(),
+            new IsSame<>(cause)
+        ).affirm();
+    }
+
+    @Test
+    void throwsError() {
+        new Assertion<>(
+            "Must throw the error right away",
+            () -> new CauseOf(
+                new ExecutionException(new AssertionError("Failed"))
+            ).value(),
+            new Throws<>("Failed", AssertionError.class)
+        ).affirm();
+    }
+
+    @Test
+    void keepsWrapperWithoutCause() {
+        final ExecutionException error = new ExecutionException(
+            "No cause", null
+        );
+        new Assertion<>(
+            "Must return the wrapper itself",
+            new CauseOf(error).value(),
+            new IsEqual<>(error)
+        ).affirm();
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link CircuitBreaker}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class CircuitBreakerTest {
+
+    @Test
+    void staysClosedUntilWindowIsFull() {
+        final CircuitBreaker breaker = new CircuitBreaker(
+            4, 0.5d, Duration.ofMinutes(1L)
+        );
+        breaker.failed(breaker.permit(), 0L);
+        breaker.failed(breaker.permit(), 0L);
+        breaker.failed(breaker.permit(), 0L);
+        new Assertion<>(
+            "Must stay closed while the window is not full",
+            breaker.permit(),
+            new IsEqual<>(breaker.permit())
+        ).affirm();
+    }
+
+    @Test
+    void staysClosedAfterWindowOfSuccesses() {
+        final CircuitBreaker breaker = new CircuitBreaker(
+            2, 1.0d, Duration.ofNanos(100L), 1.0d, Duration.ofMinutes(1L)
+        );
+        breaker.succeeded(breaker.permit(), 0L);
+        breaker.succeeded(breaker.permit(), 0L);
+        breaker.succeeded(breaker.permit(), 0L);
+        new Assertion<>(
+            "Must stay closed when all calls succeeded in time",
+            breaker.permit(),
+            new IsEqual<>(breaker.permit())
+        ).affirm();
+    }
+
+    @Test
+    void opensOnFailureRate() {
+        final CircuitBreaker breaker = new CircuitBreaker(
+            4, 0.5d, Duration.ofMinutes(1L)
+        );
+        breaker.succeeded(breaker.permit(), 0L);
+        breaker.failed(breaker.permit(), 0L);
+        breaker.succeeded(breaker.permit(), 0L);
+        breaker.failed(breaker.permit(), 0L);
+        new Assertion<>(
+            "Must open when half of the calls failed",
+            breaker::permit,
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void opensOnSlowRate() {
+        final CircuitBreaker breaker = new CircuitBreaker(
+            2, 1.0d, Duration.ofNanos(100L), 0.5d, Duration.ofMinutes(1L)
+        );
+        breaker.succeeded(breaker.permit(), 1L);
+        breaker.succeeded(breaker.permit(), 1000L);
+        new Assertion<>(
+            "Must open when half of the calls were slow",
+            breaker::permit,
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void letsOneTrialCallAfterWait() {
+        final ManualClock clock = new ManualClock();
+        final CircuitBreaker breaker = this.opened(clock);
+        clock.advance(1000L);
+        breaker.permit();
+        new Assertion<>(
+            "Must not let other calls through during the trial",
+            breaker::permit,
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void closesAfterSuccessfulTrial() {
+        final ManualClock clock = new ManualClock();
+        final CircuitBreaker breaker = this.opened(clock);
+        clock.advance(1000L);
+        breaker.succeeded(breaker.permit(), 0L);
+        breaker.failed(breaker.permit(), 0L);
+        new Assertion<>(
+            "Must close and start with an empty window",
+            breaker.permit(),
+            new IsEqual<>(breaker.permit())
+        ).affirm();
+    }
+
+    @Test
+    void opensAfterFailedTrial() {
+        final ManualClock clock = new ManualClock();
+        final CircuitBreaker breaker = this.opened(clock);
+        clock.advance(1000L);
+        breaker.failed(breaker.permit(), 0L);
+        new Assertion<>(
+            "Must open again",
+            breaker::permit,
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void ignoresOlderCallsDuringTrial() {
+        final ManualClock clock = new ManualClock();
+        final CircuitBreaker breaker = new CircuitBreaker(
+            2, 0.5d, Duration.ofNanos(Long.MAX_VALUE), 1.0d,
+            Duration.ofSeconds(1L), clock
+        );
+        final long older = breaker.permit();
+        breaker.failed(breaker.permit(), 0L);
+        breaker.failed(breaker.permit(), 0L);
+        clock.advance(1000L);
+        final long trial = breaker.permit();
+        breaker.succeeded(older, 0L);
+        new Assertion<>(
+            "Must not close on the outcome of an older call",
+            breaker::permit,
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+        breaker.succeeded(trial, 0L);
+        new Assertion<>(
+            "Must close on the outcome of the trial call",
+            breaker.permit(),
+            new IsEqual<>(older)
+        ).affirm();
+    }
+
+    @Test
+    void letsAnotherTrialWhenOutcomeIsLost() {
+        final ManualClock clock = new ManualClock();
+        final CircuitBreaker breaker = this.opened(clock);
+        clock.advance(1000L);
+        final long lost = breaker.permit();
+        clock.advance(1000L);
+        breaker.succeeded(breaker.permit(), 0L);
+        breaker.failed(lost, 0L);
+        new Assertion<>(
+            "Must close on the outcome of the new trial call",
+            breaker.permit(),
+            new IsEqual<>(breaker.permit())
+        ).affirm();
+    }
+
+    private CircuitBreaker opened(final ManualClock clock) {
+        final CircuitBreaker breaker = new CircuitBreaker(
+            2, 0.5d, Duration.ofNanos(Long.MAX_VALUE), 1.0d,
+            Duration.ofSeconds(1L), clock
+        );
+        breaker.failed(breaker.permit(), 0L);
+        breaker.failed(breaker.permit(), 0L);
+        return breaker;
+    }
+
+    @Test
+    void rejectsEmptyWindow() {
+        new Assertion<>(
+            "Must reject a window without calls",
+            () -> new CircuitBreaker(0, 0.5d, Duration.ofMinutes(1L)),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNegativeWindow() {
+        new Assertion<>(
+            "Must reject a negative window",
+            () -> new CircuitBreaker(-1, 0.5d, Duration.ofMinutes(1L)),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsFailureShareAboveOne() {
+        new Assertion<>(
+            "Must reject a share of failures above one",
+            () -> new CircuitBreaker(4, 1.5d, Duration.ofMinutes(1L)),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsNegativeSlowness() {
+        new Assertion<>(
+            "Must reject a negative share of slow calls",
+            () -> new CircuitBreaker(
+                4, 0.5d, Duration.ofSeconds(1L), -0.1d, Duration.ofMinutes(1L)
+            ),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsZeroFailureShare() {
+        new Assertion<>(
+            "Must reject a share of failures of zero",
+            () -> new CircuitBreaker(4, 0.0d, Duration.ofMinutes(1L)),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsZeroSlowness() {
+        new Assertion<>(
+            "Must reject a share of slow calls of zero",
+            () -> new CircuitBreaker(
+                4, 0.5d, Duration.ofSeconds(1L), 0.0d, Duration.ofMinutes(1L)
+            ),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
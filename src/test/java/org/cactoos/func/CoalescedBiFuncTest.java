@@ -0,0 +1,38 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.BiFunc;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link CoalescedBiFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class CoalescedBiFuncTest {
+
+    @Test
+    void appliesOriginalFunc() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final BiFunc<Integer, Integer, Integer> func = new CoalescedBiFunc<>(
+            (first, second) -> {
+                calls.incrementAndGet();
+                return first + second;
+            }
+        );
+        func.apply(1, 2);
+        new Assertion<>(
+            "Must apply the original func on every completed call",
+            func.apply(1, 2) + calls.get(),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+}
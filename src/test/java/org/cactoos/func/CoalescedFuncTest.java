@@ -0,0 +1,150 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Func;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link CoalescedFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class CoalescedFuncTest {
+
+    @Test
+    void sharesOneCalculation() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch arrived = new CountDownLatch(10);
+        final Func<Integer, Integer> func = new CoalescedFunc<>(
+            input -> {
+                arrived.await();
+                TimeUnit.MILLISECONDS.sleep(200L);
+                return calls.incrementAndGet();
+            }
+        );
+        final ExecutorService service = Executors.newFixedThreadPool(10);
+        try {
+            final ListOf<Future<Integer>> futures = new ListOf<>();
+            for (int idx = 0; idx < 10; ++idx) {
+                futures.add(
+                    service.submit(
+                        () -> {
+                            arrived.countDown();
+                            return func.apply(1);
+                        }
+                    )
+                );
+            }
+            for (final Future<Integer> future : futures) {
+                new Assertion<>(
+                    "Must give the same result to all callers",
+                    future.get(),
+                    new IsEqual<>(1)
+                ).affirm();
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void sharesFailure() throws Exception {
+        final CountDownLatch arrived = new CountDownLatch(2);
+        final Func<Integer, Integer> func = new CoalescedFunc<>(
+            input -> {
+                arrived.await();
+                TimeUnit.MILLISECONDS.sleep(200L);
+                throw new IOException("backend is down");
+            }
+        );
+        final ExecutorService service = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Integer> first = service.submit(
+                () -> {
+                    arrived.countDown();
+                    return func.apply(1);
+                }
+            );
+            final Future<Integer> second = service.submit(
+                () -> {
+                    arrived.countDown();
+                    return func.apply(1);
+                }
+            );
+            for (final Future<Integer> future : new ListOf<>(first, second)) {
+                new Assertion<>(
+                    "Must give the original exception to all callers",
+                    this.cause(future),
+                    new IsInstanceOf(IOException.class)
+                ).affirm();
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void keepsNothingAfterCompletion() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new CoalescedFunc<>(
+            input -> calls.incrementAndGet()
+        );
+        func.apply(1);
+        new Assertion<>(
+            "Must calculate again after completion",
+            func.apply(1),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    private Throwable cause(final Future<Integer> future) throws Exception {
+        Throwable cause = null;
+        try {
+            future.get();
+        } catch (final ExecutionException ex) {
+            cause = ex.getCause();
+        }
+        return cause;
+    }
+
+    @Test
+    void letsRecursiveCallForSameInput() throws Exception {
+        final AtomicReference<Func<Integer, Integer>> self =
+            new AtomicReference<>();
+        final AtomicInteger depth = new AtomicInteger();
+        self.set(
+            new CoalescedFunc<>(
+                input -> {
+                    int result = input;
+                    if (depth.incrementAndGet() == 1) {
+                        result = self.get().apply(input) + 1;
+                    }
+                    return result;
+                }
+            )
+        );
+        new Assertion<>(
+            "Must not wait for itself in a recursive call",
+            self.get().apply(1),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
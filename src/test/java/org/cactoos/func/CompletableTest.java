@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Completable}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class CompletableTest {
+
+    @Test
+    void runsInBackground() throws Exception {
+        new Assertion<>(
+            "Must run the func in another thread",
+            new Completable<String, Thread>(
+                input -> Thread.currentThread()
+            ).apply("x").get(),
+            new IsNot<>(new IsEqual<>(Thread.currentThread()))
+        ).affirm();
+    }
+
+    @Test
+    void completesWithResult() throws Exception {
+        new Assertion<>(
+            "Must complete with the result",
+            new Completable<String, Integer>(
+                String::length, Runnable::run
+            ).apply("Hello").get(),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+
+    @Test
+    void completesWithOriginalException() throws Exception {
+        final CompletableFuture<Integer> future =
+            new Completable<String, Integer>(
+                input -> {
+                    throw new IOException("broken");
+                }
+            ).apply("x");
+        new Assertion<>(
+            "Must complete with the original exception",
+            future.handle((value, error) -> error).get(),
+            new IsInstanceOf(IOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void completesWhenRejected() throws Exception {
+        new Assertion<>(
+            "Must complete exceptionally when the task is rejected",
+            new Completable<String, Integer>(
+                String::length,
+                task -> {
+                    throw new RejectedExecutionException("full");
+                }
+            ).apply("x").handle((value, error) -> error).get(),
+            new IsInstanceOf(RejectedExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void runsOutOfCommonPoolByDefault() throws Exception {
+        new Assertion<>(
+            "Must not run in the common fork-join pool",
+            new Completable<>(
+                (String input) -> Thread.currentThread()
+            ).apply("").get(),
+            new IsNot<>(new IsInstanceOf(ForkJoinWorkerThread.class))
+        ).affirm();
+    }
+}
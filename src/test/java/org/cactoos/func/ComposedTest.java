@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.scalar.ThreadPerTask;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Composed}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ComposedTest {
+
+    @Test
+    void composesAsyncFuncs() throws Exception {
+        new Assertion<>(
+            "Must pass the result to the next func",
+            new Composed<String, Integer, Integer>(
+                new Completable<>(String::length),
+                new Completable<>(length -> length * 2)
+            ).apply("abc").get(),
+            new IsEqual<>(6)
+        ).affirm();
+    }
+
+    @Test
+    void composesWithSyncFunc() throws Exception {
+        new Assertion<>(
+            "Must run the sync func in the executor",
+            new Composed<String, Integer, String>(
+                new Completable<>(String::length),
+                length -> String.format("%d chars", length),
+                new ThreadPerTask().value()
+            ).apply("abcd").get(),
+            new IsEqual<>("4 chars")
+        ).affirm();
+    }
+
+    @Test
+    void skipsRestOnFailure() throws Exception {
+        final AtomicBoolean called = new AtomicBoolean();
+        final CompletableFuture<Integer> future =
+            new Composed<String, Integer, Integer>(
+                input -> {
+                    throw new IOException("first failed");
+                },
+                length -> {
+                    called.set(true);
+                    return CompletableFuture.completedFuture(length);
+                }
+            ).apply("x");
+        new Assertion<>(
+            "Must fail with the original exception",
+            future.handle((value, error) -> error.getCause()).get(),
+            new IsInstanceOf(IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must not call the next func",
+            called.get(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+}
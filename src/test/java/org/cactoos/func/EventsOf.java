@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.cactoos.Proc;
+import org.cactoos.Scalar;
+
+/**
+ * Flight recorder events, emitted while the action runs.
+ *
+ * @since 1.0
+ */
+public final class EventsOf implements Scalar<List<RecordedEvent>> {
+
+    /**
+     * Name of the events.
+     */
+    private final String name;
+
+    /**
+     * The action.
+     */
+    private final Proc<Boolean> action;
+
+    /**
+     * Ctor.
+     * @param name Name of the events
+     * @param action The action
+     */
+    public EventsOf(final String name, final Proc<Boolean> action) {
+        this.name = name;
+        this.action = action;
+    }
+
+    @Override
+    public List<RecordedEvent> value() throws Exception {
+        final Path file = Files.createTempFile("cactoos", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(this.name).withoutThreshold();
+            recording.start();
+            this.action.exec(true);
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Expiring}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ExpiringTest {
+
+    @Test
+    void cachesUntilExpired() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final ManualClock clock = new ManualClock();
+        final Func<String, Integer> func = new Expiring<>(
+            input -> calls.incrementAndGet(),
+            Duration.ofMillis(100L), false, clock
+        );
+        func.apply("a");
+        clock.advance(99L);
+        new Assertion<>(
+            "Must return cached value before expiration",
+            func.apply("a"),
+            new IsEqual<>(1)
+        ).affirm();
+        clock.advance(1L);
+        new Assertion<>(
+            "Must recalculate expired value",
+            func.apply("a"),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void expiresAfterWriteDespiteAccess() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final ManualClock clock = new ManualClock();
+        final Func<String, Integer> func = new Expiring<>(
+            input -> calls.incrementAndGet(),
+            Duration.ofMillis(100L), false, clock
+        );
+        for (int idx = 0; idx < 3; ++idx) {
+            func.apply("b");
+            clock.advance(50L);
+        }
+        new Assertion<>(
+            "Must recalculate once the time since calculation is over",
+            calls.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void expiresAfterAccess() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final ManualClock clock = new ManualClock();
+        final Func<String, Integer> func = new Expiring<>(
+            input -> calls.incrementAndGet(),
+            Duration.ofMillis(100L), true, clock
+        );
+        for (int idx = 0; idx < 5; ++idx) {
+            func.apply("c");
+            clock.advance(50L);
+        }
+        clock.advance(100L);
+        func.apply("c");
+        new Assertion<>(
+            "Must keep value while it's requested and expire it when idle",
+            calls.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ExponentialBackoff}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ExponentialBackoffTest {
+
+    @Test
+    void doublesWait() {
+        new Assertion<>(
+            "Must double the wait on every attempt",
+            new ExponentialBackoff(Duration.ofMillis(100L)).apply(3),
+            new IsEqual<>(Duration.ofMillis(800L))
+        ).affirm();
+    }
+
+    @Test
+    void startsFromBase() {
+        new Assertion<>(
+            "Must wait the base time after the first attempt",
+            new ExponentialBackoff(Duration.ofSeconds(1L), 3.0d).apply(0),
+            new IsEqual<>(Duration.ofSeconds(1L))
+        ).affirm();
+    }
+
+    @Test
+    void doesNotOverflow() {
+        new Assertion<>(
+            "Must not overflow",
+            new ExponentialBackoff(Duration.ofSeconds(1L)).apply(1000),
+            new IsEqual<>(Duration.ofNanos(Long.MAX_VALUE))
+        ).affirm();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Satisfies;
+
+/**
+ * Test case for {@link FullJitterBackoff}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class FullJitterBackoffTest {
+
+    @Test
+    void staysWithinBounds() throws Exception {
+        final Func<Integer, Duration> backoff = new FullJitterBackoff(
+            Duration.ofMillis(10L), Duration.ofMillis(500L)
+        );
+        for (int attempt = 0; attempt < 100; ++attempt) {
+            new Assertion<>(
+                "Must wait between zero and the cap",
+                backoff.apply(attempt),
+                new Satisfies<>(
+                    wait -> !wait.isNegative() && wait.toMillis() <= 500L
+                )
+            ).affirm();
+        }
+    }
+
+    @Test
+    void growsAtMostThreeTimesPerAttempt() throws Exception {
+        final Func<Integer, Duration> backoff = new FullJitterBackoff(
+            Duration.ofMillis(10L), Duration.ofHours(1L)
+        );
+        for (int attempt = 0; attempt < 5; ++attempt) {
+            final long limit = (long) (10 * Math.pow(3, attempt + 1));
+            new Assertion<>(
+                "Must not grow faster than three times per attempt",
+                backoff.apply(attempt),
+                new Satisfies<>(wait -> wait.toMillis() <= limit)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void startsOverForEverySequence() throws Exception {
+        final Func<Integer, Duration> backoff = new FullJitterBackoff(
+            Duration.ofMillis(10L), Duration.ofHours(1L)
+        );
+        backoff.apply(10);
+        new Assertion<>(
+            "Must not depend on other sequences",
+            backoff.apply(0),
+            new Satisfies<>(wait -> wait.toMillis() <= 30L)
+        ).affirm();
+    }
+
+    @Test
+    void neverExceedsCapBelowBase() throws Exception {
+        final Func<Integer, Duration> backoff = new FullJitterBackoff(
+            Duration.ofSeconds(1L), Duration.ofMillis(100L)
+        );
+        for (int attempt = 0; attempt < 10; ++attempt) {
+            new Assertion<>(
+                "Must not wait longer than the cap",
+                backoff.apply(attempt),
+                new Satisfies<>(wait -> wait.toMillis() <= 100L)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void jittersFromZero() throws Exception {
+        final Func<Integer, Duration> backoff = new FullJitterBackoff(
+            Duration.ofMillis(10L), Duration.ofHours(1L), new Random(1L)
+        );
+        boolean shorter = false;
+        for (int attempt = 0; attempt < 100 && !shorter; ++attempt) {
+            shorter = backoff.apply(0).toMillis() < 10L;
+        }
+        new Assertion<>(
+            "Must wait less than the base sometimes",
+            shorter,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void jittersWithZeroBase() throws Exception {
+        final Func<Integer, Duration> backoff = new FullJitterBackoff(
+            Duration.ZERO, Duration.ofMillis(100L), new Random(1L)
+        );
+        final Set<Duration> waits = new HashSet<>(0);
+        for (int attempt = 0; attempt < 10; ++attempt) {
+            final Duration wait = backoff.apply(attempt);
+            new Assertion<>(
+                "Must wait between zero and the cap",
+                wait,
+                new Satisfies<>(
+                    dur -> !dur.isNegative() && dur.toMillis() <= 100L
+                )
+            ).affirm();
+            waits.add(wait);
+        }
+        new Assertion<>(
+            "Must choose different waits",
+            waits.size(),
+            new IsNot<>(new IsEqual<>(1))
+        ).affirm();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Fallback;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link FuncWithBreaker}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class FuncWithBreakerTest {
+
+    @Test
+    void failsFastWhenOpen() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new FuncWithBreaker<>(
+            input -> {
+                calls.incrementAndGet();
+                throw new IOException("Down");
+            },
+            new CircuitBreaker(2, 0.5d, Duration.ofMinutes(1L))
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            new Assertion<>(
+                "Must throw the original exception while closed",
+                () -> func.apply(1),
+                new Throws<>("Down", IOException.class)
+            ).affirm();
+        }
+        new Assertion<>(
+            "Must reject the call when open",
+            () -> func.apply(1),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must not call the original func when open",
+            calls.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void fallsBackWhenOpen() throws Exception {
+        final CircuitBreaker breaker = new CircuitBreaker(
+            1, 1.0d, Duration.ofMinutes(1L)
+        );
+        breaker.failed(breaker.permit(), 0L);
+        new Assertion<>(
+            "Must fall back when the breaker is open",
+            new FuncWithFallback<Integer, Integer>(
+                new FuncWithBreaker<>(input -> input, breaker),
+                new Fallback.From<>(
+                    RejectedExecutionException.class,
+                    error -> -1
+                )
+            ).apply(1),
+            new IsEqual<>(-1)
+        ).affirm();
+    }
+}
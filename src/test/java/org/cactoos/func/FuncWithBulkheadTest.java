@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link FuncWithBulkhead}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class FuncWithBulkheadTest {
+
+    @Test
+    void limitsConcurrentCalls() {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        new Assertion<>(
+            "Must call the original func in threads",
+            func -> func.apply(1) == 1,
+            new RunsInThreads<>(
+                new FuncWithBulkhead<Integer, Integer>(
+                    input -> {
+                        peak.accumulateAndGet(
+                            active.incrementAndGet(), Math::max
+                        );
+                        TimeUnit.MILLISECONDS.sleep(1L);
+                        active.decrementAndGet();
+                        return input;
+                    },
+                    new Bulkhead(3, Integer.MAX_VALUE)
+                ),
+                50
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must not let more calls through than the limit",
+            peak.get() <= 3,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsWhenFull() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(1, 0);
+        bulkhead.acquire(Duration.ZERO);
+        final Func<Integer, Integer> func = new FuncWithBulkhead<>(
+            input -> input, bulkhead
+        );
+        new Assertion<>(
+            "Must reject when the bulkhead is full",
+            () -> func.apply(1),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void releasesPlaceOnFailure() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(1, 0);
+        final Func<Integer, Integer> func = new FuncWithBulkhead<>(
+            input -> {
+                throw new IllegalStateException("Broken");
+            },
+            bulkhead
+        );
+        new Assertion<>(
+            "Must throw the original exception",
+            () -> func.apply(1),
+            new Throws<>("Broken", IllegalStateException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must give the place back",
+            bulkhead.acquire(Duration.ZERO),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import org.cactoos.Func;
+import org.hamcrest.core.AllOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link FuncWithMeter}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class FuncWithMeterTest {
+
+    @Test
+    void returnsOriginalResult() throws Exception {
+        new Assertion<>(
+            "Must return the result of the original func",
+            new FuncWithMeter<>((Integer input) -> input * 2, new Meter())
+                .apply(21),
+            new IsEqual<>(42)
+        ).affirm();
+    }
+
+    @Test
+    void countsErrors() {
+        final Meter meter = new Meter();
+        final Func<Integer, Integer> func = new FuncWithMeter<>(
+            input -> {
+                throw new IOException("Broken");
+            },
+            meter
+        );
+        new Assertion<>(
+            "Must throw the original exception",
+            () -> func.apply(1),
+            new Throws<>("Broken", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must count the failed call",
+            meter.value(),
+            new AllOf<>(
+                new HasEntry<>("calls", 1L),
+                new HasEntry<>("errors", 1L)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void countsCallsInThreads() {
+        final Meter meter = new Meter();
+        new Assertion<>(
+            "Must work in multiple threads",
+            func -> func.apply(1) == 1,
+            new RunsInThreads<>(
+                new FuncWithMeter<Integer, Integer>(input -> input, meter),
+                100
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must count all calls",
+            meter.value(),
+            new HasEntry<>("calls", 100L)
+        ).affirm();
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Hedged}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class HedgedTest {
+
+    @Test
+    void doesNotHedgeFastCall() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        new Hedged<>(
+            (Integer input) -> calls.incrementAndGet() + input,
+            Duration.ofMinutes(1L),
+            10
+        ).apply(1);
+        new Assertion<>(
+            "Must call the original func once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void returnsFasterResultAndInterruptsSlower() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        new Assertion<>(
+            "Must return the result of the second call",
+            new Hedged<>(
+                (String input) -> {
+                    String result = "second";
+                    if (calls.incrementAndGet() == 1) {
+                        try {
+                            TimeUnit.MINUTES.sleep(1L);
+                        } catch (final InterruptedException ex) {
+                            interrupted.countDown();
+                            throw ex;
+                        }
+                        result = "first";
+                    }
+                    return result;
+                },
+                Duration.ofMillis(10L),
+                10
+            ).apply("x"),
+            new IsEqual<>("second")
+        ).affirm();
+        new Assertion<>(
+            "Must interrupt the slower call",
+            interrupted.await(1L, TimeUnit.MINUTES),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void keepsHedgingAfterRejectedCall() throws Exception {
+        final AtomicInteger tasks = new AtomicInteger();
+        final Func<Integer, Integer> func = new Hedged<>(
+            (Integer input) -> {
+                TimeUnit.MILLISECONDS.sleep(100L);
+                return input;
+            },
+            Duration.ofMillis(1L),
+            1,
+            task -> {
+                if (tasks.incrementAndGet() % 2 == 0) {
+                    throw new RejectedExecutionException("Full");
+                }
+                new Thread(task).start();
+            }
+        );
+        new Assertion<>(
+            "Must return the result of the first call",
+            func.apply(1),
+            new IsEqual<>(1)
+        ).affirm();
+        func.apply(2);
+        new Assertion<>(
+            "Must try to hedge again after the rejection",
+            tasks.get(),
+            new IsEqual<>(4)
+        ).affirm();
+    }
+
+    @Test
+    void waitsForSecondWhenFirstFails() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must return the result of the call, which succeeded",
+            new Hedged<>(
+                (Integer input) -> {
+                    if (calls.incrementAndGet() == 1) {
+                        TimeUnit.MILLISECONDS.sleep(50L);
+                        throw new IOException("Slow and broken");
+                    }
+                    TimeUnit.MILLISECONDS.sleep(200L);
+                    return input;
+                },
+                Duration.ofMillis(10L),
+                10
+            ).apply(7),
+            new IsEqual<>(7)
+        ).affirm();
+    }
+
+    @Test
+    void failsWhenBothFail() {
+        final Func<Integer, Integer> func = new Hedged<>(
+            input -> {
+                TimeUnit.MILLISECONDS.sleep(50L);
+                throw new IOException("Broken");
+            },
+            Duration.ofMillis(10L),
+            10
+        );
+        new Assertion<>(
+            "Must throw the original exception",
+            () -> func.apply(1),
+            new Throws<>("Broken", IOException.class)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotExceedHedges() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        new Hedged<>(
+            (Integer input) -> {
+                calls.incrementAndGet();
+                TimeUnit.MILLISECONDS.sleep(50L);
+                return input;
+            },
+            Duration.ofMillis(1L),
+            0
+        ).apply(1);
+        new Assertion<>(
+            "Must not hedge, when there are no hedges left",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void hedgesAfterTrackedLatency() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Boolean, Integer> func = new Hedged<>(
+            slow -> {
+                if (slow && calls.incrementAndGet() == 1) {
+                    TimeUnit.MINUTES.sleep(1L);
+                }
+                return 1;
+            },
+            0.95d,
+            Duration.ofMinutes(1L),
+            1
+        );
+        for (int idx = 0; idx < 100; ++idx) {
+            func.apply(false);
+        }
+        final long start = System.nanoTime();
+        func.apply(true);
+        new Assertion<>(
+            "Must hedge after the latency of the last calls",
+            System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30L),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Histogram}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class HistogramTest {
+
+    @Test
+    void countsSmallValuesExactly() {
+        final Histogram histogram = new Histogram();
+        for (long idx = 1L; idx <= 10L; ++idx) {
+            histogram.record(idx);
+        }
+        new Assertion<>(
+            "Must give the exact median",
+            histogram.quantile(0.5d),
+            new IsEqual<>(5L)
+        ).affirm();
+    }
+
+    @Test
+    void countsLargeValuesApproximately() {
+        final Histogram histogram = new Histogram();
+        for (long idx = 1L; idx <= 1000L; ++idx) {
+            histogram.record(idx * 1_000_000L);
+        }
+        final long actual = histogram.quantile(0.99d);
+        new Assertion<>(
+            "Must give the percentile with a small error",
+            Math.abs(actual - 990_000_000L) < 990_000_000L / 32L,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void countsHugeValues() {
+        final Histogram histogram = new Histogram();
+        histogram.record(Long.MAX_VALUE);
+        new Assertion<>(
+            "Must count the largest value",
+            histogram.quantile(1.0d) > Long.MAX_VALUE / 2L,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void givesZeroWhenEmpty() {
+        new Assertion<>(
+            "Must give zero when there are no values",
+            new Histogram().quantile(0.99d),
+            new IsEqual<>(0L)
+        ).affirm();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Latencies}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class LatenciesTest {
+
+    @Test
+    void usesInitialUntilWindowIsFull() {
+        final Latencies latencies = new Latencies(10, 0.5d);
+        latencies.record(5L);
+        new Assertion<>(
+            "Must give the initial latency",
+            latencies.quantile(42L),
+            new IsEqual<>(42L)
+        ).affirm();
+    }
+
+    @Test
+    void calculatesQuantile() {
+        final Latencies latencies = new Latencies(100, 0.95d);
+        for (long idx = 100L; idx > 0L; --idx) {
+            latencies.record(idx);
+        }
+        new Assertion<>(
+            "Must give the 95th percentile",
+            latencies.quantile(0L),
+            new IsEqual<>(95L)
+        ).affirm();
+    }
+
+    @Test
+    void forgetsOldLatencies() {
+        final Latencies latencies = new Latencies(2, 1.0d);
+        latencies.record(1000L);
+        latencies.record(1L);
+        latencies.record(2L);
+        new Assertion<>(
+            "Must consider only the last latencies",
+            latencies.quantile(0L),
+            new IsEqual<>(2L)
+        ).affirm();
+    }
+
+    @Test
+    void calculatesQuantileOnlyAfterPeriod() {
+        final Latencies latencies = new Latencies(2, 1.0d, 2L);
+        latencies.record(1L);
+        latencies.record(1L);
+        latencies.quantile(0L);
+        latencies.record(5L);
+        new Assertion<>(
+            "Must keep the quantile until the period passes",
+            latencies.quantile(0L),
+            new IsEqual<>(1L)
+        ).affirm();
+        latencies.record(5L);
+        new Assertion<>(
+            "Must calculate the quantile again after the period",
+            latencies.quantile(0L),
+            new IsEqual<>(5L)
+        ).affirm();
+    }
+}
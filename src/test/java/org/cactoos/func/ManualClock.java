@@ -0,0 +1,42 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Ticker, which moves only when asked to.
+ *
+ * @since 1.0
+ */
+public final class ManualClock implements LongSupplier {
+
+    /**
+     * Current moment, in milliseconds.
+     */
+    private final AtomicLong now;
+
+    /**
+     * Ctor.
+     */
+    public ManualClock() {
+        this.now = new AtomicLong();
+    }
+
+    /**
+     * Move the clock forward.
+     * @param millis Milliseconds to move
+     */
+    public void advance(final long millis) {
+        this.now.addAndGet(millis);
+    }
+
+    @Override
+    public long getAsLong() {
+        return TimeUnit.MILLISECONDS.toNanos(this.now.get());
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import org.hamcrest.core.AllOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
+
+/**
+ * Test case for {@link Meter}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class MeterTest {
+
+    @Test
+    void countsEverything() {
+        final Meter meter = new Meter();
+        for (long idx = 1L; idx <= 10L; ++idx) {
+            meter.succeeded(idx);
+        }
+        meter.failed(20L);
+        new Assertion<>(
+            "Must count calls, errors and latencies",
+            meter.value(),
+            new AllOf<>(
+                new HasEntry<>("calls", 11L),
+                new HasEntry<>("errors", 1L),
+                new HasEntry<>("mean", 6L),
+                new HasEntry<>("max", 20L),
+                new HasEntry<>("p50", 6L),
+                new HasEntry<>("p99", 20L)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void startsFromZero() {
+        new Assertion<>(
+            "Must be empty at the beginning",
+            new Meter().value(),
+            new AllOf<>(
+                new HasEntry<>("calls", 0L),
+                new HasEntry<>("errors", 0L),
+                new HasEntry<>("mean", 0L),
+                new HasEntry<>("p999", 0L)
+            )
+        ).affirm();
+    }
+}
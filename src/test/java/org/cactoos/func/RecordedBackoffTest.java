@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import jdk.jfr.consumer.RecordedEvent;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link RecordedBackoff}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class RecordedBackoffTest {
+
+    @Test
+    void emitsFailedAttempts() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final List<RecordedEvent> events = new EventsOf(
+            "org.cactoos.Retry",
+            ignored -> new Retry<>(
+                (Integer input) -> {
+                    if (calls.incrementAndGet() < 3) {
+                        throw new IllegalStateException("Not yet");
+                    }
+                    return input;
+                },
+                5,
+                new RecordedBackoff(attempt -> Duration.ofMillis(1L))
+            ).apply(1)
+        ).value();
+        new Assertion<>(
+            "Must emit an event for every failed attempt",
+            events.size(),
+            new IsEqual<>(2)
+        ).affirm();
+        new Assertion<>(
+            "Must record the number of the attempt",
+            events.get(1).getInt("attempt"),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void givesOriginalWait() throws Exception {
+        new Assertion<>(
+            "Must give the wait of the original backoff",
+            new RecordedBackoff(attempt -> Duration.ofSeconds(attempt))
+                .apply(3),
+            new IsEqual<>(Duration.ofSeconds(3L))
+        ).affirm();
+    }
+}
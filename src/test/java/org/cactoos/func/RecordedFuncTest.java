@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link RecordedFunc}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class RecordedFuncTest {
+
+    @Test
+    void emitsSuccessfulCall() throws Exception {
+        final List<RecordedEvent> events = new EventsOf(
+            "org.cactoos.Call",
+            ignored -> new RecordedFunc<>((Integer x) -> x, "Test").apply(1)
+        ).value();
+        new Assertion<>(
+            "Must emit one event",
+            events.size(),
+            new IsEqual<>(1)
+        ).affirm();
+        new Assertion<>(
+            "Must record the outcome",
+            events.get(0).getString("outcome"),
+            new IsEqual<>("success")
+        ).affirm();
+        new Assertion<>(
+            "Must record the name of the func",
+            events.get(0).getString("func"),
+            new IsEqual<>("Test")
+        ).affirm();
+    }
+
+    @Test
+    void emitsFailedCall() throws Exception {
+        final List<RecordedEvent> events = new EventsOf(
+            "org.cactoos.Call",
+            ignored -> {
+                try {
+                    new RecordedFunc<>(
+                        x -> {
+                            throw new IOException("Broken");
+                        },
+                        "Test"
+                    ).apply(1);
+                } catch (final IOException ex) {
+                    Thread.yield();
+                }
+            }
+        ).value();
+        new Assertion<>(
+            "Must record the exception",
+            events.get(0).getString("error"),
+            new IsEqual<>(IOException.class.getName())
+        ).affirm();
+    }
+
+    @Test
+    void callsWhenDisabled() throws Exception {
+        new Assertion<>(
+            "Must call the original func",
+            new RecordedFunc<>((Integer x) -> x + 1, "Test").apply(1),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
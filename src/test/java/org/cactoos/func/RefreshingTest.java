@@ -0,0 +1,156 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Refreshing}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class RefreshingTest {
+
+    @Test
+    void returnsStaleValueWhileRefreshing() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final ManualClock clock = new ManualClock();
+        final Func<String, Integer> func = new Refreshing<>(
+            input -> calls.incrementAndGet(),
+            Duration.ofMillis(100L), Duration.ofMillis(1000L),
+            Runnable::run, clock
+        );
+        func.apply("a");
+        clock.advance(150L);
+        new Assertion<>(
+            "Must return the stale value",
+            func.apply("a"),
+            new IsEqual<>(1)
+        ).affirm();
+        new Assertion<>(
+            "Must return the refreshed value",
+            func.apply("a"),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void recalculatesExpiredValue() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final ManualClock clock = new ManualClock();
+        final Func<String, Integer> func = new Refreshing<>(
+            input -> calls.incrementAndGet(),
+            Duration.ofMillis(100L), Duration.ofMillis(1000L),
+            Runnable::run, clock
+        );
+        func.apply("b");
+        clock.advance(1000L);
+        new Assertion<>(
+            "Must recalculate the expired value in place",
+            func.apply("b"),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void keepsStaleValueWhenRefreshFails() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final ManualClock clock = new ManualClock();
+        final Func<String, Integer> func = new Refreshing<>(
+            input -> {
+                if (calls.incrementAndGet() > 1) {
+                    throw new IOException("refresh fails");
+                }
+                return 1;
+            },
+            Duration.ofMillis(100L), Duration.ofMillis(1000L),
+            Runnable::run, clock
+        );
+        func.apply("c");
+        clock.advance(150L);
+        func.apply("c");
+        new Assertion<>(
+            "Must keep the stale value",
+            func.apply("c"),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void evictsExtraValues() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<String, Integer> func = new Refreshing<>(
+            input -> calls.incrementAndGet(),
+            Duration.ofMinutes(1L), Duration.ofMinutes(2L),
+            Runnable::run, 1, new ManualClock()
+        );
+        func.apply("x");
+        func.apply("y");
+        new Assertion<>(
+            "Must calculate the evicted value again",
+            func.apply("x"),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void sharesCalculationOfMissingValue() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Func<String, Integer> func = new Refreshing<>(
+            input -> {
+                calls.incrementAndGet();
+                latch.await();
+                return 1;
+            },
+            Duration.ofMinutes(1L), Duration.ofMinutes(2L)
+        );
+        final ExecutorService service = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Integer> first = service.submit(() -> func.apply("z"));
+            while (calls.get() == 0) {
+                Thread.sleep(1L);
+            }
+            final Future<Integer> second = service.submit(
+                () -> func.apply("z")
+            );
+            Thread.sleep(100L);
+            latch.countDown();
+            first.get();
+            second.get();
+        } finally {
+            service.shutdown();
+        }
+        new Assertion<>(
+            "Must calculate the missing value once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsRefreshNotShorterThanTtl() {
+        new Assertion<>(
+            "Must reject refresh age, which is not shorter than TTL",
+            () -> new Refreshing<String, Integer>(
+                input -> 1, Duration.ofMinutes(2L), Duration.ofMinutes(2L)
+            ),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
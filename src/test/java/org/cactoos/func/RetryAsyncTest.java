@@ -0,0 +1,155 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link RetryAsync}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class RetryAsyncTest {
+
+    @Test
+    void retriesUntilSuccess() throws Exception {
+        final AtomicInteger tries = new AtomicInteger();
+        new Assertion<>(
+            "Must retry the failed attempts",
+            new RetryAsync<Integer, Integer>(
+                input -> {
+                    if (tries.incrementAndGet() < 3) {
+                        throw new IOException("Not yet");
+                    }
+                    return CompletableFuture.completedFuture(input);
+                },
+                5,
+                new ExponentialBackoff(Duration.ofMillis(1L))
+            ).apply(7).get(),
+            new IsEqual<>(7)
+        ).affirm();
+    }
+
+    @Test
+    void failsWithLastException() throws Exception {
+        final AtomicInteger tries = new AtomicInteger();
+        new Assertion<>(
+            "Must fail with the last exception",
+            new RetryAsync<Integer, Integer>(
+                input -> CompletableFuture.failedFuture(
+                    new IOException(String.valueOf(tries.incrementAndGet()))
+                ),
+                3,
+                attempt -> Duration.ZERO
+            ).apply(1).handle((value, error) -> error.getMessage()).get(),
+            new IsEqual<>("3")
+        ).affirm();
+    }
+
+    @Test
+    void completesWithErrorAtOnce() throws Exception {
+        final AtomicInteger tries = new AtomicInteger();
+        new Assertion<>(
+            "Must complete with the error without retrying",
+            new RetryAsync<Integer, Integer>(
+                input -> {
+                    tries.incrementAndGet();
+                    throw new IllegalAccessError("Broken");
+                },
+                5,
+                attempt -> Duration.ZERO
+            ).apply(1).handle((value, error) -> tries.get()).get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void stopsWhenBudgetIsExhausted() throws Exception {
+        final AtomicInteger tries = new AtomicInteger();
+        final CompletableFuture<Integer> future =
+            new RetryAsync<Integer, Integer>(
+                input -> {
+                    tries.incrementAndGet();
+                    throw new IOException("Down");
+                },
+                attempt -> false,
+                attempt -> Duration.ZERO,
+                new RetryBudget.Ratio(0.0d, 2)
+            ).apply(1);
+        new Assertion<>(
+            "Must fail with the exception",
+            future.handle((value, error) -> error).get(),
+            new IsInstanceOf(IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must try only as many times as the budget allows",
+            tries.get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void retriesOutsideOfTimerThread() throws Exception {
+        final AtomicInteger tries = new AtomicInteger();
+        new Assertion<>(
+            "Must not run the retry in the timer thread",
+            new RetryAsync<Integer, String>(
+                input -> {
+                    if (tries.incrementAndGet() < 2) {
+                        throw new IOException("Once more");
+                    }
+                    return CompletableFuture.completedFuture(
+                        Thread.currentThread().getName()
+                    );
+                },
+                3,
+                new ExponentialBackoff(Duration.ofMillis(1L))
+            ).apply(1).get(),
+            new IsNot<>(new IsEqual<>("cactoos-timer"))
+        ).affirm();
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    void stopsWhenFutureIsCancelled() throws Exception {
+        final AtomicInteger tries = new AtomicInteger();
+        final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor();
+        try {
+            new RetryAsync<Integer, Integer>(
+                input -> {
+                    tries.incrementAndGet();
+                    throw new IOException("Again");
+                },
+                attempt -> false,
+                attempt -> Duration.ofMillis(10L),
+                new RetryBudget.None(),
+                scheduler,
+                Runnable::run
+            ).apply(1).cancel(true);
+        } finally {
+            scheduler.shutdown();
+            scheduler.awaitTermination(1L, TimeUnit.MINUTES);
+        }
+        new Assertion<>(
+            "Must not try again after the future is cancelled",
+            tries.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+}
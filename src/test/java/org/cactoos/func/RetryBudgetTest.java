@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link RetryBudget}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class RetryBudgetTest {
+
+    @Test
+    void allowsBurstOfReserve() {
+        final RetryBudget budget = new RetryBudget.Ratio(0.1d, 2);
+        budget.withdraw();
+        budget.withdraw();
+        new Assertion<>(
+            "Must refuse the retry after the reserve is spent",
+            budget.withdraw(),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void refillsWithCalls() {
+        final RetryBudget budget = new RetryBudget.Ratio(0.1d, 1);
+        budget.withdraw();
+        for (int call = 0; call < 10; ++call) {
+            budget.deposit();
+        }
+        new Assertion<>(
+            "Must allow one retry per ten calls",
+            budget.withdraw(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void allowsAnyNumberOfRetriesWithNone() {
+        final RetryBudget budget = new RetryBudget.None();
+        for (int retry = 0; retry < 1000; ++retry) {
+            budget.withdraw();
+        }
+        new Assertion<>(
+            "Must allow any number of retries",
+            budget.withdraw(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
@@ -6,6 +6,8 @@ package org.cactoos.func;
 
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.IsApplicable;
@@ -80,4 +82,52 @@ final class RetryTest {
             new Throws<>("sleep interrupted", InterruptedException.class)
         ).affirm();
     }
+
+    @Test
+    void stopsWhenBudgetIsExhausted() {
+        final AtomicInteger tries = new AtomicInteger();
+        new Assertion<>(
+            "Must not retry without budget",
+            () -> new Retry<>(
+                input -> {
+                    tries.incrementAndGet();
+                    throw new IllegalArgumentException("Down");
+                },
+                attempt -> false,
+                new ExponentialBackoff(Duration.ofMillis(1L)),
+                new RetryBudget.Ratio(0.0d, 1)
+            ).apply(true),
+            new Throws<>("Down", IllegalArgumentException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must try once and retry once",
+            tries.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void asksBackoffOnlyBeforeRetry() {
+        final AtomicInteger waits = new AtomicInteger();
+        new Assertion<>(
+            "Must fail after the last attempt",
+            () -> new Retry<>(
+                input -> {
+                    throw new IllegalArgumentException("Again");
+                },
+                attempt -> attempt >= 3,
+                attempt -> {
+                    waits.incrementAndGet();
+                    return Duration.ZERO;
+                },
+                new RetryBudget.None()
+            ).apply(true),
+            new Throws<>("Again", IllegalArgumentException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must not ask for the wait after the last attempt",
+            waits.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
 }
@@ -4,13 +4,28 @@
  */
 package org.cactoos.func;
 
+import java.io.IOException;
 import java.security.SecureRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.cactoos.Func;
 import org.cactoos.list.ListOf;
+import org.cactoos.map.SoftValues;
+import org.cactoos.map.WeakKeys;
+import org.hamcrest.core.AllOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
 import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link SolidFunc}.
@@ -51,4 +66,357 @@ final class SolidFuncTest {
         ).affirm();
     }
 
+    @Test
+    void calculatesOnceInThreads() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> solid = new SolidFunc<>(
+            input -> calls.incrementAndGet()
+        );
+        new Assertion<>(
+            "Must work in multiple threads",
+            func -> func.apply(1) > 0,
+            new RunsInThreads<>(solid, 100)
+        ).affirm();
+        new Assertion<>(
+            "Must calculate only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotBlockOtherInputs() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            input -> {
+                if (input == 0) {
+                    latch.await();
+                }
+                return input;
+            }
+        );
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Integer> slow = service.submit(() -> func.apply(0));
+            new Assertion<>(
+                "Must not wait for the calculation of another input",
+                func.apply(1),
+                new IsEqual<>(1)
+            ).affirm();
+            latch.countDown();
+            new Assertion<>(
+                "Must calculate the slow input",
+                slow.get(),
+                new IsEqual<>(0)
+            ).affirm();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void doesNotCacheFailures() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            input -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IOException("first call fails");
+                }
+                return input;
+            }
+        );
+        new Assertion<>(
+            "Must throw the original exception",
+            () -> func.apply(1),
+            new Throws<>("first call fails", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must calculate again after a failure",
+            func.apply(1),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void recordsStatistics() throws Exception {
+        final CacheStats stats = new CacheStats.Counters();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            input -> {
+                if (input < 0) {
+                    throw new IOException("negative");
+                }
+                return input;
+            },
+            1,
+            stats
+        );
+        func.apply(1);
+        func.apply(1);
+        func.apply(2);
+        new Assertion<>(
+            "Must rethrow the failure",
+            () -> func.apply(-1),
+            new Throws<>(IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must record hits, misses, failures and evictions",
+            stats.value(),
+            new AllOf<>(
+                new HasEntry<>("hits", 1L),
+                new HasEntry<>("misses", 3L),
+                new HasEntry<>("failures", 1L),
+                new HasEntry<>("evictions", 1L)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void recordsWaitForOngoingCalculation() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CacheStats stats = new CacheStats.Counters();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            input -> {
+                started.countDown();
+                release.await();
+                return input;
+            },
+            Integer.MAX_VALUE,
+            stats
+        );
+        final ExecutorService service = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Integer> first = service.submit(() -> func.apply(1));
+            started.await();
+            final Future<Integer> second = service.submit(() -> func.apply(1));
+            while (stats.value().get("waits") == 0L) {
+                Thread.yield();
+            }
+            release.countDown();
+            first.get();
+            second.get();
+        } finally {
+            service.shutdown();
+        }
+        new Assertion<>(
+            "Must record the wait, neither a hit nor a miss",
+            stats.value(),
+            new AllOf<>(
+                new HasEntry<>("waits", 1L),
+                new HasEntry<>("hits", 0L),
+                new HasEntry<>("misses", 1L)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void failsInsteadOfWaitingInCycle() throws Exception {
+        final CountDownLatch started = new CountDownLatch(2);
+        final AtomicReference<Func<Integer, Integer>> self =
+            new AtomicReference<>();
+        self.set(
+            new SolidFunc<>(
+                input -> {
+                    started.countDown();
+                    started.await();
+                    return self.get().apply(3 - input);
+                }
+            )
+        );
+        final ExecutorService service = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Integer> first =
+                service.submit(() -> self.get().apply(1));
+            final Future<Integer> second =
+                service.submit(() -> self.get().apply(2));
+            new Assertion<>(
+                "Must fail the first calculation instead of a deadlock",
+                () -> first.get(10L, TimeUnit.SECONDS),
+                new Throws<>(ExecutionException.class)
+            ).affirm();
+            new Assertion<>(
+                "Must fail the second calculation instead of a deadlock",
+                () -> second.get(10L, TimeUnit.SECONDS),
+                new Throws<>(ExecutionException.class)
+            ).affirm();
+        } finally {
+            service.shutdownNow();
+        }
+    }
+
+    @Test
+    void cachesInSoftValues() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            input -> calls.incrementAndGet(), SoftValues::new
+        );
+        func.apply(1);
+        func.apply(1);
+        new Assertion<>(
+            "Must calculate only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    @SuppressWarnings("PMD.DoNotCallGarbageCollectionExplicitly")
+    void cachesInWeakKeysWhileInputIsReachable() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Object, Integer> func = new SolidFunc<>(
+            input -> calls.incrementAndGet(), WeakKeys::new
+        );
+        final Object input = new Object();
+        func.apply(input);
+        for (int attempt = 0; attempt < 5; ++attempt) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        func.apply(input);
+        new Assertion<>(
+            "Must keep the result while the caller keeps its input",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void cachesNullInput() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<String, Integer> func = new SolidFunc<>(
+            input -> calls.incrementAndGet()
+        );
+        func.apply(null);
+        new Assertion<>(
+            "Must calculate the result of NULL input once",
+            func.apply(null),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void letsRecursiveCallForSameInput() throws Exception {
+        final AtomicReference<Func<Integer, Integer>> self =
+            new AtomicReference<>();
+        final AtomicInteger depth = new AtomicInteger();
+        self.set(
+            new SolidFunc<>(
+                input -> {
+                    int result = input;
+                    if (depth.incrementAndGet() == 1) {
+                        result = self.get().apply(input) + 1;
+                    }
+                    return result;
+                }
+            )
+        );
+        new Assertion<>(
+            "Must not wait for itself in a recursive call",
+            self.get().apply(1),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    void neverEvictsOngoingCalculation() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Func<Integer, Integer> func = new SolidFunc<>(
+            input -> {
+                if (input == 1) {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    release.await();
+                }
+                return input;
+            },
+            1
+        );
+        final ExecutorService service = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Integer> first = service.submit(() -> func.apply(1));
+            started.await();
+            func.apply(2);
+            final Future<Integer> second = service.submit(
+                () -> func.apply(1)
+            );
+            release.countDown();
+            first.get();
+            second.get();
+            new Assertion<>(
+                "Must not evict and calculate the ongoing input again",
+                calls.get(),
+                new IsEqual<>(1)
+            ).affirm();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    void keepsOwnerOfRecursiveCallAfterFailureOfSameInput()
+        throws Exception {
+        final AtomicReference<Func<Integer, Integer>> self =
+            new AtomicReference<>();
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch owned = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        final AtomicReference<Future<Integer>> next = new AtomicReference<>();
+        self.set(
+            new SolidFunc<>(
+                input -> {
+                    final int call = calls.incrementAndGet();
+                    if (call == 1) {
+                        throw new IOException("the first call fails");
+                    }
+                    int result = input;
+                    if (call == 2) {
+                        owned.countDown();
+                        release.await();
+                        result = self.get().apply(input) + 1;
+                    }
+                    return result;
+                },
+                () -> new ConcurrentHashMap<Object, Object>(0) {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    public boolean remove(final Object key,
+                        final Object value) {
+                        final boolean removed = super.remove(key, value);
+                        if (next.get() == null) {
+                            next.set(
+                                service.submit(() -> self.get().apply(1))
+                            );
+                            try {
+                                owned.await();
+                            } catch (final InterruptedException ex) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                        return removed;
+                    }
+                }
+            )
+        );
+        try {
+            new Assertion<>(
+                "Must throw the failure of the first calculation",
+                () -> self.get().apply(1),
+                new Throws<>("the first call fails", IOException.class)
+            ).affirm();
+            release.countDown();
+            new Assertion<>(
+                "Must not wait for itself after another owner failed",
+                next.get().get(1L, TimeUnit.MINUTES),
+                new IsEqual<>(2)
+            ).affirm();
+        } finally {
+            service.shutdownNow();
+        }
+    }
 }
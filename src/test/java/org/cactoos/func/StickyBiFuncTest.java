@@ -5,6 +5,7 @@
 package org.cactoos.func;
 
 import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.BiFunc;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
@@ -30,4 +31,21 @@ final class StickyBiFuncTest {
         ).affirm();
     }
 
+    @Test
+    void cachesWithLimitedBuffer() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final BiFunc<Integer, Integer, Integer> func = new StickyBiFunc<>(
+            (first, second) -> calls.incrementAndGet(), 1
+        );
+        func.apply(1, 2);
+        func.apply(1, 2);
+        func.apply(2, 1);
+        func.apply(1, 2);
+        new Assertion<>(
+            "Must evict the least recently used result",
+            calls.get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
 }
@@ -5,11 +5,17 @@
 package org.cactoos.func;
 
 import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Func;
+import org.cactoos.map.Lru;
+import org.cactoos.map.TinyLfu;
+import org.hamcrest.core.AllOf;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
 
 /**
  * Test case for {@link StickyFunc}.
@@ -70,4 +76,111 @@ final class StickyFuncTest {
         ).affirm();
     }
 
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> calls.incrementAndGet(), 2
+        );
+        func.apply(1);
+        func.apply(2);
+        func.apply(1);
+        func.apply(3);
+        func.apply(1);
+        new Assertion<>(
+            "Must keep recently used result",
+            calls.get(),
+            new IsEqual<>(3)
+        ).affirm();
+    }
+
+    @Test
+    void cachesNothingWithZeroMax() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> calls.incrementAndGet(), 0
+        );
+        func.apply(1);
+        func.apply(1);
+        new Assertion<>(
+            "Must calculate the result every time",
+            calls.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotCountRefilledEntryAsEviction() throws Exception {
+        final CacheStats stats = new CacheStats.Counters();
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> input * 2,
+            new HashMap<Integer, Integer>(0) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Integer get(final Object key) {
+                    return null;
+                }
+            },
+            stats
+        );
+        func.apply(1);
+        func.apply(1);
+        new Assertion<>(
+            "Must not count the replaced entry as evicted",
+            stats.value(),
+            new HasEntry<>("evictions", 0L)
+        ).affirm();
+    }
+
+    @Test
+    void cachesNullResults() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> {
+                calls.incrementAndGet();
+                return null;
+            }
+        );
+        func.apply(1);
+        func.apply(1);
+        new Assertion<>(
+            "Must cache NULL result",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void cachesInGivenMap() throws Exception {
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> new SecureRandom().nextInt(), new TinyLfu<>(10)
+        );
+        new Assertion<>(
+            "Must cache results in the given map",
+            func.apply(1),
+            new IsEqual<>(func.apply(1))
+        ).affirm();
+    }
+
+    @Test
+    void recordsStatistics() throws Exception {
+        final CacheStats stats = new CacheStats.Counters();
+        final Func<Integer, Integer> func = new StickyFunc<>(
+            input -> input * 2, new Lru<>(1), stats
+        );
+        func.apply(1);
+        func.apply(1);
+        func.apply(2);
+        new Assertion<>(
+            "Must record hits, misses and evictions",
+            stats.value(),
+            new AllOf<>(
+                new HasEntry<>("hits", 1L),
+                new HasEntry<>("misses", 2L),
+                new HasEntry<>("evictions", 1L),
+                new HasEntry<>("size", 1L)
+            )
+        ).affirm();
+    }
 }
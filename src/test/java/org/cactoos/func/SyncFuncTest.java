@@ -6,6 +6,9 @@ package org.cactoos.func;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import org.cactoos.Func;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -39,4 +42,40 @@ final class SyncFuncTest {
             new IsEqual<>(threads)
         ).affirm();
     }
+
+    @Test
+    void callsUnderTheGivenLock() throws Exception {
+        final ReentrantLock lock = new ReentrantLock();
+        new Assertion<>(
+            "Must hold the given lock during the call",
+            new SyncFunc<Boolean, Boolean>(
+                lock, input -> lock.isHeldByCurrentThread()
+            ).apply(true),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void callsUnderTheMonitorOfGivenObject() throws Exception {
+        final ReentrantLock lock = new ReentrantLock();
+        new Assertion<>(
+            "Must hold the monitor of the given object, even if it's a lock",
+            new SyncFunc<Boolean, Boolean>(
+                input -> Thread.holdsLock(lock) && !lock.isLocked(), lock
+            ).apply(true),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void doesNotHoldMonitorOfFuncByDefault() throws Exception {
+        final AtomicReference<Func<Boolean, Boolean>> func =
+            new AtomicReference<>();
+        func.set(input -> Thread.holdsLock(func.get()));
+        new Assertion<>(
+            "Must not hold the monitor of the original func during the call",
+            new SyncFunc<>(func.get()).apply(true),
+            new IsEqual<>(false)
+        ).affirm();
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Fallback;
+import org.cactoos.Func;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Throttled}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ThrottledTest {
+
+    @Test
+    void callsWhenTokenIsThere() throws Exception {
+        new Assertion<>(
+            "Must call the original func",
+            new Throttled<>(
+                (Integer input) -> input + 1,
+                new TokenBucket(1, Duration.ofSeconds(1L))
+            ).apply(1),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsWhenBucketIsEmpty() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> func = new Throttled<>(
+            input -> calls.incrementAndGet(),
+            new TokenBucket(1, Duration.ofMinutes(1L)),
+            Duration.ZERO
+        );
+        new Assertion<>(
+            "Must reject the second call",
+            () -> func.apply(1) + func.apply(2),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must call the original func only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void sharesBucketBetweenFuncs() throws Exception {
+        final TokenBucket bucket = new TokenBucket(
+            2, Duration.ofMinutes(1L)
+        );
+        final Func<Integer, Integer> first = new Throttled<>(
+            input -> input, bucket, Duration.ZERO
+        );
+        final Func<Integer, Integer> second = new Throttled<>(
+            input -> input, bucket, Duration.ZERO
+        );
+        first.apply(1);
+        second.apply(2);
+        new Assertion<>(
+            "Must draw from the same bucket",
+            () -> first.apply(3),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void givesNoMoreThanBurstInThreads() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Func<Integer, Integer> throttled = new Throttled<>(
+            input -> calls.incrementAndGet(),
+            new TokenBucket(10, Duration.ofMinutes(1L)),
+            Duration.ZERO
+        );
+        new Assertion<>(
+            "Must either call or reject in threads",
+            func -> func.apply(1) >= 0,
+            new RunsInThreads<>(
+                new FuncWithFallback<>(
+                    throttled,
+                    new Fallback.From<>(
+                        RejectedExecutionException.class, error -> 0
+                    )
+                ),
+                100
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must not exceed the burst in threads",
+            calls.get(),
+            new IsEqual<>(10)
+        ).affirm();
+    }
+}
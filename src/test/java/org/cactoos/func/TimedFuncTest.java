@@ -4,8 +4,11 @@
  */
 package org.cactoos.func;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.cactoos.iterable.Endless;
 import org.cactoos.scalar.And;
@@ -78,4 +81,35 @@ final class TimedFuncTest {
             new IsTrue()
         ).affirm();
     }
+
+    @Test
+    void interruptsWorker() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            new Assertion<>(
+                "Must throw TimeoutException",
+                () -> new Timed<Boolean, Boolean>(
+                    input -> {
+                        try {
+                            TimeUnit.MINUTES.sleep(1L);
+                        } catch (final InterruptedException ex) {
+                            interrupted.countDown();
+                        }
+                        return input;
+                    },
+                    50L,
+                    service
+                ).apply(true),
+                new Throws<>(TimeoutException.class)
+            ).affirm();
+            new Assertion<>(
+                "Must interrupt the worker",
+                interrupted.await(1L, TimeUnit.MINUTES),
+                new IsTrue()
+            ).affirm();
+        } finally {
+            service.shutdown();
+        }
+    }
 }
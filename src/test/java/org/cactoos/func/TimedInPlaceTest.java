@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link TimedInPlace}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class TimedInPlaceTest {
+
+    @Test
+    void runsInCallerThread() throws Exception {
+        new Assertion<>(
+            "Must run the function in the caller's thread",
+            new TimedInPlace<Boolean, Thread>(
+                input -> Thread.currentThread(), 1000L
+            ).apply(true),
+            new IsEqual<>(Thread.currentThread())
+        ).affirm();
+    }
+
+    @Test
+    void interruptsAfterTimeout() {
+        new Assertion<>(
+            "Must throw TimeoutException",
+            () -> new TimedInPlace<Boolean, Boolean>(
+                input -> {
+                    TimeUnit.MINUTES.sleep(1L);
+                    return input;
+                },
+                50L
+            ).apply(true),
+            new Throws<>(TimeoutException.class)
+        ).affirm();
+    }
+
+    @Test
+    void clearsInterruptedStatus() throws Exception {
+        try {
+            new TimedInPlace<Boolean, Boolean>(
+                input -> {
+                    TimeUnit.MINUTES.sleep(1L);
+                    return input;
+                },
+                10L
+            ).apply(true);
+        } catch (final TimeoutException ex) {
+            new Assertion<>(
+                "Must not leave the caller interrupted",
+                Thread.currentThread().isInterrupted(),
+                new IsEqual<>(false)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void keepsInterruptedStatusSetBySomeoneElse() throws Exception {
+        try {
+            new TimedInPlace<Boolean, Boolean>(
+                input -> {
+                    Thread.currentThread().interrupt();
+                    final long start = System.nanoTime();
+                    while (System.nanoTime() - start
+                        < TimeUnit.MILLISECONDS.toNanos(200L)) {
+                        Thread.onSpinWait();
+                    }
+                    return input;
+                },
+                10L
+            ).apply(true);
+        } catch (final TimeoutException ex) {
+            new Assertion<>(
+                "Must leave the caller interrupted",
+                Thread.interrupted(),
+                new IsEqual<>(true)
+            ).affirm();
+        }
+    }
+
+    @Test
+    void throwsOriginalException() {
+        new Assertion<>(
+            "Must throw the exception of the function",
+            () -> new TimedInPlace<Boolean, Boolean>(
+                input -> {
+                    throw new IOException("failed in time");
+                },
+                1000L
+            ).apply(true),
+            new Throws<>("failed in time", IOException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.func;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link TokenBucket}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class TokenBucketTest {
+
+    @Test
+    void startsFull() throws Exception {
+        final TokenBucket bucket = new TokenBucket(
+            1, Duration.ofSeconds(1L), 3, new AtomicLong()::get
+        );
+        for (int idx = 0; idx < 3; ++idx) {
+            new Assertion<>(
+                "Must give the burst at once",
+                bucket.acquire(Duration.ZERO),
+                new IsEqual<>(true)
+            ).affirm();
+        }
+        new Assertion<>(
+            "Must reject when the bucket is empty",
+            bucket.acquire(Duration.ZERO),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void refillsWithTime() throws Exception {
+        final AtomicLong ticker = new AtomicLong();
+        final TokenBucket bucket = new TokenBucket(
+            2, Duration.ofSeconds(1L), 1, ticker::get
+        );
+        bucket.acquire(Duration.ZERO);
+        ticker.addAndGet(Duration.ofMillis(499L).toNanos());
+        new Assertion<>(
+            "Must not give a token before it arrives",
+            bucket.acquire(Duration.ZERO),
+            new IsEqual<>(false)
+        ).affirm();
+        ticker.addAndGet(Duration.ofMillis(1L).toNanos());
+        new Assertion<>(
+            "Must give a token when it arrives",
+            bucket.acquire(Duration.ZERO),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void neverHoldsMoreThanBurst() throws Exception {
+        final AtomicLong ticker = new AtomicLong();
+        final TokenBucket bucket = new TokenBucket(
+            10, Duration.ofSeconds(1L), 2, ticker::get
+        );
+        ticker.addAndGet(Duration.ofMinutes(1L).toNanos());
+        bucket.acquire(Duration.ZERO);
+        bucket.acquire(Duration.ZERO);
+        new Assertion<>(
+            "Must not accumulate tokens beyond the burst",
+            bucket.acquire(Duration.ZERO),
+            new IsEqual<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void waitsForToken() throws Exception {
+        final TokenBucket bucket = new TokenBucket(
+            1, Duration.ofMillis(100L), 1
+        );
+        bucket.acquire();
+        final long start = System.nanoTime();
+        bucket.acquire();
+        new Assertion<>(
+            "Must wait for the next token",
+            System.nanoTime() - start >= Duration.ofMillis(50L).toNanos(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void givesUpWhenTokenIsTooFar() throws Exception {
+        final TokenBucket bucket = new TokenBucket(
+            1, Duration.ofMinutes(1L), 1
+        );
+        bucket.acquire();
+        final long start = System.nanoTime();
+        new Assertion<>(
+            "Must not take a token, which can't arrive in time",
+            bucket.acquire(Duration.ofSeconds(1L)),
+            new IsEqual<>(false)
+        ).affirm();
+        new Assertion<>(
+            "Must not wait in vain",
+            System.nanoTime() - start < Duration.ofSeconds(1L).toNanos(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void worksWithNegativeTicker() throws Exception {
+        final AtomicLong ticker = new AtomicLong(-Long.MAX_VALUE / 2L);
+        final TokenBucket bucket = new TokenBucket(
+            1, Duration.ofSeconds(1L), 1, ticker::get
+        );
+        bucket.acquire(Duration.ZERO);
+        ticker.addAndGet(Duration.ofSeconds(1L).toNanos());
+        new Assertion<>(
+            "Must refill by the ticker, even if it's negative",
+            bucket.acquire(Duration.ZERO),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void givesTokenBackWhenInterrupted() throws Exception {
+        final AtomicLong ticker = new AtomicLong();
+        final TokenBucket bucket = new TokenBucket(
+            1, Duration.ofSeconds(1L), 1, ticker::get
+        );
+        bucket.acquire(Duration.ZERO);
+        Thread.currentThread().interrupt();
+        new Assertion<>(
+            "Must throw when interrupted while waiting",
+            () -> bucket.acquire(Duration.ofSeconds(2L)),
+            new Throws<>(InterruptedException.class)
+        ).affirm();
+        ticker.addAndGet(Duration.ofSeconds(1L).toNanos());
+        new Assertion<>(
+            "Must give the reserved token back",
+            bucket.acquire(Duration.ZERO),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsZeroPermits() {
+        new Assertion<>(
+            "Must reject zero permits",
+            () -> new TokenBucket(0, Duration.ofSeconds(1L)),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsZeroBurst() {
+        new Assertion<>(
+            "Must reject zero burst",
+            () -> new TokenBucket(1, Duration.ofSeconds(1L), 0),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import org.cactoos.func.EventsOf;
+import org.cactoos.text.TextOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasString;
+
+/**
+ * Test case for {@link RecordedInput}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class RecordedInputTest {
+
+    @Test
+    void emitsEventOnClose() throws Exception {
+        final List<RecordedEvent> events = new EventsOf(
+            "org.cactoos.Input",
+            ignored -> {
+                try (InputStream stream = new RecordedInput(
+                    () -> new ByteArrayInputStream(new byte[5]), "Test"
+                ).stream()) {
+                    while (stream.read() >= 0) {
+                        Thread.yield();
+                    }
+                }
+            }
+        ).value();
+        new Assertion<>(
+            "Must emit one event",
+            events.size(),
+            new IsEqual<>(1)
+        ).affirm();
+        new Assertion<>(
+            "Must count bytes read",
+            events.get(0).getLong("bytes"),
+            new IsEqual<>(5L)
+        ).affirm();
+    }
+
+    @Test
+    void readsWhenDisabled() {
+        new Assertion<>(
+            "Must read the original input",
+            new TextOf(new RecordedInput(new InputOf("Hello"), "Test")),
+            new HasString("Hello")
+        ).affirm();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterable;
+
+import java.util.concurrent.CountDownLatch;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link MappedInThreads}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class MappedInThreadsTest {
+
+    @Test
+    void keepsOrderOfSourceItems() {
+        new Assertion<>(
+            "Must return results in the order of source items",
+            new ListOf<>(
+                new MappedInThreads<>(
+                    (Integer input) -> {
+                        Thread.sleep(10L * (5 - input));
+                        return input * 2;
+                    },
+                    new ListOf<>(1, 2, 3, 4),
+                    4
+                )
+            ),
+            new IsEqual<>(new ListOf<>(2, 4, 6, 8))
+        ).affirm();
+    }
+
+    @Test
+    void returnsUnorderedResultsAsSoonAsReady() {
+        final CountDownLatch latch = new CountDownLatch(1);
+        new Assertion<>(
+            "Must return the ready result first",
+            new MappedInThreads<>(
+                (String input) -> {
+                    if ("slow".equals(input)) {
+                        latch.await();
+                    }
+                    latch.countDown();
+                    return input;
+                },
+                new ListOf<>("slow", "fast"),
+                2,
+                false
+            ).iterator().next(),
+            new IsEqual<>("fast")
+        ).affirm();
+    }
+
+    @Test
+    void mapsWithDefaultWindow() {
+        new Assertion<>(
+            "Must map all items",
+            new MappedInThreads<>(
+                (Integer input) -> input + 1,
+                new ListOf<>(1, 2, 3)
+            ),
+            new IsEqual<>(new IterableOf<>(2, 3, 4))
+        ).affirm();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.iterator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link MappedInThreads}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class MappedInThreadsTest {
+
+    @Test
+    void pullsOnlyTheWindow() {
+        final AtomicInteger pulled = new AtomicInteger();
+        new MappedInThreads<>(
+            (Integer input) -> input,
+            new Mapped<>(
+                input -> pulled.incrementAndGet(),
+                new IteratorOf<>(1, 2, 3, 4, 5)
+            ),
+            2
+        ).next();
+        new Assertion<>(
+            "Must pull no more items than the window",
+            pulled.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    void stopsOnFailure() {
+        final ExecutorService service = Executors.newCachedThreadPool();
+        try {
+            final Iterator<Integer> iterator = new MappedInThreads<>(
+                service,
+                (Integer input) -> {
+                    throw new IOException("Broken");
+                },
+                new IteratorOf<>(1, 2, 3),
+                1,
+                true
+            );
+            new Assertion<>(
+                "Must throw the failure of the function",
+                iterator::next,
+                new Throws<>(UncheckedIOException.class)
+            ).affirm();
+            new Assertion<>(
+                "Must not map more items",
+                iterator.hasNext(),
+                new IsEqual<>(false)
+            ).affirm();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    void throwsUncheckedFailureAsIs() {
+        final ExecutorService service = Executors.newCachedThreadPool();
+        try {
+            new Assertion<>(
+                "Must throw the unchecked failure of the function as is",
+                () -> new MappedInThreads<>(
+                    service,
+                    (Integer input) -> {
+                        throw new IllegalStateException("Boom");
+                    },
+                    new IteratorOf<>(1, 2),
+                    2,
+                    false
+                ).next(),
+                new Throws<>("Boom", IllegalStateException.class)
+            ).affirm();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void keepsInterruptedStatus() {
+        final Iterator<Integer> iterator = new MappedInThreads<>(
+            (Integer input) -> {
+                TimeUnit.MINUTES.sleep(1L);
+                return input;
+            },
+            new IteratorOf<>(1),
+            1
+        );
+        iterator.hasNext();
+        Thread.currentThread().interrupt();
+        new Assertion<>(
+            "Must throw when interrupted",
+            iterator::next,
+            new Throws<>(UncheckedIOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must leave the thread interrupted",
+            Thread.interrupted(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsEmptyWindow() {
+        new Assertion<>(
+            "Must reject the window below one",
+            () -> new MappedInThreads<>(
+                (Integer input) -> input, new IteratorOf<>(1), 0
+            ),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
+    @Test
+    void failsIfExhausted() {
+        final Iterator<String> iterator = new MappedInThreads<>(
+            Number::toString, new IteratorOf<Number>(1), 1
+        );
+        iterator.next();
+        new Assertion<>(
+            "Must throw when there are no more items",
+            iterator::next,
+            new Throws<>(NoSuchElementException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.map;
+
+import java.util.Map;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
+
+/**
+ * Test case for {@link Lru}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class LruTest {
+
+    @Test
+    void behavesAsMap() {
+        final Map<Integer, Integer> map = new Lru<>(2);
+        map.put(1, 1);
+        new Assertion<>(
+            "Must behave as a map",
+            map,
+            new BehavesAsMap<>(1, 1)
+        ).affirm();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        final Map<String, Integer> map = new Lru<>(2);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.get("a");
+        map.put("c", 3);
+        new Assertion<>(
+            "Must evict the least recently used entry",
+            map,
+            new IsNot<>(new HasEntry<>("b", 2))
+        ).affirm();
+        new Assertion<>(
+            "Must keep the recently used entry",
+            map,
+            new HasEntry<>("a", 1)
+        ).affirm();
+    }
+
+    @Test
+    void keepsNothingWithZeroSize() {
+        final Map<String, Integer> map = new Lru<>(0);
+        map.put("x", 1);
+        new Assertion<>(
+            "Must not keep anything",
+            map.size(),
+            new IsEqual<>(0)
+        ).affirm();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.map;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
+
+/**
+ * Test case for {@link SoftValues}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class SoftValuesTest {
+
+    @Test
+    void behavesAsMap() {
+        final Map<Integer, Integer> map = new SoftValues<>();
+        map.put(1, 1);
+        new Assertion<>(
+            "Must behave as a map",
+            map,
+            new BehavesAsMap<>(1, 1)
+        ).affirm();
+    }
+
+    @Test
+    void keepsNullValues() {
+        final Map<String, Integer> map = new SoftValues<>();
+        map.put("x", null);
+        new Assertion<>(
+            "Must contain the key with NULL value",
+            map.containsKey("x"),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void putsIfAbsent() {
+        final ConcurrentMap<String, Integer> map = new SoftValues<>();
+        map.putIfAbsent("a", 1);
+        new Assertion<>(
+            "Must return the present value",
+            map.putIfAbsent("a", 2),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void removesOnlyEqualValue() {
+        final ConcurrentMap<String, Integer> map = new SoftValues<>();
+        map.put("a", 1);
+        map.remove("a", 2);
+        new Assertion<>(
+            "Must keep the entry with another value",
+            map,
+            new HasEntry<>("a", 1)
+        ).affirm();
+        map.remove("a", 1);
+        new Assertion<>(
+            "Must remove the entry with equal value",
+            map,
+            new IsNot<>(new HasEntry<>("a", 1))
+        ).affirm();
+    }
+
+    @Test
+    void replacesOnlyEqualValue() {
+        final ConcurrentMap<String, Integer> map = new SoftValues<>();
+        map.put("b", 1);
+        map.replace("b", 2, 3);
+        map.replace("b", 1, 4);
+        new Assertion<>(
+            "Must replace the equal value only",
+            map,
+            new HasEntry<>("b", 4)
+        ).affirm();
+    }
+}
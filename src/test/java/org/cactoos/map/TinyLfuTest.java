@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.map;
+
+import java.util.Map;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
+
+/**
+ * Test case for {@link TinyLfu}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class TinyLfuTest {
+
+    @Test
+    void behavesAsMap() {
+        final Map<Integer, Integer> map = new TinyLfu<>(10);
+        map.put(1, 1);
+        new Assertion<>(
+            "Must behave as a map",
+            map,
+            new BehavesAsMap<>(1, 1)
+        ).affirm();
+    }
+
+    @Test
+    void keepsHotKeysUnderScan() {
+        final Map<Integer, Integer> map = new TinyLfu<>(100);
+        for (int idx = 0; idx < 10_000; ++idx) {
+            for (final int key : new int[] {idx % 50, -idx - 1, -idx - 20_000}) {
+                if (map.get(key) == null) {
+                    map.put(key, key);
+                }
+            }
+        }
+        int hot = 0;
+        for (int key = 0; key < 50; ++key) {
+            if (map.containsKey(key)) {
+                ++hot;
+            }
+        }
+        new Assertion<>(
+            "Must keep frequently used keys, despite of the scan",
+            hot,
+            new IsEqual<>(50)
+        ).affirm();
+    }
+
+    @Test
+    void neverGrowsOverLimit() {
+        final Map<Integer, Integer> map = new TinyLfu<>(10);
+        for (int key = 0; key < 100; ++key) {
+            map.put(key, key);
+        }
+        new Assertion<>(
+            "Must not grow over the limit",
+            map.size(),
+            new IsEqual<>(10)
+        ).affirm();
+    }
+
+    @Test
+    void removesEntries() {
+        final Map<String, Integer> map = new TinyLfu<>(10);
+        map.put("first", 1);
+        map.remove("first");
+        new Assertion<>(
+            "Must remove the entry",
+            map,
+            new IsNot<>(new HasEntry<>("first", 1))
+        ).affirm();
+    }
+}
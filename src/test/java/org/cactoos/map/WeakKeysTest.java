@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.map;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
+
+/**
+ * Test case for {@link WeakKeys}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class WeakKeysTest {
+
+    @Test
+    void behavesAsMap() {
+        final Map<Integer, Integer> map = new WeakKeys<>();
+        map.put(1, 1);
+        new Assertion<>(
+            "Must behave as a map",
+            map,
+            new BehavesAsMap<>(1, 1)
+        ).affirm();
+    }
+
+    @Test
+    void findsByEqualKey() {
+        final Map<String, Integer> map = new WeakKeys<>();
+        map.put(new String(new char[]{'k', 'e', 'y'}), 1);
+        new Assertion<>(
+            "Must find the value by an equal key",
+            map.get("key"),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void keepsNullValues() {
+        final ConcurrentMap<String, Integer> map = new WeakKeys<>();
+        map.put("x", null);
+        new Assertion<>(
+            "Must contain the key with NULL value",
+            map.containsKey("x"),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void putsIfAbsent() {
+        final ConcurrentMap<String, Integer> map = new WeakKeys<>();
+        map.putIfAbsent("a", 1);
+        map.putIfAbsent("a", 2);
+        new Assertion<>(
+            "Must keep the first value",
+            map,
+            new HasEntry<>("a", 1)
+        ).affirm();
+    }
+
+    @Test
+    @SuppressWarnings("PMD.DoNotCallGarbageCollectionExplicitly")
+    void forgetsReclaimedKeys() throws Exception {
+        final Map<Object, Integer> map = new WeakKeys<>();
+        map.put(new Object(), 1);
+        for (int attempt = 0; attempt < 50 && !map.isEmpty(); ++attempt) {
+            System.gc();
+            Thread.sleep(10L);
+        }
+        new Assertion<>(
+            "Must remove the entry when the key is reclaimed",
+            map.isEmpty(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
@@ -4,13 +4,22 @@
  */
 package org.cactoos.proc;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.iterable.Mapped;
 import org.cactoos.list.ListOf;
 import org.cactoos.list.Synced;
 import org.hamcrest.collection.IsIterableContainingInAnyOrder;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link ForEachInThreads}.
@@ -47,4 +56,119 @@ final class ForEachInThreadsTest {
         ).affirm();
     }
 
+    @Test
+    void runsInTheGivenService() throws Exception {
+        final ExecutorService service = Executors.newSingleThreadExecutor(
+            task -> new Thread(task, "given")
+        );
+        final List<String> names = new Synced<>(new ListOf<>());
+        try {
+            new ForEachInThreads<Integer>(
+                input -> names.add(Thread.currentThread().getName()),
+                service
+            ).exec(new ListOf<>(1, 2));
+        } finally {
+            service.shutdown();
+        }
+        new Assertion<>(
+            "Must run the proc in the given service",
+            names,
+            new IsEqual<>(new ListOf<>("given", "given"))
+        ).affirm();
+    }
+
+    @Test
+    void keepsParallelismBounded() throws Exception {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        new ForEachInThreads<Integer>(
+            input -> {
+                max.accumulateAndGet(active.incrementAndGet(), Math::max);
+                Thread.sleep(10L);
+                active.decrementAndGet();
+            },
+            2
+        ).exec(new ListOf<>(1, 2, 3, 4, 5, 6, 7, 8));
+        new Assertion<>(
+            "Must not run more elements at once than allowed",
+            max.get() <= 2,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    void runsBatchInOneThread() throws Exception {
+        final Map<Integer, String> threads = new ConcurrentHashMap<>(0);
+        final ExecutorService service = Executors.newCachedThreadPool();
+        try {
+            new ForEachInThreads<Integer>(
+                input -> threads.put(input, Thread.currentThread().getName()),
+                service,
+                2,
+                2
+            ).exec(new ListOf<>(1, 2, 3, 4));
+        } finally {
+            service.shutdown();
+        }
+        new Assertion<>(
+            "Must process elements of a batch in the same thread",
+            threads.get(3),
+            new IsEqual<>(threads.get(4))
+        ).affirm();
+    }
+
+    @Test
+    void stopsOnFirstFailure() {
+        final AtomicInteger pulled = new AtomicInteger();
+        new Assertion<>(
+            "Must throw the first failure",
+            () -> {
+                new ForEachInThreads<Integer>(
+                    input -> {
+                        throw new IOException("Broken");
+                    },
+                    1
+                ).exec(
+                    new Mapped<>(
+                        input -> pulled.incrementAndGet(),
+                        new ListOf<>(1, 2, 3, 4, 5)
+                    )
+                );
+                return true;
+            },
+            new Throws<>(ExecutionException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must not pull elements after the failure",
+            pulled.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void throwsExecutionExceptionByDefault() {
+        new Assertion<>(
+            "Must wrap the failure as before",
+            () -> {
+                new ForEachInThreads<Integer>(
+                    input -> {
+                        throw new IOException("Failed");
+                    }
+                ).exec(new ListOf<>(1, 2));
+                return true;
+            },
+            new Throws<>(ExecutionException.class)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsZeroParallelism() {
+        new Assertion<>(
+            "Must reject parallelism below one",
+            () -> new ForEachInThreads<Integer>(input -> { }, 0),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
+
 }
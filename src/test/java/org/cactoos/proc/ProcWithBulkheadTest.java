@@ -0,0 +1,35 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.proc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.func.Bulkhead;
+import org.cactoos.list.ListOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link ProcWithBulkhead}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ProcWithBulkheadTest {
+
+    @Test
+    void executesInThreads() throws Exception {
+        final AtomicInteger total = new AtomicInteger();
+        new ForEachInThreads<Integer>(
+            new ProcWithBulkhead<>(total::addAndGet, new Bulkhead(2, 10))
+        ).exec(new ListOf<>(1, 2, 3, 4));
+        new Assertion<>(
+            "Must execute the original proc for all inputs",
+            total.get(),
+            new IsEqual<>(10)
+        ).affirm();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.proc;
+
+import org.cactoos.func.Meter;
+import org.cactoos.list.ListOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
+
+/**
+ * Test case for {@link ProcWithMeter}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ProcWithMeterTest {
+
+    @Test
+    void countsExecutions() throws Exception {
+        final Meter meter = new Meter();
+        new ForEach<Integer>(
+            new ProcWithMeter<>(input -> { }, meter)
+        ).exec(new ListOf<>(1, 2, 3));
+        new Assertion<>(
+            "Must count all executions",
+            meter.value(),
+            new HasEntry<>("calls", 3L)
+        ).affirm();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.proc;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Proc;
+import org.cactoos.func.TokenBucket;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link Throttled}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ThrottledTest {
+
+    @Test
+    void executesWhenTokenIsThere() throws Exception {
+        final AtomicInteger total = new AtomicInteger();
+        new Throttled<Integer>(
+            total::addAndGet,
+            new TokenBucket(2, Duration.ofSeconds(1L))
+        ).exec(5);
+        new Assertion<>(
+            "Must execute the original proc",
+            total.get(),
+            new IsEqual<>(5)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsWhenBucketIsEmpty() throws Exception {
+        final Proc<Integer> proc = new Throttled<>(
+            input -> { },
+            new TokenBucket(1, Duration.ofMinutes(1L)),
+            Duration.ZERO
+        );
+        proc.exec(1);
+        new Assertion<>(
+            "Must reject when the bucket is empty",
+            () -> {
+                proc.exec(2);
+                return true;
+            },
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+}
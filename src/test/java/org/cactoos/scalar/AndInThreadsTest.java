@@ -7,6 +7,7 @@ package org.cactoos.scalar;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Scalar;
 import org.cactoos.func.FuncOf;
 import org.cactoos.iterable.IterableOf;
@@ -20,6 +21,7 @@ import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link AndInThreads}.
@@ -220,4 +222,66 @@ final class AndInThreadsTest {
         ).affirm();
     }
 
+    @Test
+    void cancelsTheRestOnFirstFalse() throws Exception {
+        final Sleeping<Boolean> slow = new Sleeping<>(true);
+        new Assertion<>(
+            "Must return False without waiting for the slow scalar",
+            new AndInThreads(
+                slow,
+                () -> {
+                    slow.started();
+                    return false;
+                }
+            ),
+            new HasValue<>(false)
+        ).affirm();
+        new Assertion<>(
+            "Must interrupt the slow scalar",
+            slow.interrupted(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void keepsGivenWindowOfScalars() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        final ExecutorService service = Executors.newFixedThreadPool(8);
+        try {
+            new AndInThreads(
+                service,
+                2,
+                new Mapped<Scalar<Boolean>>(
+                    item -> () -> {
+                        max.accumulateAndGet(
+                            running.incrementAndGet(), Math::max
+                        );
+                        Thread.sleep(10L);
+                        running.decrementAndGet();
+                        return true;
+                    },
+                    new ListOf<>(1, 2, 3, 4, 5, 6)
+                )
+            ).value();
+        } finally {
+            service.shutdown();
+        }
+        new Assertion<>(
+            "Must run no more scalars at a time than the window",
+            max.get(),
+            Matchers.lessThanOrEqualTo(2)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsEmptyWindow() {
+        new Assertion<>(
+            "Must reject the window below one",
+            () -> new AndInThreads(
+                new ThreadPerTask().value(), 0, new ListOf<>()
+            ),
+            new Throws<>(IllegalArgumentException.class)
+        ).affirm();
+    }
 }
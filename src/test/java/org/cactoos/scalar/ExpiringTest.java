@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+import org.cactoos.func.ManualClock;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Expiring}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ExpiringTest {
+
+    @Test
+    void recalculatesWhenExpired() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final ManualClock clock = new ManualClock();
+        final Scalar<Integer> scalar = new Expiring<>(
+            calls::incrementAndGet, Duration.ofMillis(10L), clock
+        );
+        scalar.value();
+        new Assertion<>(
+            "Must return cached value",
+            scalar.value(),
+            new IsEqual<>(1)
+        ).affirm();
+        clock.advance(10L);
+        new Assertion<>(
+            "Must recalculate expired value",
+            scalar.value(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.RangeOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link InThreads}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class InThreadsTest {
+
+    @Test
+    void keepsWindowOfScalarsInFlight() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger most = new AtomicInteger();
+        new Assertion<>(
+            "Must calculate all scalars",
+            new InThreads(
+                new ThreadPerTask().value(),
+                new Mapped<Scalar<Boolean>>(
+                    idx -> () -> {
+                        most.accumulateAndGet(
+                            running.incrementAndGet(), Math::max
+                        );
+                        Thread.sleep(1L);
+                        running.decrementAndGet();
+                        return true;
+                    },
+                    new RangeOf<>(1, 50, x -> x + 1)
+                ),
+                true,
+                (first, second) -> first && second,
+                result -> !result,
+                3
+            ),
+            new HasValue<>(true)
+        ).affirm();
+        new Assertion<>(
+            "Must not run more scalars than the window at a time",
+            most.get() <= 3,
+            new IsEqual<>(true)
+        ).affirm();
+    }
+}
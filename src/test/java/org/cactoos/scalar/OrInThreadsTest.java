@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.iterable.IterableOf;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link OrInThreads}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class OrInThreadsTest {
+
+    @Test
+    void findsTrue() {
+        new Assertion<>(
+            "Must be True if one object is True",
+            new OrInThreads(new False(), new True(), new False()),
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void allFalse() {
+        new Assertion<>(
+            "Must be False if each object is False",
+            new OrInThreads(new False(), new False()),
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void emptyIterable() {
+        new Assertion<>(
+            "Must be False for an empty iterable",
+            new OrInThreads(new IterableOf<>()),
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    void worksWithService() throws Exception {
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            new Assertion<>(
+                "Must calculate in the given service",
+                new OrInThreads(service, new False(), new True()),
+                new HasValue<>(true)
+            ).affirm();
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void cancelsTheRestOnFirstTrue() throws Exception {
+        final Sleeping<Boolean> slow = new Sleeping<>(false);
+        new Assertion<>(
+            "Must return True without waiting for the slow scalar",
+            new OrInThreads(
+                slow,
+                () -> {
+                    slow.started();
+                    return true;
+                }
+            ),
+            new HasValue<>(true)
+        ).affirm();
+        new Assertion<>(
+            "Must interrupt the slow scalar",
+            slow.interrupted(),
+            new IsEqual<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void failsWithFailedScalar() {
+        new Assertion<>(
+            "Must fail if a scalar fails before the result is known",
+            () -> new OrInThreads(
+                new False(),
+                () -> {
+                    throw new IOException("Broken");
+                }
+            ).value(),
+            new Throws<>(ExecutionException.class)
+        ).affirm();
+    }
+}
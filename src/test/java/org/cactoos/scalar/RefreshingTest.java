@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.Scalar;
+import org.cactoos.func.ManualClock;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+
+/**
+ * Test case for {@link Refreshing}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class RefreshingTest {
+
+    @Test
+    void refreshesInBackground() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final ManualClock clock = new ManualClock();
+        final Scalar<Integer> scalar = new Refreshing<>(
+            calls::incrementAndGet,
+            Duration.ofMillis(10L), Duration.ofMillis(100L),
+            Runnable::run, clock
+        );
+        scalar.value();
+        clock.advance(20L);
+        new Assertion<>(
+            "Must return the stale value",
+            scalar.value(),
+            new IsEqual<>(1)
+        ).affirm();
+        new Assertion<>(
+            "Must return the refreshed value",
+            scalar.value(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void recalculatesExpiredValue() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final ManualClock clock = new ManualClock();
+        final Scalar<Integer> scalar = new Refreshing<>(
+            calls::incrementAndGet,
+            Duration.ofMillis(10L), Duration.ofMillis(100L),
+            Runnable::run, clock
+        );
+        scalar.value();
+        clock.advance(100L);
+        new Assertion<>(
+            "Must recalculate the expired value in place",
+            scalar.value(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+}
@@ -11,6 +11,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.func.ExponentialBackoff;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
@@ -107,4 +108,23 @@ final class RetryTest {
             ).affirm();
         }
     }
+
+    @Test
+    void runsScalarWithBackoff() {
+        final AtomicInteger tries = new AtomicInteger(0);
+        new Assertion<>(
+            "Should retry with the backoff",
+            new Retry<>(
+                () -> {
+                    if (tries.getAndIncrement() < 2) {
+                        throw new IllegalArgumentException("Not yet");
+                    }
+                    return 0;
+                },
+                3,
+                new ExponentialBackoff(Duration.ofMillis(1L))
+            ),
+            new HasValue<>(0)
+        ).affirm();
+    }
 }
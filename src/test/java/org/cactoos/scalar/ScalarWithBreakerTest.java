@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import org.cactoos.Fallback;
+import org.cactoos.func.CircuitBreaker;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link ScalarWithBreaker}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ScalarWithBreakerTest {
+
+    @Test
+    void calculatesWhenClosed() {
+        new Assertion<>(
+            "Must calculate the value",
+            new ScalarWithBreaker<>(
+                () -> "ok",
+                new CircuitBreaker(10, 0.5d, Duration.ofMinutes(1L))
+            ),
+            new HasValue<>("ok")
+        ).affirm();
+    }
+
+    @Test
+    void fallsBackWhenOpen() {
+        final CircuitBreaker breaker = new CircuitBreaker(
+            1, 1.0d, Duration.ofMinutes(1L)
+        );
+        breaker.failed(breaker.permit(), 0L);
+        new Assertion<>(
+            "Must fall back when the breaker is open",
+            new ScalarWithFallback<>(
+                new ScalarWithBreaker<>(() -> "ok", breaker),
+                new Fallback.From<>(
+                    RejectedExecutionException.class,
+                    error -> "fallback"
+                )
+            ),
+            new HasValue<>("fallback")
+        ).affirm();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import org.cactoos.func.Bulkhead;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ScalarWithBulkhead}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ScalarWithBulkheadTest {
+
+    @Test
+    void calculatesWhenThereIsPlace() throws Exception {
+        new Assertion<>(
+            "Must calculate the original scalar",
+            new ScalarWithBulkhead<>(() -> 42, new Bulkhead(1, 0)).value(),
+            new IsEqual<>(42)
+        ).affirm();
+    }
+
+    @Test
+    void rejectsAfterTimeout() throws Exception {
+        final Bulkhead bulkhead = new Bulkhead(1, 1);
+        bulkhead.acquire(Duration.ZERO);
+        new Assertion<>(
+            "Must reject when no place is free in time",
+            new ScalarWithBulkhead<>(
+                () -> 42, bulkhead, Duration.ofMillis(10L)
+            ),
+            new Throws<>(RejectedExecutionException.class)
+        ).affirm();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import org.cactoos.func.Meter;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
+
+/**
+ * Test case for {@link ScalarWithMeter}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ScalarWithMeterTest {
+
+    @Test
+    void countsCalculations() throws Exception {
+        final Meter meter = new Meter();
+        new Assertion<>(
+            "Must return the value of the original scalar",
+            new ScalarWithMeter<>(() -> 42, meter).value(),
+            new IsEqual<>(42)
+        ).affirm();
+        new Assertion<>(
+            "Must count the calculation",
+            meter.value(),
+            new HasEntry<>("calls", 1L)
+        ).affirm();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Scalar;
+
+/**
+ * Scalar, which sleeps for a minute, unless it's interrupted.
+ *
+ * <p>A task, which is cancelled before it starts, is never interrupted.
+ * So make the other tasks wait for {@link #started()} before they let
+ * the slow one be cancelled, and only then check
+ * {@link #interrupted()}.</p>
+ *
+ * @param <T> Type of result
+ * @since 1.0
+ */
+public final class Sleeping<T> implements Scalar<T> {
+
+    /**
+     * The result.
+     */
+    private final T result;
+
+    /**
+     * Counted down when the sleep starts.
+     */
+    private final CountDownLatch start;
+
+    /**
+     * Counted down when the sleep is interrupted.
+     */
+    private final CountDownLatch stop;
+
+    /**
+     * Ctor.
+     * @param result The result, if it's not interrupted
+     */
+    public Sleeping(final T result) {
+        this.result = result;
+        this.start = new CountDownLatch(1);
+        this.stop = new CountDownLatch(1);
+    }
+
+    @Override
+    public T value() throws Exception {
+        this.start.countDown();
+        try {
+            Thread.sleep(TimeUnit.MINUTES.toMillis(1L));
+        } catch (final InterruptedException ex) {
+            this.stop.countDown();
+            throw ex;
+        }
+        return this.result;
+    }
+
+    /**
+     * Wait until it starts sleeping.
+     * @return TRUE if it started in a minute
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public boolean started() throws InterruptedException {
+        return this.start.await(1L, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Wait until its sleep is interrupted.
+     * @return TRUE if it was interrupted in a minute
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public boolean interrupted() throws InterruptedException {
+        return this.stop.await(1L, TimeUnit.MINUTES);
+    }
+}
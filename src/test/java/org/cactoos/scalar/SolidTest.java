@@ -4,14 +4,21 @@
  */
 package org.cactoos.scalar;
 
+import java.io.IOException;
 import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Scalar;
+import org.cactoos.func.ExponentialBackoff;
+import org.cactoos.func.ManualClock;
 import org.cactoos.list.ListOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
 import org.llorllale.cactoos.matchers.HasValue;
 import org.llorllale.cactoos.matchers.RunsInThreads;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link Solid}.
@@ -53,4 +60,110 @@ final class SolidTest {
         ).affirm();
     }
 
+    @Test
+    void cachesNullInThreads() {
+        final AtomicInteger calls = new AtomicInteger();
+        new Assertion<>(
+            "Must give NULL in multiple threads",
+            scalar -> scalar.value() == null,
+            new RunsInThreads<>(
+                new Solid<>(
+                    () -> {
+                        calls.incrementAndGet();
+                        return null;
+                    }
+                )
+            )
+        ).affirm();
+        new Assertion<>(
+            "Must calculate NULL only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void retriesAfterFailureByDefault() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Solid<>(
+            () -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IOException("First time");
+                }
+                return calls.get();
+            }
+        );
+        new Assertion<>(
+            "Must throw the exception of the calculation",
+            scalar,
+            new Throws<>("First time", IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must calculate again after the failure",
+            scalar.value(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void cachesFailureDuringBackoff() {
+        final AtomicInteger calls = new AtomicInteger();
+        final ManualClock clock = new ManualClock();
+        final Scalar<Integer> scalar = new Solid<>(
+            () -> {
+                calls.incrementAndGet();
+                throw new IOException("Broken");
+            },
+            new ExponentialBackoff(Duration.ofSeconds(1L)),
+            clock
+        );
+        for (int idx = 0; idx < 3; ++idx) {
+            new Assertion<>(
+                "Must throw the cached exception",
+                scalar,
+                new Throws<>(IOException.class)
+            ).affirm();
+        }
+        clock.advance(1000L);
+        new Assertion<>(
+            "Must try again after the backoff",
+            scalar,
+            new Throws<>(IOException.class)
+        ).affirm();
+        clock.advance(1000L);
+        new Assertion<>(
+            "Must wait longer after the second failure",
+            scalar,
+            new Throws<>(IOException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must calculate only after every backoff",
+            calls.get(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
+
+    @Test
+    void cachesFailureForever() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Solid<>(
+            () -> {
+                calls.incrementAndGet();
+                throw new IOException("Down");
+            },
+            ChronoUnit.FOREVER.getDuration()
+        );
+        for (int idx = 0; idx < 3; ++idx) {
+            new Assertion<>(
+                "Must throw the cached exception",
+                scalar,
+                new Throws<>("Down", IOException.class)
+            ).affirm();
+        }
+        new Assertion<>(
+            "Must calculate only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
 }
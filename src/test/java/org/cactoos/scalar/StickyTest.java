@@ -5,10 +5,15 @@
 package org.cactoos.scalar;
 
 import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.cactoos.Scalar;
+import org.cactoos.func.CacheStats;
+import org.hamcrest.core.AllOf;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
 import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasEntry;
+import org.llorllale.cactoos.matchers.Throws;
 
 /**
  * Test case for {@link Sticky}.
@@ -30,4 +35,61 @@ final class StickyTest {
         ).affirm();
     }
 
+    @Test
+    void recordsStatistics() throws Exception {
+        final CacheStats stats = new CacheStats.Counters();
+        final Scalar<Integer> scalar = new Sticky<>(() -> 1, stats);
+        scalar.value();
+        scalar.value();
+        scalar.value();
+        new Assertion<>(
+            "Must record one miss and two hits",
+            stats.value(),
+            new AllOf<>(
+                new HasEntry<>("hits", 2L),
+                new HasEntry<>("misses", 1L)
+            )
+        ).affirm();
+    }
+
+    @Test
+    void cachesNull() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Object> scalar = new Sticky<>(
+            () -> {
+                calls.incrementAndGet();
+                return null;
+            }
+        );
+        scalar.value();
+        scalar.value();
+        new Assertion<>(
+            "Must calculate NULL only once",
+            calls.get(),
+            new IsEqual<>(1)
+        ).affirm();
+    }
+
+    @Test
+    void retriesAfterFailure() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final Scalar<Integer> scalar = new Sticky<>(
+            () -> {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IllegalStateException("First time");
+                }
+                return calls.get();
+            }
+        );
+        new Assertion<>(
+            "Must throw the exception of the first calculation",
+            scalar,
+            new Throws<>("First time", IllegalStateException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must calculate again after the failure",
+            scalar.value(),
+            new IsEqual<>(2)
+        ).affirm();
+    }
 }
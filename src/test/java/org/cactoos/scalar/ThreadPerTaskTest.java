@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.ExecutorService;
+import org.cactoos.Scalar;
+import org.cactoos.experimental.Threads;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.iterable.RangeOf;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsSame;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+import org.llorllale.cactoos.matchers.Throws;
+
+/**
+ * Test case for {@link ThreadPerTask}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class ThreadPerTaskTest {
+
+    @Test
+    void sharesTheExecutor() throws Exception {
+        new Assertion<>(
+            "Must give the same executor every time",
+            new ThreadPerTask().value(),
+            new IsSame<>(new ThreadPerTask().value())
+        ).affirm();
+    }
+
+    @Test
+    void runsTasks() throws Exception {
+        final ExecutorService exec = new ThreadPerTask().value();
+        new Assertion<>(
+            "Must run the task",
+            exec.submit(() -> "done").get(),
+            new IsEqual<>("done")
+        ).affirm();
+    }
+
+    @Test
+    void cannotBeShutDown() {
+        final ExecutorService exec = new ThreadPerTask().value();
+        new Assertion<>(
+            "Must not let anyone shut the shared executor down",
+            exec::shutdownNow,
+            new Throws<>(UnsupportedOperationException.class)
+        ).affirm();
+        new Assertion<>(
+            "Must still run tasks after an attempt to shut it down",
+            () -> exec.submit(() -> "alive").get(),
+            new HasValue<>("alive")
+        ).affirm();
+    }
+
+    @Test
+    void runsManyBlockingScalars() throws Exception {
+        new Assertion<>(
+            "Must run all blocking scalars",
+            new AndInThreads(
+                new ThreadPerTask().value(),
+                (Integer input) -> {
+                    Thread.sleep(100L);
+                    return true;
+                },
+                new RangeOf<>(1, ThreadPerTaskTest.tasks(), value -> value + 1)
+            ),
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void collectsManyBlockingResults() {
+        new Assertion<>(
+            "Must collect results of all blocking scalars",
+            new LengthOf(
+                new Threads<>(
+                    new Mapped<Scalar<Integer>>(
+                        idx -> () -> {
+                            Thread.sleep(100L);
+                            return idx;
+                        },
+                        new RangeOf<>(
+                            1, ThreadPerTaskTest.tasks(), value -> value + 1
+                        )
+                    )
+                )
+            ),
+            new HasValue<>((long) ThreadPerTaskTest.tasks())
+        ).affirm();
+    }
+
+    /**
+     * Number of concurrent tasks: virtual threads are available
+     * since Java 21, before that a task takes a platform thread.
+     * @return Number of tasks
+     */
+    private static int tasks() {
+        final int tasks;
+        if (Runtime.version().feature() >= 21) {
+            tasks = 100_000;
+        } else {
+            tasks = 1_000;
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2017-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package org.cactoos.scalar;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.iterable.IterableOf;
+import org.junit.jupiter.api.Test;
+import org.llorllale.cactoos.matchers.Assertion;
+import org.llorllale.cactoos.matchers.HasValue;
+
+/**
+ * Test case for {@link XorInThreads}.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.JUnitTestsShouldIncludeAssert")
+final class XorInThreadsTest {
+
+    @Test
+    void oddNumberOfTrue() {
+        new Assertion<>(
+            "Must be True for an odd number of True",
+            new XorInThreads(new True(), new False(), new True(), new True()),
+            new HasValue<>(true)
+        ).affirm();
+    }
+
+    @Test
+    void evenNumberOfTrue() {
+        new Assertion<>(
+            "Must be False for an even number of True",
+            new XorInThreads(new True(), new True(), new False()),
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    void emptyIterable() {
+        new Assertion<>(
+            "Must be False for an empty iterable",
+            new XorInThreads(new IterableOf<>()),
+            new HasValue<>(false)
+        ).affirm();
+    }
+
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    void worksWithService() throws Exception {
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        try {
+            new Assertion<>(
+                "Must calculate in the given service",
+                new XorInThreads(service, new True(), new True()),
+                new HasValue<>(false)
+            ).affirm();
+        } finally {
+            service.shutdown();
+        }
+    }
+}